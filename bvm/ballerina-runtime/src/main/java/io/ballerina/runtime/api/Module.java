@@ -36,6 +36,8 @@ public class Module {
     private String name;
     private String version;
     private int hashCode;
+    // Used as the key of the module in registries, so it is built only once.
+    private String stringValue;
 
     public Module(String org, String name, String version) {
         this.org = org;
@@ -79,6 +81,15 @@ public class Module {
 
     @Override
     public String toString() {
+        String stringValue = this.stringValue;
+        if (stringValue == null) {
+            stringValue = buildString();
+            this.stringValue = stringValue;
+        }
+        return stringValue;
+    }
+
+    private String buildString() {
         if (DOT.equals(this.name)) {
             return this.name;
         }
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.AbstractObjectValue;
+
+import java.util.Arrays;
+
+/**
+ * A call site which calls a method of Ballerina objects by its name, such as a resource of a service.
+ * <p>
+ * The call site caches the index of the method in the classes of the objects it has called, so that calling the
+ * method again on an object of one of those classes dispatches to the method directly instead of looking it up by its
+ * name. Up to {@value MAX_CACHED_CLASSES} classes are cached. The method is looked up by its name for the objects of
+ * the other classes. A call site should be created once and reused, for example one per resource of a service.
+ *
+ * @since 2.0.0
+ */
+public final class ObjectMethodCallSite {
+
+    private static final int MAX_CACHED_CLASSES = 4;
+    private static final CachedMethod[] EMPTY = new CachedMethod[0];
+
+    private final String methodName;
+    // Replaced as a whole, so that a racing call sees either the old or the new entries.
+    private volatile CachedMethod[] cachedMethods = EMPTY;
+
+    public ObjectMethodCallSite(String methodName) {
+        this.methodName = methodName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Calls the method of the given object.
+     *
+     * @param object object to call the method of
+     * @param strand strand to call the method on
+     * @param args   arguments of the method
+     * @return the return value of the method
+     */
+    public Object call(BObject object, Strand strand, Object... args) {
+        if (object instanceof AbstractObjectValue) {
+            AbstractObjectValue objectValue = (AbstractObjectValue) object;
+            int methodIndex = getMethodIndex(objectValue);
+            if (methodIndex >= 0) {
+                return objectValue.call(strand, methodIndex, args);
+            }
+        }
+        // Reports a missing method the same way as a call by name.
+        return object.call(strand, methodName, args);
+    }
+
+    private int getMethodIndex(AbstractObjectValue objectValue) {
+        Class<?> objectClass = objectValue.getClass();
+        CachedMethod[] cachedMethods = this.cachedMethods;
+        for (CachedMethod cachedMethod : cachedMethods) {
+            if (cachedMethod.objectClass == objectClass) {
+                return cachedMethod.methodIndex;
+            }
+        }
+
+        int methodIndex = objectValue.getMethodIndex(methodName);
+        if (cachedMethods.length < MAX_CACHED_CLASSES) {
+            CachedMethod[] newCachedMethods = Arrays.copyOf(cachedMethods, cachedMethods.length + 1);
+            newCachedMethods[cachedMethods.length] = new CachedMethod(objectClass, methodIndex);
+            this.cachedMethods = newCachedMethods;
+        }
+        return methodIndex;
+    }
+
+    /**
+     * Index of the method in a class of objects.
+     */
+    private static class CachedMethod {
+        private final Class<?> objectClass;
+        private final int methodIndex;
+
+        private CachedMethod(Class<?> objectClass, int methodIndex) {
+            this.objectClass = objectClass;
+            this.methodIndex = methodIndex;
+        }
+    }
+}
@@ -90,4 +90,45 @@ public class Runtime {
         scheduler.schedule(new Object[1], func, null, callback, properties, PredefinedTypes.TYPE_NULL, strandName,
                            metadata);
     }
+
+    /**
+     * Invoke Object method asynchronously through a call site. This will schedule the function and block the strand.
+     *
+     * @param object     Object Value.
+     * @param callSite   Call site of the method, which should be reused for the calls of the same method.
+     * @param strandName Name for newly creating strand which is used to execute the function pointer. This is optional
+     *                   and can be null.
+     * @param metadata   Meta data of new strand.
+     * @param callback   Callback which will get notify once method execution done.
+     * @param args       Ballerina function arguments.
+     * @return the result of the function invocation
+     */
+    public Object invokeMethodAsync(BObject object, ObjectMethodCallSite callSite, String strandName,
+                                    StrandMetadata metadata, Callback callback, Object... args) {
+        Function<?, ?> func = o -> callSite.call(object, (Strand) (((Object[]) o)[0]), args);
+        return scheduler.schedule(new Object[1], func, null, callback, strandName, metadata).result;
+    }
+
+    /**
+     * Invoke Object method asynchronously through a call site. This will schedule the function and block the strand.
+     *
+     * @param object     Object Value.
+     * @param callSite   Call site of the method, which should be reused for the calls of the same method.
+     * @param strandName Name for newly creating strand which is used to execute the function pointer. This is
+     *                   optional and can be null.
+     * @param metadata   Meta data of new strand.
+     * @param callback   Callback which will get notify once method execution done.
+     * @param properties Set of properties for strand
+     * @param args       Ballerina function arguments.
+     */
+    public void invokeMethodAsync(BObject object, ObjectMethodCallSite callSite, String strandName,
+                                  StrandMetadata metadata, Callback callback, Map<String, Object> properties,
+                                  Object... args) {
+        if (object == null) {
+            throw new NullPointerException();
+        }
+        Function<?, ?> func = o -> callSite.call(object, (Strand) (((Object[]) o)[0]), args);
+        scheduler.schedule(new Object[1], func, null, callback, properties, PredefinedTypes.TYPE_NULL, strandName,
+                           metadata);
+    }
 }
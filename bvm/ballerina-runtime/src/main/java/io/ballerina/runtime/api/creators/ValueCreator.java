@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.FunctionType;
 import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.StreamType;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.TupleType;
@@ -66,6 +67,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.xml.namespace.QName;
 
@@ -645,6 +647,29 @@ public class ValueCreator {
         return ValueUtils.createRecordValue(packageId, recordTypeName);
     }
 
+    /**
+     * Create a factory of values of the given record type. The factory should be reused when creating many values of
+     * the same record type, as the record type is resolved only once when the factory is created.
+     *
+     * @param packageId      the package id that the record type resides.
+     * @param recordTypeName name of the record type.
+     * @return factory of values of the record.
+     */
+    public static Supplier<BMap<BString, Object>> createRecordValueFactory(Module packageId, String recordTypeName) {
+        return ValueUtils.createRecordValueFactory(packageId, recordTypeName);
+    }
+
+    /**
+     * Create a record value of the given record type. The factory of values of the record type is resolved once and
+     * cached in the type.
+     *
+     * @param recordType the record type.
+     * @return value of the record.
+     */
+    public static BMap<BString, Object> createRecordValue(RecordType recordType) {
+        return ValueUtils.createRecordValue(recordType);
+    }
+
     /**
      * Create a record value that populates record fields using the given package id, record type name and a map of
      * field names and associated values for fields.
@@ -33,6 +33,33 @@ public class MathUtils {
 
     private static final BString INT_RANGE_OVERFLOW_ERROR = StringUtils.fromString(" int range overflow");
 
+    // The int addition, subtraction and multiplication are compiled to these methods. They are small enough to be
+    // inlined, and the exact operations of Math are intrinsics which check for the overflow after the operation.
+
+    public static long addExact(long lhs, long rhs) {
+        try {
+            return Math.addExact(lhs, rhs);
+        } catch (ArithmeticException e) {
+            throw ErrorCreator.createError(BallerinaErrorReasons.NUMBER_OVERFLOW, INT_RANGE_OVERFLOW_ERROR);
+        }
+    }
+
+    public static long subtractExact(long lhs, long rhs) {
+        try {
+            return Math.subtractExact(lhs, rhs);
+        } catch (ArithmeticException e) {
+            throw ErrorCreator.createError(BallerinaErrorReasons.NUMBER_OVERFLOW, INT_RANGE_OVERFLOW_ERROR);
+        }
+    }
+
+    public static long multiplyExact(long lhs, long rhs) {
+        try {
+            return Math.multiplyExact(lhs, rhs);
+        } catch (ArithmeticException e) {
+            throw ErrorCreator.createError(BallerinaErrorReasons.NUMBER_OVERFLOW, INT_RANGE_OVERFLOW_ERROR);
+        }
+    }
+
     public static long divide(long numerator, long denominator) {
         try {
             if (numerator == Long.MIN_VALUE && denominator == -1) {
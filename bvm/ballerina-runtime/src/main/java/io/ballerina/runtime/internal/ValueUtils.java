@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -28,10 +29,12 @@ import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Class @{@link ValueUtils} provides utils to create Ballerina Values.
@@ -49,10 +52,38 @@ public class ValueUtils {
      */
     public static BMap<BString, Object> createRecordValue(Module packageId, String recordTypeName) {
         io.ballerina.runtime.internal.values.ValueCreator
-                valueCreator = io.ballerina.runtime.internal.values.ValueCreator.getValueCreator(packageId.toString());
+                valueCreator = io.ballerina.runtime.internal.values.ValueCreator.getValueCreator(packageId);
         return valueCreator.createRecordValue(recordTypeName);
     }
 
+    /**
+     * Create a factory of values of the given record type. The record type is resolved when the factory is created,
+     * so that creating a value does not have to look up the module and the record type again.
+     *
+     * @param packageId      the package id that the record type resides.
+     * @param recordTypeName name of the record type.
+     * @return factory of values of the record.
+     */
+    public static Supplier<BMap<BString, Object>> createRecordValueFactory(Module packageId, String recordTypeName) {
+        io.ballerina.runtime.internal.values.ValueCreator
+                valueCreator = io.ballerina.runtime.internal.values.ValueCreator.getValueCreator(packageId);
+        int recordTypeIndex = valueCreator.getRecordTypeIndex(recordTypeName);
+        if (recordTypeIndex < 0) {
+            throw new BallerinaException("No such record type: " + recordTypeName);
+        }
+        return () -> valueCreator.createRecordValue(recordTypeIndex);
+    }
+
+    /**
+     * Create a record value of the given record type, using the factory of values cached in the type.
+     *
+     * @param recordType the record type.
+     * @return value of the record.
+     */
+    public static BMap<BString, Object> createRecordValue(RecordType recordType) {
+        return ((BRecordType) recordType).getRecordValueFactory().get();
+    }
+
     /**
      * Create a record value that populates record fields using the given package id, record type name and a map of
      * field names and associated values for fields.
@@ -111,7 +142,7 @@ public class ValueUtils {
         Strand currentStrand = getStrand();
         // This method duplicates the createObjectValue with referencing the issue in runtime API getting strand
         io.ballerina.runtime.internal.values.ValueCreator
-                valueCreator = io.ballerina.runtime.internal.values.ValueCreator.getValueCreator(packageId.toString());
+                valueCreator = io.ballerina.runtime.internal.values.ValueCreator.getValueCreator(packageId);
         Object[] fields = new Object[fieldValues.length * 2];
 
         // Here the variables are initialized with default values
@@ -37,6 +37,7 @@ import java.util.logging.LogManager;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ARGS_INIT_PREFIX;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ARGS_INIT_PREFIX_LENGTH;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.CDS_TRAINING_RUN_PROPERTY;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.CONFIG_FILE_PROPERTY;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.CONFIG_SEPARATOR;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UTIL_LOGGING_CONFIG_CLASS_PROPERTY;
@@ -104,6 +105,18 @@ public class LaunchUtils {
         listeners.forEach(listener -> listener.afterRunProgram(isService));
     }
 
+    /**
+     * Exits the program if it is a training run. A training run records the classes loaded at startup, to create the
+     * class data sharing archive of the executable. A program without services exits once its modules are
+     * initialized, and a program with services once its modules and listeners are started. The program is halted
+     * rather than exited, so that the shutdown hooks are not run for a program which is cut short.
+     */
+    public static void exitIfTrainingRun() {
+        if (Boolean.getBoolean(CDS_TRAINING_RUN_PROPERTY)) {
+            Runtime.getRuntime().halt(0);
+        }
+    }
+
     /**
      * Initializes the {@link ConfigRegistry} and loads {@link LogManager} configs.
      */
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.launch;
+
+import io.ballerina.runtime.api.launch.LaunchListener;
+import org.ballerinalang.config.ConfigRegistry;
+
+import java.nio.file.Paths;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.PROFILE_OUTPUT_CONFIG;
+
+/**
+ * Listen to Launcher events and start recording the execution profile of the program, if the
+ * {@code b7a.profile.output} configuration names the file to write the profile to.
+ *
+ * @since 2.0.0
+ */
+public class ProfileLaunchListener implements LaunchListener {
+
+    @Override
+    public void beforeRunProgram(boolean service) {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (!configRegistry.isInitialized() || !configRegistry.contains(PROFILE_OUTPUT_CONFIG)) {
+            return;
+        }
+        new ProfileRecorder(Paths.get(configRegistry.getAsString(PROFILE_OUTPUT_CONFIG))).start();
+    }
+
+    @Override
+    public void afterRunProgram(boolean service) {
+        // The profile is written when the program exits, as a service keeps running after this.
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.launch;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BLANG_SRC_FILE_SUFFIX;
+
+/**
+ * Records the functions a program spends its time in, by sampling the stacks of its running threads periodically.
+ * <p>
+ * A Ballerina function is counted once in each sample of a thread it is on the stack of, so the count of a function
+ * includes the time spent in the functions it calls. The profile is written when the program exits, one function per
+ * line, as the count, the name of the class of the function and the name of the function, separated by tabs.
+ * Sampling does not change the code of the program, which runs as it does without the recorder.
+ *
+ * @since 2.0.0
+ */
+class ProfileRecorder implements Runnable {
+
+    private static final PrintStream errStream = System.err;
+    private static final String RECORDER_THREAD_NAME = "ballerina-profile-recorder";
+    private static final long SAMPLING_INTERVAL_MILLIS = 10;
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+    private static final String PROFILE_SEPARATOR = "\t";
+
+    private final Path profilePath;
+    private final Map<String, Long> sampleCounts = new HashMap<>();
+    private Thread recorderThread;
+
+    ProfileRecorder(Path profilePath) {
+        this.profilePath = profilePath;
+    }
+
+    void start() {
+        recorderThread = new Thread(this, RECORDER_THREAD_NAME);
+        recorderThread.setDaemon(true);
+        recorderThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
+    }
+
+    @Override
+    public void run() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        long recorderThreadId = Thread.currentThread().getId();
+        while (!Thread.currentThread().isInterrupted()) {
+            recordSample(threadMXBean, recorderThreadId);
+            try {
+                Thread.sleep(SAMPLING_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void recordSample(ThreadMXBean threadMXBean, long recorderThreadId) {
+        for (ThreadInfo threadInfo : threadMXBean.dumpAllThreads(false, false)) {
+            // Only the running threads are sampled, as a thread waiting for I/O or a lock does not use the CPU.
+            if (threadInfo == null || threadInfo.getThreadId() == recorderThreadId ||
+                    threadInfo.getThreadState() != Thread.State.RUNNABLE) {
+                continue;
+            }
+            recordStack(threadInfo.getStackTrace());
+        }
+    }
+
+    /**
+     * Counts the Ballerina functions on a sampled stack, once each.
+     */
+    void recordStack(StackTraceElement[] stackTrace) {
+        Set<String> functions = new HashSet<>();
+        for (StackTraceElement frame : stackTrace) {
+            String fileName = frame.getFileName();
+            if (fileName != null && fileName.endsWith(BLANG_SRC_FILE_SUFFIX)) {
+                functions.add(frame.getClassName() + PROFILE_SEPARATOR + frame.getMethodName());
+            }
+        }
+        synchronized (sampleCounts) {
+            for (String function : functions) {
+                sampleCounts.merge(function, 1L, Long::sum);
+            }
+        }
+    }
+
+    private void stop() {
+        recorderThread.interrupt();
+        try {
+            recorderThread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeProfile();
+    }
+
+    /**
+     * Writes the recorded counts to the profile, the most sampled function first.
+     */
+    void writeProfile() {
+        List<Map.Entry<String, Long>> entries;
+        synchronized (sampleCounts) {
+            entries = new ArrayList<>(sampleCounts.entrySet());
+        }
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        List<String> lines = new ArrayList<>(entries.size() + 1);
+        lines.add("# samples" + PROFILE_SEPARATOR + "class" + PROFILE_SEPARATOR + "function");
+        for (Map.Entry<String, Long> entry : entries) {
+            lines.add(entry.getValue() + PROFILE_SEPARATOR + entry.getKey());
+        }
+        try {
+            Files.write(profilePath, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            errStream.println("warning: unable to write the profile to '" + profilePath + "': " + e.getMessage());
+        }
+    }
+}
@@ -103,6 +103,15 @@ public class Scheduler {
         return strand;
     }
 
+    /**
+     * Gets the strand running on the current thread.
+     *
+     * @return the current strand, or null if the current thread does not run a strand
+     */
+    public static Strand getCurrentStrand() {
+        return strandHolder.get().strand;
+    }
+
     /**
      * Schedules given function by creating a new strand group.
      *
@@ -27,11 +27,13 @@ import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * {@code BRecordType} represents a user defined record type in Ballerina.
@@ -45,6 +47,8 @@ public class BRecordType extends BStructureType implements RecordType {
     public int typeFlags;
     private final boolean readonly;
     private IntersectionType immutableType;
+    // Resolved on first use, as the value creator of the module is registered when the module is initialized.
+    private volatile Supplier<BMap<BString, Object>> recordValueFactory;
 
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
@@ -84,7 +88,22 @@ public class BRecordType extends BStructureType implements RecordType {
 
     @Override
     public <V extends Object> V getZeroValue() {
-        return (V) ValueCreator.createRecordValue(this.pkg, this.typeName);
+        return (V) getRecordValueFactory().get();
+    }
+
+    /**
+     * Get the factory of values of this record type. The factory is resolved once and cached in the type, so that
+     * creating a value does not look up the module and the record type by their names.
+     *
+     * @return factory of values of this record type
+     */
+    public Supplier<BMap<BString, Object>> getRecordValueFactory() {
+        Supplier<BMap<BString, Object>> recordValueFactory = this.recordValueFactory;
+        if (recordValueFactory == null) {
+            recordValueFactory = ValueCreator.createRecordValueFactory(this.pkg, this.typeName);
+            this.recordValueFactory = recordValueFactory;
+        }
+        return recordValueFactory;
     }
 
     @SuppressWarnings("unchecked")
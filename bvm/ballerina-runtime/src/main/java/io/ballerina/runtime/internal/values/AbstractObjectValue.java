@@ -30,6 +30,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.types.BObjectType;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
@@ -64,6 +65,25 @@ public abstract class AbstractObjectValue implements ObjectValue {
         this.type = type;
     }
 
+    /**
+     * Gets the index of a method of the object, which does not change while the module of the object is loaded.
+     *
+     * @param funcName name of the method
+     * @return index of the method, or -1 if the object does not have a method with the name
+     */
+    public abstract int getMethodIndex(String funcName);
+
+    /**
+     * Calls the method at the given index, as returned by {@link #getMethodIndex(String)}, without looking up the
+     * method by its name.
+     *
+     * @param strand      strand to call the method on
+     * @param methodIndex index of the method
+     * @param args        arguments of the method
+     * @return the return value of the method
+     */
+    public abstract Object call(Strand strand, int methodIndex, Object... args);
+
     @Override
     public void addNativeData(String key, Object data) {
         this.nativeData.put(key, data);
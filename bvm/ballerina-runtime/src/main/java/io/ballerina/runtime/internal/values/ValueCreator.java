@@ -17,6 +17,8 @@
  */
 package io.ballerina.runtime.internal.values;
 
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
@@ -72,15 +74,57 @@ public abstract class ValueCreator {
     }
 
     public static ValueCreator getValueCreator(String key) {
-        if (!runtimeValueCreators.containsKey(key)) {
+        ValueCreator valueCreator = runtimeValueCreators.get(key);
+        if (valueCreator == null) {
             throw new BallerinaException("Value creator object is not available");
         }
 
-        return runtimeValueCreators.get(key);
+        return valueCreator;
+    }
+
+    /**
+     * Gets the value creator of the given module. The lookup key of the module is built only once by the module.
+     *
+     * @param module module of the value creator
+     * @return the value creator of the module
+     */
+    public static ValueCreator getValueCreator(Module module) {
+        return getValueCreator(module.toString());
+    }
+
+    /**
+     * Gets the strand to run the init function of a record type which cannot yield. As such an init function does not
+     * suspend or save frames to the strand it runs on, the strand of the caller is reused if there is one.
+     *
+     * @param metadata metadata of the strand to create if the caller does not run on a strand
+     * @return the strand to run the init function on
+     */
+    public static Strand getRecordInitStrand(StrandMetadata metadata) {
+        Strand strand = Scheduler.getCurrentStrand();
+        if (strand != null) {
+            return strand;
+        }
+        return new Strand(null, metadata, null, null, null);
     }
 
     public abstract MapValue<BString, Object> createRecordValue(String recordTypeName);
 
+    /**
+     * Creates a value of the record type at the given index, as returned by {@link #getRecordTypeIndex(String)}.
+     *
+     * @param recordTypeIndex index of the record type
+     * @return value of the record
+     */
+    public abstract MapValue<BString, Object> createRecordValue(int recordTypeIndex);
+
+    /**
+     * Gets the index of a record type of the module, which does not change while the module is loaded.
+     *
+     * @param recordTypeName name of the record type
+     * @return index of the record type, or -1 if the module does not have a record type with the name
+     */
+    public abstract int getRecordTypeIndex(String recordTypeName);
+
     public abstract BObject createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
                                               Map<String, Object> properties, Object[] args);
 }
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.launch;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for {@link ProfileRecorder}.
+ *
+ * @since 2.0.0
+ */
+public class ProfileRecorderTest {
+
+    private Path profilePath;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        profilePath = Files.createTempFile("profile-recorder", ".prof");
+    }
+
+    @Test(description = "Test that the Ballerina functions on a stack are counted once per sample")
+    public void testRecordedProfile() throws IOException {
+        ProfileRecorder recorder = new ProfileRecorder(profilePath);
+        StackTraceElement fib = new StackTraceElement("demo.main", "fib", "main.bal", 20);
+        StackTraceElement main = new StackTraceElement("demo.main", "main", "main.bal", 10);
+        StackTraceElement strand = new StackTraceElement("io.ballerina.runtime.internal.scheduling.Scheduler",
+                                                         "run", "Scheduler.java", 300);
+        // A recursive function is counted once in a sample, and the Java frames are not counted
+        recorder.recordStack(new StackTraceElement[]{fib, fib, main, strand});
+        recorder.recordStack(new StackTraceElement[]{fib, main, strand});
+        recorder.recordStack(new StackTraceElement[]{main, strand});
+        recorder.recordStack(new StackTraceElement[]{strand});
+        recorder.writeProfile();
+
+        List<String> lines = Files.readAllLines(profilePath, StandardCharsets.UTF_8);
+        Assert.assertEquals(lines, Arrays.asList("# samples\tclass\tfunction", "3\tdemo.main\tmain",
+                                                 "2\tdemo.main\tfib"));
+    }
+
+    @Test(description = "Test the profile of a program which did not run any Ballerina function")
+    public void testEmptyProfile() throws IOException {
+        ProfileRecorder recorder = new ProfileRecorder(profilePath);
+        recorder.writeProfile();
+        Assert.assertEquals(Files.readAllLines(profilePath, StandardCharsets.UTF_8),
+                            Arrays.asList("# samples\tclass\tfunction"));
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(profilePath);
+    }
+}
@@ -32,6 +32,7 @@ import org.ballerinalang.packerina.task.CopyObservabilitySymbolsTask;
 import org.ballerinalang.packerina.task.CopyResourcesTask;
 import org.ballerinalang.packerina.task.CreateBaloTask;
 import org.ballerinalang.packerina.task.CreateBirTask;
+import org.ballerinalang.packerina.task.CreateClassDataArchiveTask;
 import org.ballerinalang.packerina.task.CreateExecutableTask;
 import org.ballerinalang.packerina.task.CreateJarTask;
 import org.ballerinalang.packerina.task.CreateLockFileTask;
@@ -58,6 +59,7 @@ import java.util.HashMap;
 import java.util.List;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
+import static org.ballerinalang.compiler.CompilerOptionName.CODEGEN_CACHE_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
@@ -65,6 +67,7 @@ import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURE
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
 import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROFILE_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
@@ -183,6 +186,15 @@ public class BuildCommand implements BLauncherCmd {
             "JAR file(s).")
     private boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--cds", description = "create a class data sharing archive of the executable JAR " +
+            "file(s) to reduce their startup time.")
+    private boolean classDataSharing;
+
+    @CommandLine.Option(names = "--profile", description = "optimize the executable JAR file(s) for the execution " +
+            "profile in the given file, which is recorded by running the program with " +
+            "--b7a.profile.output=<profile-file>.")
+    private String profile;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -384,6 +396,12 @@ public class BuildCommand implements BLauncherCmd {
         this.sourceRootPath = this.sourceRootPath.normalize();
         sourcePath = sourcePath == null ? null : sourcePath.normalize();
         targetPath = targetPath.normalize();
+        Path profilePath = this.profile == null ? null : Paths.get(this.profile).toAbsolutePath().normalize();
+        if (profilePath != null && !Files.isRegularFile(profilePath)) {
+            CommandUtil.printError(this.errStream, "profile file '" + profilePath + "' does not exist.", null, false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
 
         // create compiler context
         CompilerContext compilerContext = new CompilerContext();
@@ -391,6 +409,7 @@ public class BuildCommand implements BLauncherCmd {
         options.put(PROJECT_DIR, this.sourceRootPath.toString());
         options.put(DUMP_BIR, Boolean.toString(dumpBIR));
         options.put(DUMP_BIR_FILE, dumpBIRFile);
+        options.put(CODEGEN_CACHE_DIR, targetPath.resolve(ProjectDirConstants.CODEGEN_CACHE_DIR_NAME).toString());
         options.put(OFFLINE, Boolean.toString(this.offline));
         options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
         options.put(LOCK_ENABLED, Boolean.toString(!this.skipLock));
@@ -398,6 +417,9 @@ public class BuildCommand implements BLauncherCmd {
         options.put(TEST_ENABLED, Boolean.toString(!this.skipTests));
         options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.toString(this.experimentalFlag));
         options.put(PRESERVE_WHITESPACE, "true");
+        if (profilePath != null) {
+            options.put(PROFILE_FILE, profilePath.toString());
+        }
 
         // create builder context
         BuildContext buildContext = new BuildContext(this.sourceRootPath, targetPath, sourcePath, compilerContext);
@@ -428,6 +450,8 @@ public class BuildCommand implements BLauncherCmd {
                 .addTask(new CreateExecutableTask(), this.compile)  // create the executable.jar
                                                                                         // file
                 .addTask(new CopyExecutableTask(outputPath), !isSingleFileBuild)    // copy executable
+                .addTask(new CreateClassDataArchiveTask(), this.compile || !this.classDataSharing) // create the
+                                                                                // class data sharing archive
                 .addTask(new PrintExecutablePathTask(), this.compile)   // print the location of the executable
                 .addTask(new RunCompilerPluginTask(), this.compile) // run compiler plugins
                 .addTask(new CleanTargetDirTask(), !isSingleFileBuild)  // clean the target dir(single bals only)
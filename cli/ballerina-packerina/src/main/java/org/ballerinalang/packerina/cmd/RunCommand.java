@@ -55,6 +55,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
+import static org.ballerinalang.compiler.CompilerOptionName.CODEGEN_CACHE_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
@@ -264,6 +265,7 @@ public class RunCommand implements BLauncherCmd {
         options.put(OFFLINE, Boolean.toString(this.offline));
         options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
         options.put(DUMP_BIR, Boolean.toString(dumpBIR));
+        options.put(CODEGEN_CACHE_DIR, targetPath.resolve(ProjectDirConstants.CODEGEN_CACHE_DIR_NAME).toString());
         options.put(LOCK_ENABLED, Boolean.toString(true));
         options.put(SKIP_TESTS, Boolean.toString(true));
         options.put(TEST_ENABLED, Boolean.toString(false));
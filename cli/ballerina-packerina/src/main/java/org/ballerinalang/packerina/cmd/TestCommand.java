@@ -161,6 +161,10 @@ public class TestCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--rerun-failed", description = "Rerun failed tests.")
     private boolean rerunTests;
 
+    @CommandLine.Option(names = "--parallelism", description = "Number of workers to run independent tests in " +
+            "parallel.")
+    private int parallelism = 1;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(TEST_COMMAND);
@@ -250,6 +254,15 @@ public class TestCommand implements BLauncherCmd {
             return;
         }
 
+        if (parallelism < 1) {
+            CommandUtil.printError(this.errStream,
+                    "--parallelism should be greater than 0",
+                    "ballerina test --parallelism <workers> <module-name> | -a | --all",
+                    true);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
         if ((listGroups && disableGroupList != null) || (listGroups && groupList != null) ||
                 (listGroups && testList != null)) {
 
@@ -428,7 +441,7 @@ public class TestCommand implements BLauncherCmd {
                 .addTask(new ListTestGroupsTask(), !listGroups) // list the available test groups
                 // run tests
                 .addTask(new RunTestsTask(testReport, coverage, rerunTests, args, groupList, disableGroupList,
-                                testList), listGroups)
+                                testList, parallelism), listGroups)
                 .build();
 
         taskExecutor.executeTasks(buildContext);
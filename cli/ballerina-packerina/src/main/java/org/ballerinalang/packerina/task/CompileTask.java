@@ -27,6 +27,7 @@ import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContex
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
 import org.ballerinalang.packerina.model.DependencyJar;
 import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.bir.codegen.CompiledJarCache;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
@@ -90,6 +91,15 @@ public class CompileTask implements Task {
             }
         }
 
+        // print the statistics of the code generation cache
+        CompiledJarCache compiledJarCache = CompiledJarCache.getInstance(context);
+        if (compiledJarCache.getHitCount() > 0) {
+            buildContext.out().println("\nReused generated code of " + compiledJarCache.getHitCount() + " of " +
+                    (compiledJarCache.getHitCount() + compiledJarCache.getMissCount()) +
+                    " module(s) from the cache, saving " + compiledJarCache.getSavedTime() + "ms");
+        }
+        compiledJarCache.reset();
+
         // update build context.
         buildContext.put(BuildContextField.COMPILER_CONTEXT, context);
     }
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.CDS_TRAINING_RUN_PROPERTY;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BALLERINA_HOME;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Task for creating the class data sharing archives of the executables. This requires the
+ * {@link CreateExecutableTask} and the {@link CopyExecutableTask} to be completed.
+ * <p>
+ * The executable is started once as a training run, which records the classes loaded until the modules are
+ * initialized and exits, before the main function is run or the listeners are started. The recorded classes are then
+ * dumped into an archive with the {@code .jsa} extension next to the executable, which the launcher maps into memory
+ * when the executable is run, instead of loading and verifying the classes again. The JVM uses the archive only if the
+ * executable has not changed since the archive was created, so an archive which could not be created or has become
+ * stale only loses the speedup.
+ *
+ * @since 2.0.0
+ */
+public class CreateClassDataArchiveTask implements Task {
+
+    private static final String CLASS_DATA_ARCHIVE_EXT = ".jsa";
+    private static final String CLASS_LIST_EXT = ".classlist";
+    private static final long TRAINING_RUN_TIMEOUT_SECONDS = 120;
+    private static final long DUMP_TIMEOUT_SECONDS = 300;
+
+    @Override
+    public void execute(BuildContext buildContext) {
+        for (BLangPackage module : buildContext.getModules()) {
+            if (!module.symbol.entryPointExists) {
+                continue;
+            }
+            // The JVM matches the class path of a run against the one the archive was created with, so the
+            // executable is referred by its absolute path, as the launcher does.
+            Path executablePath = buildContext.getExecutablePathFromTarget(module.packageID).toAbsolutePath();
+            try {
+                createArchive(executablePath);
+            } catch (IOException e) {
+                buildContext.err().println("warning: unable to create the class data sharing archive of '" +
+                        executablePath + "': " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static Path getArchivePath(Path executablePath) {
+        String fileName = String.valueOf(executablePath.getFileName());
+        if (fileName.endsWith(BLANG_COMPILED_JAR_EXT)) {
+            fileName = fileName.substring(0, fileName.length() - BLANG_COMPILED_JAR_EXT.length());
+        }
+        return executablePath.resolveSibling(fileName + CLASS_DATA_ARCHIVE_EXT);
+    }
+
+    private static void createArchive(Path executablePath) throws IOException, InterruptedException {
+        Path archivePath = getArchivePath(executablePath);
+        Path classListPath = executablePath.resolveSibling(archivePath.getFileName() + CLASS_LIST_EXT);
+        // A stale archive is removed first, so that it is not left behind if the new one cannot be created.
+        Files.deleteIfExists(archivePath);
+        try {
+            List<String> trainingCommand = getJavaCommand();
+            trainingCommand.add("-XX:DumpLoadedClassList=" + classListPath);
+            trainingCommand.add("-D" + CDS_TRAINING_RUN_PROPERTY + "=true");
+            trainingCommand.add("-jar");
+            trainingCommand.add(executablePath.toString());
+            // A program whose initialization does not complete, e.g. one waiting for input, is stopped after a while.
+            // The classes loaded by then are still archived.
+            runJava(trainingCommand, TRAINING_RUN_TIMEOUT_SECONDS);
+            if (!Files.exists(classListPath)) {
+                throw new IOException("the training run did not record the loaded classes");
+            }
+
+            List<String> dumpCommand = getJavaCommand();
+            dumpCommand.add("-Xshare:dump");
+            dumpCommand.add("-XX:SharedClassListFile=" + classListPath);
+            dumpCommand.add("-XX:SharedArchiveFile=" + archivePath);
+            dumpCommand.add("-cp");
+            dumpCommand.add(executablePath.toString());
+            int exitValue = runJava(dumpCommand, DUMP_TIMEOUT_SECONDS);
+            if (exitValue != 0) {
+                Files.deleteIfExists(archivePath);
+                throw new IOException("dumping the loaded classes failed with the exit code " + exitValue);
+            }
+        } finally {
+            Files.deleteIfExists(classListPath);
+        }
+    }
+
+    /**
+     * Returns the java command with the options the launcher runs executables with, which must be the same for the
+     * runs of the executable and the creation of its archive.
+     */
+    private static List<String> getJavaCommand() throws IOException {
+        List<String> command = new ArrayList<>();
+        String javaCommand = System.getProperty("java.command");
+        if (javaCommand == null) {
+            javaCommand = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        }
+        command.add(javaCommand);
+
+        String ballerinaHome = System.getProperty(BALLERINA_HOME);
+        if (ballerinaHome != null) {
+            command.add("-Xbootclasspath/a:" + getXbootClassPath(Paths.get(ballerinaHome)));
+        }
+        return command;
+    }
+
+    /**
+     * Returns the boot class path the launcher appends, exactly as the launcher builds it. The archive is used only if
+     * the boot class path of a run is the same as the one the archive was created with. On Unix, the launcher appends
+     * each jar with a leading separator, in the byte order of the jar names. On Windows, the launcher does not append
+     * any jar.
+     */
+    static String getXbootClassPath(Path ballerinaHome) throws IOException {
+        if (!File.pathSeparator.equals(":")) {
+            return "";
+        }
+        Path xbootDir = ballerinaHome.resolve("bre").resolve("lib").resolve("bootstrap").resolve("xboot");
+        if (!Files.isDirectory(xbootDir)) {
+            return "";
+        }
+        List<String> jarNames = new ArrayList<>();
+        try (DirectoryStream<Path> jars = Files.newDirectoryStream(xbootDir, "*" + BLANG_COMPILED_JAR_EXT)) {
+            for (Path jar : jars) {
+                String jarName = String.valueOf(jar.getFileName());
+                // The glob of the launcher does not match hidden files
+                if (!jarName.startsWith(".")) {
+                    jarNames.add(jarName);
+                }
+            }
+        }
+        Collections.sort(jarNames);
+        StringBuilder xbootClassPath = new StringBuilder();
+        for (String jarName : jarNames) {
+            xbootClassPath.append(File.pathSeparator).append(xbootDir.resolve(jarName));
+        }
+        return xbootClassPath.toString();
+    }
+
+    private static int runJava(List<String> command, long timeoutSeconds) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        // The program gets no input, so that reading from the standard input does not block.
+        process.getOutputStream().close();
+        if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        return process.exitValue();
+    }
+}
@@ -28,27 +28,50 @@ import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleFileContext;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContext;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
 
 /**
  * Task for creating the executable jar file.
+ * <p>
+ * The dependency jars of an executable, other than the jars of the modules of the project, are merged into a
+ * dependencies layer, which is cached in the target directory against the contents of those jars. When they have not
+ * changed since the previous build, the executable is created by appending the jars of the project modules and the
+ * cached layer to the jar of the module instead of merging all the dependency jars again. The jars of the project
+ * modules are written again by every build, so they are never part of a layer.
  */
 public class CreateExecutableTask implements Task {
 
     private static HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
+    private static final String DEPENDENCIES_LAYER_PREFIX = "dependencies-";
+    private static final int MAX_CACHED_LAYERS = 10;
+    private static final int BUFFER_SIZE = 8192;
 
     @Override
     public void execute(BuildContext buildContext) {
@@ -60,19 +83,62 @@ public class CreateExecutableTask implements Task {
         if (modulesWithEntryPoints.isPresent()) {
             buildContext.out().println();
             buildContext.out().println("Generating executables");
-            for (BLangPackage module : buildContext.getModules()) {
-                if (module.symbol.entryPointExists) {
-                    Path executablePath = buildContext.getExecutablePathFromTarget(module.packageID);
-                    Path jarFromCachePath = buildContext.getJarPathFromTargetCache(module.packageID);
-                    HashSet<Path> dependencies = new HashSet<>(jarResolver.allDependencies(module));
-                    try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
-                            new FileOutputStream(String.valueOf(executablePath))))) {
-                        assembleExecutable(jarFromCachePath, dependencies, outStream);
-                    } catch (IOException e) {
-                        throw createLauncherException("unable to extract the uber jar :" + e.getMessage());
-                    }
-                }
+            Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+            Path layerCacheDir = targetDir.resolve(ProjectDirConstants.EXECUTABLE_CACHE_DIR_NAME);
+            List<BLangPackage> modules = buildContext.getModules().stream()
+                    .filter(module -> module.symbol.entryPointExists)
+                    .collect(Collectors.toList());
+            // Resolve the dependencies first, as the jar resolver is not thread safe. Dependencies are sorted, so that
+            // the same layer is created irrespective of the order they are resolved in.
+            Map<BLangPackage, List<Path>> projectDependencies = new HashMap<>();
+            Map<BLangPackage, List<Path>> layerDependencies = new HashMap<>();
+            for (BLangPackage module : modules) {
+                Path jarFromCachePath = buildContext.getJarPathFromTargetCache(module.packageID);
+                List<Path> dependencies = new ArrayList<>(jarResolver.allDependencies(module));
+                dependencies.remove(jarFromCachePath);
+                dependencies.sort(Comparator.naturalOrder());
+                projectDependencies.put(module, dependencies.stream()
+                        .filter(dependency -> dependency.startsWith(targetDir))
+                        .collect(Collectors.toList()));
+                layerDependencies.put(module, dependencies.stream()
+                        .filter(dependency -> !dependency.startsWith(targetDir))
+                        .collect(Collectors.toList()));
+            }
+
+            Map<Path, String> jarHashes = layerDependencies.values().stream()
+                    .flatMap(List::stream)
+                    .distinct()
+                    .parallel()
+                    .collect(Collectors.toConcurrentMap(Function.identity(), CreateExecutableTask::getContentHash));
+            Map<BLangPackage, Path> moduleLayers = new HashMap<>();
+            Map<Path, List<Path>> layers = new HashMap<>();
+            for (BLangPackage module : modules) {
+                List<Path> dependencies = layerDependencies.get(module);
+                String layerKey = getLayerKey(dependencies, jarHashes);
+                Path layerPath = layerCacheDir.resolve(DEPENDENCIES_LAYER_PREFIX + layerKey +
+                                                               ProjectDirConstants.BLANG_COMPILED_JAR_EXT);
+                // Modules with the same dependencies share the layer, which is created only once.
+                moduleLayers.put(module, layerPath);
+                layers.put(layerPath, dependencies);
             }
+            // The layers are written before the executables are assembled, as that is the slowest part of the task.
+            layers.entrySet().parallelStream()
+                    .forEach(layer -> createDependenciesLayer(layer.getKey(), layer.getValue()));
+
+            // Executables of different modules are independent of each other, so they are assembled in parallel.
+            modules.parallelStream().forEach(module -> {
+                Path executablePath = buildContext.getExecutablePathFromTarget(module.packageID);
+                Path jarFromCachePath = buildContext.getJarPathFromTargetCache(module.packageID);
+                List<Path> dependencies = new ArrayList<>(projectDependencies.get(module));
+                dependencies.add(moduleLayers.get(module));
+                try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
+                        new FileOutputStream(String.valueOf(executablePath))))) {
+                    assembleExecutable(jarFromCachePath, dependencies, outStream);
+                } catch (IOException e) {
+                    throw createLauncherException("unable to extract the uber jar :" + e.getMessage());
+                }
+            });
+            pruneDependenciesLayers(layerCacheDir);
         } else {
             switch (buildContext.getSourceType()) {
                 case SINGLE_BAL_FILE:
@@ -92,7 +158,95 @@ public class CreateExecutableTask implements Task {
         }
     }
 
-    private void assembleExecutable(Path jarFromCachePath, HashSet<Path> dependencySet,
+    /**
+     * Creates the dependencies layer of the given dependencies, if it is not cached already.
+     *
+     * @param layerPath    path of the dependencies layer
+     * @param dependencies dependency jars of the layer
+     */
+    private void createDependenciesLayer(Path layerPath, List<Path> dependencies) {
+        try {
+            if (Files.exists(layerPath)) {
+                // Used to find the least recently used layers when pruning the cache.
+                Files.setLastModifiedTime(layerPath, FileTime.fromMillis(System.currentTimeMillis()));
+                return;
+            }
+
+            Files.createDirectories(layerPath.getParent());
+            // Write to a temporary file first, so that a partially written layer is never used.
+            Path tempLayerPath = Files.createTempFile(layerPath.getParent(), DEPENDENCIES_LAYER_PREFIX, null);
+            try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(tempLayerPath.toFile())))) {
+                assembleExecutable(null, dependencies, outStream);
+            }
+            Files.move(tempLayerPath, layerPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw createLauncherException("unable to create the dependencies of the executable: " + e.getMessage());
+        }
+    }
+
+    private static String getLayerKey(List<Path> dependencies, Map<Path, String> jarHashes) {
+        MessageDigest digest = getDigest();
+        for (Path dependency : dependencies) {
+            digest.update((jarHashes.get(dependency) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return toHexString(digest.digest());
+    }
+
+    private static String getContentHash(Path jarPath) {
+        MessageDigest digest = getDigest();
+        try (InputStream inStream = Files.newInputStream(jarPath)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int len;
+            while ((len = inStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, len);
+            }
+        } catch (IOException e) {
+            throw createLauncherException("unable to read the dependency '" + jarPath + "': " + e.getMessage());
+        }
+        return toHexString(digest.digest());
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw createLauncherException("unable to create the dependencies of the executable: " + e.getMessage());
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : bytes) {
+            hexString.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hexString.toString();
+    }
+
+    /**
+     * Deletes the least recently used dependencies layers, keeping at most {@link #MAX_CACHED_LAYERS} layers.
+     *
+     * @param layerCacheDir directory the layers are cached in
+     */
+    private static void pruneDependenciesLayers(Path layerCacheDir) {
+        if (!Files.isDirectory(layerCacheDir)) {
+            return;
+        }
+        try (Stream<Path> layers = Files.list(layerCacheDir)) {
+            List<File> layerFiles = layers.map(Path::toFile)
+                    .filter(file -> file.getName().startsWith(DEPENDENCIES_LAYER_PREFIX))
+                    .sorted(Comparator.comparingLong(File::lastModified).reversed())
+                    .collect(Collectors.toList());
+            for (File layerFile : layerFiles.subList(Math.min(MAX_CACHED_LAYERS, layerFiles.size()),
+                                                     layerFiles.size())) {
+                Files.deleteIfExists(layerFile.toPath());
+            }
+        } catch (IOException e) {
+            // Failing to prune the cache does not fail the build.
+        }
+    }
+
+    private void assembleExecutable(Path jarFromCachePath, List<Path> dependencies,
                                     ZipArchiveOutputStream outStream) {
         try {
             // Used to prevent adding duplicated entries during the final jar creation.
@@ -103,8 +257,10 @@ public class CreateExecutableTask implements Task {
             // Copy executable thin jar and the dependency jars.
             // Executable is created at given location.
             // If no entry point is found, we do nothing.
-            copyJarToJar(outStream, jarFromCachePath.toString(), entries, serviceEntries);
-            for (Path path : dependencySet) {
+            if (jarFromCachePath != null) {
+                copyJarToJar(outStream, jarFromCachePath.toString(), entries, serviceEntries);
+            }
+            for (Path path : dependencies) {
                 copyJarToJar(outStream, path.toString(), entries, serviceEntries);
             }
             // Copy merged spi services.
@@ -33,7 +33,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_PKG_DEFAULT_VERSION;
@@ -56,6 +58,9 @@ public class CreateJarTask implements Task {
 
         JarFileWriter jarFileWriter = JarFileWriter.getInstance(context);
 
+        // Jars to be written, against the path of the jar. The jars are collected first and written in parallel, as
+        // compressing the class files of each module is independent of the other modules.
+        Map<Path, BPackageSymbol> jarsToWrite = new LinkedHashMap<>();
         List<BLangPackage> moduleBirMap = buildContext.getModules();
         Set<PackageID> alreadyImportedModuleSet = new HashSet<>();
         for (BLangPackage module : moduleBirMap) {
@@ -66,13 +71,13 @@ public class CreateJarTask implements Task {
             }
 
             // write module child imports jars
-            writeImportJar(jarFileWriter, bLangPackage.symbol.imports, sourceRoot, buildContext,
+            writeImportJar(jarsToWrite, bLangPackage.symbol.imports, sourceRoot, buildContext,
                     alreadyImportedModuleSet, balHomePath);
 
             // get the jar path of the module.
             Path jarOutput = buildContext.getJarPathFromTargetCache(module.packageID);
             if (!Files.exists(jarOutput)) {
-                jarFileWriter.write(bLangPackage, jarOutput);
+                jarsToWrite.put(jarOutput, bLangPackage.symbol);
                 alreadyImportedModuleSet.add(module.packageID);
             }
 
@@ -80,22 +85,24 @@ public class CreateJarTask implements Task {
             if (!buildContext.skipTests() && bLangPackage.hasTestablePackage()) {
                 for (BLangPackage testPkg : bLangPackage.getTestablePkgs()) {
                     // write its child imports jar file to cache
-                    writeImportJar(jarFileWriter, testPkg.symbol.imports, sourceRoot, buildContext,
+                    writeImportJar(jarsToWrite, testPkg.symbol.imports, sourceRoot, buildContext,
                             alreadyImportedModuleSet, balHomePath);
 
                     // get the jar path of the module.
                     Path testJarOutput = buildContext.getTestJarPathFromTargetCache(testPkg.packageID);
                     if (!Files.exists(testJarOutput)) {
-                        jarFileWriter.write(testPkg, testJarOutput);
+                        jarsToWrite.put(testJarOutput, testPkg.symbol);
                         alreadyImportedModuleSet.add(testPkg.packageID);
                     }
                 }
             }
         }
+        jarsToWrite.entrySet().parallelStream()
+                .forEach(jar -> jarFileWriter.write(jar.getValue(), jar.getKey()));
         ConfigRegistry.getInstance().setInitialized(false);
     }
 
-    private void writeImportJar(JarFileWriter jarFileWriter, List<BPackageSymbol> imports, Path sourceRoot,
+    private void writeImportJar(Map<Path, BPackageSymbol> jarsToWrite, List<BPackageSymbol> imports, Path sourceRoot,
                                 BuildContext buildContext, Set<PackageID> alreadyImportedModuleSet,
                                 String balHomePath) {
 
@@ -122,10 +129,10 @@ public class CreateJarTask implements Task {
             } else {
                 jarFilePath = buildContext.getJarPathFromHomeCache(id);
             }
-            writeImportJar(jarFileWriter, bimport.imports, sourceRoot, buildContext, alreadyImportedModuleSet,
+            writeImportJar(jarsToWrite, bimport.imports, sourceRoot, buildContext, alreadyImportedModuleSet,
                     balHomePath);
             if (bimport.bir != null) {
-                jarFileWriter.write(bimport, jarFilePath);
+                jarsToWrite.put(jarFilePath, bimport);
             }
         }
     }
@@ -83,6 +83,7 @@ public class RunTestsTask implements Task {
     private boolean isSingleTestExecution;
     private boolean isRerunTestExection;
     private List<String> singleExecTests;
+    private int parallelism = 1;
     TestReport testReport;
     private JarResolver jarResolver;
 
@@ -97,8 +98,9 @@ public class RunTestsTask implements Task {
 
     public RunTestsTask(boolean report, boolean coverage, boolean rerunTests, String[] args,
                         List<String> groupList,
-                        List<String> disableGroupList,  List<String> testList) {
+                        List<String> disableGroupList,  List<String> testList, int parallelism) {
         this.args = args;
+        this.parallelism = parallelism;
         this.report = report;
         this.coverage = coverage;
         this.isSingleTestExecution = false;
@@ -179,6 +181,7 @@ public class RunTestsTask implements Task {
                 continue;
             }
             suite.setReportRequired(report || coverage);
+            suite.setParallelism(parallelism);
             HashSet<Path> testDependencies = new HashSet<>(jarResolver.allTestDependencies(bLangPackage));
             Path jsonPath = buildContext.getTestJsonPathTargetCache(bLangPackage.packageID);
             createTestJson(bLangPackage, suite, sourceRootPath, jsonPath);
@@ -45,8 +45,10 @@ import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -514,6 +516,37 @@ public class BuildCommandTest extends CommandTest {
         readOutput(true);
     }
 
+    @Test(description = "Test that a second build of a project reuses the cached dependencies of the executable")
+    public void testBuildReusesDependenciesLayer() throws IOException {
+        Path projectPath = this.testResources.resolve("stored-jar-dependency-project");
+        Path layerCacheDir = projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.EXECUTABLE_CACHE_DIR_NAME);
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--all", "--skip-tests");
+        buildCommand.execute();
+        readOutput(true);
+        List<Path> layers = getDependenciesLayers(layerCacheDir);
+        Assert.assertEquals(layers.size(), 1);
+        Object layerFileKey = Files.readAttributes(layers.get(0), BasicFileAttributes.class).fileKey();
+
+        buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--all", "--skip-tests");
+        buildCommand.execute();
+        readOutput(true);
+        // The layer is neither written again nor replaced by a layer with a different key.
+        Assert.assertEquals(getDependenciesLayers(layerCacheDir), layers);
+        Assert.assertEquals(Files.readAttributes(layers.get(0), BasicFileAttributes.class).fileKey(), layerFileKey);
+        Assert.assertTrue(Files.exists(projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                                               .resolve(ProjectDirConstants.BIN_DIR_NAME).resolve("mymodule.jar")));
+    }
+
+    private static List<Path> getDependenciesLayers(Path layerCacheDir) throws IOException {
+        try (Stream<Path> paths = Files.list(layerCacheDir)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("dependencies-"))
+                    .collect(Collectors.toList());
+        }
+    }
+
     @Test(dependsOnMethods = {"testBuildCommand"})
     public void testBuildOutput() throws IOException {
         Path bin = this.testResources.resolve("valid-project").resolve(ProjectDirConstants.TARGET_DIR_NAME)
@@ -787,6 +820,42 @@ public class BuildCommandTest extends CommandTest {
         Assert.assertTrue(Files.exists(execJar), "Check if jar gets created");
     }
 
+    @Test(description = "Build a valid ballerina file with a profile file which does not exist")
+    public void testBuildWithNonExistingProfile() throws IOException {
+        Path validBalFilePath = this.testResources.resolve("valid-bal-file");
+        Path profilePath = this.tmpDir.resolve("non-existing.prof").toAbsolutePath().normalize();
+        BuildCommand buildCommand = new BuildCommand(validBalFilePath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--profile", profilePath.toString(), "hello_world.bal");
+        buildCommand.execute();
+
+        String buildLog = readOutput(true);
+        Assert.assertEquals(buildLog.replaceAll("\r", ""), "ballerina: profile file '" + profilePath +
+                                      "' does not exist.\n");
+        Assert.assertFalse(Files.exists(validBalFilePath.resolve("hello_world.jar")));
+    }
+
+    @Test(description = "Build a valid ballerina file with a profile file")
+    public void testBuildWithProfile() throws IOException {
+        Path validBalFilePath = this.testResources.resolve("valid-bal-file");
+        Path profilePath = this.tmpDir.resolve("hello_world.prof");
+        Files.write(profilePath, Collections.singletonList("# samples\tclass\tfunction"));
+        BuildCommand buildCommand = new BuildCommand(validBalFilePath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--profile", profilePath.toString(), "-o", "profiled.jar",
+                                            "hello_world.bal");
+        buildCommand.execute();
+
+        String buildLog = readOutput(true);
+        Assert.assertEquals(buildLog.replaceAll("\r", ""), "Compiling source\n" +
+                                      "\thello_world.bal\n" +
+                                      "\n" +
+                                      "Generating executables\n" +
+                                      "\tprofiled.jar\n");
+        Path execJar = validBalFilePath.resolve("profiled.jar");
+        Assert.assertTrue(Files.exists(execJar), "Check if jar gets created");
+        Files.delete(execJar);
+        Files.delete(profilePath);
+    }
+
     @Test(description = "Test the --skip-tests flag in the build command to ensure it avoids compiling tests")
     public void testBuildWithSkipTests() throws IOException {
         // valid source root path where the project contains test bal files with compilation errors
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.packerina.task;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
+
+/**
+ * Test cases for the boot class path the class data sharing archives are created with.
+ *
+ * @since 2.0.0
+ */
+public class CreateClassDataArchiveTaskTest {
+
+    private Path ballerinaHome;
+    private Path xbootDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        if (!File.pathSeparator.equals(":")) {
+            throw new SkipException("the launcher does not append a boot class path on Windows");
+        }
+        ballerinaHome = Files.createTempDirectory("ballerina-home-");
+        xbootDir = ballerinaHome.resolve("bre").resolve("lib").resolve("bootstrap").resolve("xboot");
+        Files.createDirectories(xbootDir);
+    }
+
+    @Test(description = "Test that the jars are appended in the byte order of their names with leading separators")
+    public void testXbootClassPathOrder() throws IOException {
+        for (String fileName : new String[]{"b.jar", "a.jar", "a-1.jar", "A.jar", ".hidden.jar", "notes.txt"}) {
+            Files.createFile(xbootDir.resolve(fileName));
+        }
+        String expected = ":" + xbootDir.resolve("A.jar") + ":" + xbootDir.resolve("a-1.jar") + ":" +
+                xbootDir.resolve("a.jar") + ":" + xbootDir.resolve("b.jar");
+        Assert.assertEquals(CreateClassDataArchiveTask.getXbootClassPath(ballerinaHome), expected);
+    }
+
+    @Test(description = "Test that the boot class path is empty when there are no boot jars")
+    public void testEmptyXbootClassPath() throws IOException {
+        Assert.assertEquals(CreateClassDataArchiveTask.getXbootClassPath(ballerinaHome.resolve("missing")), "");
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        if (ballerinaHome != null) {
+            deleteDirectory(ballerinaHome);
+        }
+    }
+}
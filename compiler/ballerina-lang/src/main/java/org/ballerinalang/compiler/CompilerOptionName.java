@@ -54,11 +54,15 @@ public enum CompilerOptionName {
 
     DUMP_BIR_FILE("dumpBIRFile"),
 
+    CODEGEN_CACHE_DIR("codeGenCacheDir"),
+
     LOCK_ENABLED("lockEnabled"),
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    PROFILE_FILE("profileFile");
 
     public final String name;
 
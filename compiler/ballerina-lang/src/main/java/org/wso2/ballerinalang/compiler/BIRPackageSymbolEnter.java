@@ -95,7 +95,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -165,7 +164,7 @@ public class BIRPackageSymbolEnter {
                                         RepoHierarchy packageRepositoryHierarchy,
                                         byte[] packageBinaryContent) {
         BPackageSymbol pkgSymbol = definePackage(packageId, packageRepositoryHierarchy,
-                new ByteArrayInputStream(packageBinaryContent));
+                new BIRContentInputStream(packageBinaryContent));
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -179,13 +178,14 @@ public class BIRPackageSymbolEnter {
 
     private BPackageSymbol definePackage(PackageID packageId,
                                          RepoHierarchy packageRepositoryHierarchy,
-                                         InputStream programFileInStream) {
+                                         BIRContentInputStream programFileInStream) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
             this.env.repoHierarchy = packageRepositoryHierarchy;
+            this.env.contentStream = programFileInStream;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -220,9 +220,9 @@ public class BIRPackageSymbolEnter {
 
         PackageCPEntry pkgCpEntry = (PackageCPEntry) this.env.constantPool[pkgCpIndex];
 
-        String orgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String pkgVersion = ((StringCPEntry) this.env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String pkgVersion = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
 
         PackageID pkgId = createPackageID(orgName, pkgName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable, COMPILED_SOURCE);
@@ -270,6 +270,8 @@ public class BIRPackageSymbolEnter {
         int constantPoolSize = dataInStream.readInt();
         CPEntry[] constantPool = new CPEntry[constantPoolSize];
         this.env.constantPool = constantPool;
+        this.env.unparsedStringOffsets = new int[constantPoolSize];
+        this.env.unparsedStringLengths = new int[constantPoolSize];
         for (int i = 0; i < constantPoolSize; i++) {
             byte cpTag = dataInStream.readByte();
             CPEntry.Type cpEntryType = CPEntry.Type.values()[cpTag - 1];
@@ -290,17 +292,20 @@ public class BIRPackageSymbolEnter {
                 return new CPEntry.BooleanCPEntry(dataInStream.readBoolean());
             case CP_ENTRY_STRING:
                 int length = dataInStream.readInt();
-                String strValue = null;
 
                 // If the length of the bytes is -1, that means no UTF value has been written.
                 // i.e: string value represented by the UTF should be null.
                 // Therefore we read the UTF value only if the length >= 0.
-                if (length >= 0) {
-                    byte[] bytes = new byte[length];
-                    dataInStream.read(bytes, 0, length);
-                    strValue = new String(bytes);
+                if (length < 0) {
+                    return new CPEntry.StringCPEntry(null);
                 }
-                return new CPEntry.StringCPEntry(strValue);
+
+                // Most of the strings belong to function bodies, which are not read when defining the symbols.
+                // Hence only the position of the string is recorded here, and the string is decoded on first use.
+                env.unparsedStringOffsets[i] = env.contentStream.getPosition();
+                env.unparsedStringLengths[i] = length;
+                dataInStream.skipBytes(length);
+                return null;
             case CP_ENTRY_PACKAGE:
                 return new CPEntry.PackageCPEntry(dataInStream.readInt(),
                         dataInStream.readInt(), dataInStream.readInt());
@@ -865,12 +870,17 @@ public class BIRPackageSymbolEnter {
     // private utility methods
     private String getStringCPEntryValue(DataInputStream dataInStream) throws IOException {
         int pkgNameCPIndex = dataInStream.readInt();
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[pkgNameCPIndex];
-        return stringCPEntry.value;
+        return getStringCPEntryValue(pkgNameCPIndex);
     }
 
-    private String getStringCPEntryValue(int cpIndex) throws IOException {
+    private String getStringCPEntryValue(int cpIndex) {
         StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[cpIndex];
+        if (stringCPEntry == null) {
+            String value = this.env.contentStream.getString(this.env.unparsedStringOffsets[cpIndex],
+                                                            this.env.unparsedStringLengths[cpIndex]);
+            stringCPEntry = new StringCPEntry(value);
+            this.env.constantPool[cpIndex] = stringCPEntry;
+        }
         return stringCPEntry.value;
     }
 
@@ -911,6 +921,9 @@ public class BIRPackageSymbolEnter {
         PackageID requestedPackageId;
         RepoHierarchy repoHierarchy;
         Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+        BIRContentInputStream contentStream;
+        int[] unparsedStringOffsets;
+        int[] unparsedStringLengths;
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
@@ -920,6 +933,25 @@ public class BIRPackageSymbolEnter {
         }
     }
 
+    /**
+     * Input stream of the binary content of a compiled package, which exposes the position of the next byte to be
+     * read so that entries of the constant pool can be decoded later from the same content.
+     */
+    private static class BIRContentInputStream extends ByteArrayInputStream {
+
+        BIRContentInputStream(byte[] content) {
+            super(content);
+        }
+
+        int getPosition() {
+            return pos;
+        }
+
+        String getString(int offset, int length) {
+            return new String(buf, offset, length);
+        }
+    }
+
     private static class UnresolvedType {
         String typeSig;
         Consumer<BType> completer;
@@ -1418,9 +1450,9 @@ public class BIRPackageSymbolEnter {
 
     private PackageID getPackageId(int pkgCPIndex) {
         PackageCPEntry pkgCpEntry = (PackageCPEntry) env.constantPool[pkgCPIndex];
-        String orgName = ((StringCPEntry) env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String version = ((StringCPEntry) env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String version = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
         return new PackageID(names.fromString(orgName),
                 names.fromString(pkgName), names.fromString(version));
     }
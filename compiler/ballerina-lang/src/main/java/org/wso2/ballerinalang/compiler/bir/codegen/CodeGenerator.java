@@ -21,6 +21,7 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.JarResolver;
 import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
 import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
@@ -66,6 +67,7 @@ public class CodeGenerator {
     private PackageCache packageCache;
     private BLangDiagnosticLog dlog;
     private BIREmitter birEmitter;
+    private CompiledJarCache compiledJarCache;
     private boolean baloGen;
     private CompilerContext compilerContext;
     private boolean skipTests;
@@ -81,6 +83,7 @@ public class CodeGenerator {
         this.packageCache = PackageCache.getInstance(compilerContext);
         this.dlog = BLangDiagnosticLog.getInstance(compilerContext);
         this.birEmitter = BIREmitter.getInstance(compilerContext);
+        this.compiledJarCache = CompiledJarCache.getInstance(compilerContext);
         this.compilerContext = compilerContext;
         CompilerOptions compilerOptions = CompilerOptions.getInstance(compilerContext);
         this.skipTests = getBooleanValueIfSet(compilerOptions, CompilerOptionName.SKIP_TESTS);
@@ -150,6 +153,18 @@ public class CodeGenerator {
         jvmObservabilityGen.instrumentPackage(packageSymbol.bir);
 
         dlog.setCurrentPackageId(packageSymbol.pkgID);
+
+        //Rewrite identiifier names with encoding special characters
+        encodeModuleIdentifiers(packageSymbol.bir, Names.getInstance(this.compilerContext));
+
+        // reuse the jar generated by a previous build, if the module and its imports have not changed since
+        String cacheKey = compiledJarCache.getKey(packageSymbol, moduleDependencies);
+        CompiledJarFile cachedJarFile = compiledJarCache.get(cacheKey);
+        if (cachedJarFile != null) {
+            packageSymbol.compiledJarFile = cachedJarFile;
+            return;
+        }
+
         final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog);
 
         populateExternalMap(jvmPackageGen);
@@ -157,10 +172,12 @@ public class CodeGenerator {
         ClassLoader interopValidationClassLoader = makeClassLoader(moduleDependencies);
         InteropValidator interopValidator = new InteropValidator(interopValidationClassLoader, symbolTable);
 
-        //Rewrite identiifier names with encoding special characters
-        encodeModuleIdentifiers(packageSymbol.bir, Names.getInstance(this.compilerContext));
-
+        long startTime = System.currentTimeMillis();
+        int errorCount = dlog.errorCount();
         packageSymbol.compiledJarFile = jvmPackageGen.generate(packageSymbol.bir, interopValidator, true);
+        if (dlog.errorCount() == errorCount) {
+            compiledJarCache.put(cacheKey, packageSymbol.compiledJarFile, System.currentTimeMillis() - startTime);
+        }
     }
 
     private Set<Path> findDependencies(PackageID packageID) {
@@ -0,0 +1,288 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * A persistent cache of the jars generated for modules, addressed by the content the jars are generated from.
+ * <p>
+ * The key of a module is a digest of the compiler, the serialized BIR of the module, the serialized BIR of all the
+ * modules it imports directly or transitively, and the native dependencies used to validate its interop functions.
+ * A module whose key is found in the cache is not generated again. The cache is enabled by setting the
+ * {@link CompilerOptionName#CODEGEN_CACHE_DIR} compiler option.
+ *
+ * @since 2.0.0
+ */
+public class CompiledJarCache {
+
+    private static final CompilerContext.Key<CompiledJarCache> COMPILED_JAR_CACHE_KEY = new CompilerContext.Key<>();
+    private static final Attributes.Name CODEGEN_TIME = new Attributes.Name("Ballerina-Codegen-Time");
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String COMPILER_ID = getCompilerId();
+
+    private final Path cacheDir;
+    private final Map<BPackageSymbol, byte[]> birDigests = new IdentityHashMap<>();
+    private int hitCount = 0;
+    private int missCount = 0;
+    private long savedTime = 0;
+
+    public static CompiledJarCache getInstance(CompilerContext context) {
+        CompiledJarCache compiledJarCache = context.get(COMPILED_JAR_CACHE_KEY);
+        if (compiledJarCache == null) {
+            compiledJarCache = new CompiledJarCache(context);
+        }
+        return compiledJarCache;
+    }
+
+    private CompiledJarCache(CompilerContext context) {
+        context.put(COMPILED_JAR_CACHE_KEY, this);
+        String cacheDirName = CompilerOptions.getInstance(context).get(CompilerOptionName.CODEGEN_CACHE_DIR);
+        this.cacheDir = cacheDirName == null ? null : Paths.get(cacheDirName);
+    }
+
+    /**
+     * Computes the key of the jar of a module.
+     *
+     * @param packageSymbol      symbol of the module
+     * @param moduleDependencies native dependencies of the module
+     * @return the key, or null if the jar of the module cannot be cached
+     */
+    String getKey(BPackageSymbol packageSymbol, Set<Path> moduleDependencies) {
+        if (cacheDir == null || packageSymbol.birPackageFile == null ||
+                System.getenv("BALLERINA_NATIVE_MAP") != null) {
+            return null;
+        }
+
+        MessageDigest digest = createDigest();
+        digest.update(COMPILER_ID.getBytes(StandardCharsets.UTF_8));
+        digest.update(packageSymbol.pkgID.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update(getBirDigest(packageSymbol));
+
+        List<BPackageSymbol> imports = new ArrayList<>();
+        collectImports(packageSymbol, new HashSet<>(), imports);
+        imports.sort(Comparator.comparing(importSymbol -> importSymbol.pkgID.toString()));
+        for (BPackageSymbol importSymbol : imports) {
+            digest.update(importSymbol.pkgID.toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(getBirDigest(importSymbol));
+        }
+
+        List<Path> dependencies = new ArrayList<>(moduleDependencies);
+        dependencies.sort(Comparator.naturalOrder());
+        for (Path dependency : dependencies) {
+            File file = dependency.toFile();
+            digest.update((file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified())
+                                  .getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Gets the cached jar of the given key.
+     *
+     * @param key key of the jar
+     * @return the cached jar, or null if there is no jar for the key
+     */
+    CompiledJarFile get(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        Path jarPath = cacheDir.resolve(key + ProjectDirConstants.BLANG_COMPILED_JAR_EXT);
+        if (!Files.exists(jarPath)) {
+            missCount++;
+            return null;
+        }
+
+        try (JarInputStream jarInputStream = new JarInputStream(new BufferedInputStream(
+                Files.newInputStream(jarPath)))) {
+            Map<String, byte[]> jarEntries = new HashMap<>();
+            JarEntry entry;
+            while ((entry = jarInputStream.getNextJarEntry()) != null) {
+                jarEntries.put(entry.getName(), readEntry(jarInputStream));
+            }
+
+            Attributes mainAttributes = jarInputStream.getManifest().getMainAttributes();
+            String codegenTime = mainAttributes.getValue(CODEGEN_TIME);
+            hitCount++;
+            savedTime += codegenTime == null ? 0 : Long.parseLong(codegenTime);
+            return new CompiledJarFile(mainAttributes.getValue(Attributes.Name.MAIN_CLASS), jarEntries);
+        } catch (IOException | RuntimeException e) {
+            // A corrupted entry is generated again.
+            missCount++;
+            return null;
+        }
+    }
+
+    /**
+     * Adds a generated jar to the cache.
+     *
+     * @param key             key of the jar
+     * @param compiledJarFile the generated jar
+     * @param codegenTime     time taken to generate the jar, in milliseconds
+     */
+    void put(String key, CompiledJarFile compiledJarFile, long codegenTime) {
+        if (key == null || compiledJarFile.getJarEntries().isEmpty()) {
+            return;
+        }
+
+        Manifest manifest = new Manifest();
+        Attributes mainAttributes = manifest.getMainAttributes();
+        mainAttributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        mainAttributes.put(CODEGEN_TIME, Long.toString(codegenTime));
+        compiledJarFile.getMainClassName().ifPresent(mainClassName ->
+                mainAttributes.put(Attributes.Name.MAIN_CLASS, mainClassName));
+
+        try {
+            Files.createDirectories(cacheDir);
+            // Write to a temporary file first, so that a partially written jar is never read from the cache.
+            Path tempJarPath = Files.createTempFile(cacheDir, key, null);
+            try (JarOutputStream target = new JarOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempJarPath)), manifest)) {
+                for (Map.Entry<String, byte[]> jarEntry : compiledJarFile.getJarEntries().entrySet()) {
+                    target.putNextEntry(new JarEntry(jarEntry.getKey()));
+                    target.write(jarEntry.getValue());
+                    target.closeEntry();
+                }
+            }
+            Files.move(tempJarPath, cacheDir.resolve(key + ProjectDirConstants.BLANG_COMPILED_JAR_EXT),
+                       StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Failing to cache a jar does not fail the build.
+        }
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the time it took to generate the jars which were found in the cache, when they were generated.
+     *
+     * @return the saved time in milliseconds
+     */
+    public long getSavedTime() {
+        return savedTime;
+    }
+
+    /**
+     * Resets the statistics and forgets the digests computed for the modules of the previous build.
+     */
+    public void reset() {
+        birDigests.clear();
+        hitCount = 0;
+        missCount = 0;
+        savedTime = 0;
+    }
+
+    private void collectImports(BPackageSymbol packageSymbol, Set<BPackageSymbol> visited,
+                                List<BPackageSymbol> imports) {
+        for (BPackageSymbol importSymbol : packageSymbol.imports) {
+            if (importSymbol != null && visited.add(importSymbol)) {
+                imports.add(importSymbol);
+                collectImports(importSymbol, visited, imports);
+            }
+        }
+    }
+
+    private byte[] getBirDigest(BPackageSymbol packageSymbol) {
+        if (packageSymbol.birPackageFile == null) {
+            return new byte[0];
+        }
+        return birDigests.computeIfAbsent(packageSymbol,
+                symbol -> createDigest().digest(symbol.birPackageFile.pkgBirBinaryContent));
+    }
+
+    private static byte[] readEntry(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, length);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("unable to create the digest for the code generation cache", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Identifies the compiler, so that jars generated by a different build of the compiler are not reused.
+     */
+    private static String getCompilerId() {
+        String version = System.getProperty(ProjectDirConstants.BALLERINA_VERSION, "");
+        try {
+            File compilerLocation = new File(CompiledJarCache.class.getProtectionDomain().getCodeSource()
+                                                     .getLocation().toURI());
+            return version + ":" + compilerLocation.length() + ":" + compilerLocation.lastModified();
+        } catch (URISyntaxException | RuntimeException e) {
+            return version;
+        }
+    }
+}
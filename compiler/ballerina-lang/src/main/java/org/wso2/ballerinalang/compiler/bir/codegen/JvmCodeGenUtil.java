@@ -44,7 +44,9 @@ import org.wso2.ballerinalang.compiler.util.ResolvedTypeBuilder;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.objectweb.asm.Opcodes.AASTORE;
@@ -74,6 +76,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUTURE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INIT_STRAND_METADATA_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JAVA_PACKAGE_SEPERATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
@@ -212,10 +215,13 @@ public class JvmCodeGenUtil {
         mv.visitEnd();
     }
 
-    static void generateStrandMetadata(MethodVisitor mv, String moduleClass,
+    static void generateStrandMetadata(ClassWriter cw, MethodVisitor mv, String moduleClass,
                                        BIRNode.BIRPackage module, AsyncDataCollector asyncDataCollector) {
-        asyncDataCollector.getStrandMetadata().forEach(
-                (varName, metaData) -> genStrandMetadataField(mv, moduleClass, module, varName, metaData));
+        List<Map.Entry<String, ScheduleFunctionInfo>> strandMetadata =
+                new ArrayList<>(asyncDataCollector.getStrandMetadata().entrySet());
+        MethodSplitter.generateItems(cw, mv, moduleClass, INIT_STRAND_METADATA_METHOD, strandMetadata,
+                (metadataMv, entry) -> genStrandMetadataField(metadataMv, moduleClass, module, entry.getKey(),
+                                                               entry.getValue()));
     }
 
     private static void genStrandMetadataField(MethodVisitor mv, String moduleClass, BIRNode.BIRPackage module,
@@ -238,6 +238,7 @@ public class JvmConstants {
     public static final String JAVA_PACKAGE_SEPERATOR = "/";
     public static final String FILE_NAME_PERIOD_SEPERATOR = "$$$";
     public static final String VALUE_CLASS_PREFIX = "$value$";
+    public static final String TYPES_CLASS_PREFIX = "$types$";
     public static final String TYPEDESC_CLASS_PREFIX = "$typedesc$";
     public static final String BALLERINA = "ballerina";
     public static final String ENCODED_DOT_CHARACTER = "$0046";
@@ -258,8 +259,9 @@ public class JvmConstants {
     public static final String DECIMAL_VALUE_OF_J_METHOD = "valueOfJ";
     public static final String VALUE_OF_METHOD = "valueOf";
     public static final String POPULATE_INITIAL_VALUES_METHOD = "populateInitialValues";
-    public static final String CREATE_TYPES_METHOD = "$createTypes";
     public static final String CREATE_TYPE_INSTANCES_METHOD = "$createTypeInstances";
+    public static final String POPULATE_TYPES_METHOD = "$populateTypes";
+    public static final String INIT_STRAND_METADATA_METHOD = "$initStrandMetadata";
     public static final String GLOBAL_LOCK_NAME = "lock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String LOCK_STORE_VAR_NAME = "$LOCK_STORE";
@@ -272,6 +274,9 @@ public class JvmConstants {
     public static final String SCHEDULER_START_METHOD = "start";
     public static final String CREATE_RECORD_VALUE = "createRecordValue";
     public static final String CREATE_OBJECT_VALUE = "createObjectValue";
+    public static final String GET_RECORD_TYPE_INDEX = "getRecordTypeIndex";
+    public static final String GET_METHOD_INDEX = "getMethodIndex";
+    public static final String GET_RECORD_INIT_STRAND = "getRecordInitStrand";
 
     // strand data related constants
     public static final String STRAND = "strand";
@@ -101,17 +101,14 @@ import static org.objectweb.asm.Opcodes.ISTORE;
 import static org.objectweb.asm.Opcodes.IUSHR;
 import static org.objectweb.asm.Opcodes.IXOR;
 import static org.objectweb.asm.Opcodes.L2I;
-import static org.objectweb.asm.Opcodes.LADD;
 import static org.objectweb.asm.Opcodes.LAND;
 import static org.objectweb.asm.Opcodes.LCMP;
 import static org.objectweb.asm.Opcodes.LLOAD;
-import static org.objectweb.asm.Opcodes.LMUL;
 import static org.objectweb.asm.Opcodes.LNEG;
 import static org.objectweb.asm.Opcodes.LOR;
 import static org.objectweb.asm.Opcodes.LSHL;
 import static org.objectweb.asm.Opcodes.LSHR;
 import static org.objectweb.asm.Opcodes.LSTORE;
-import static org.objectweb.asm.Opcodes.LSUB;
 import static org.objectweb.asm.Opcodes.LUSHR;
 import static org.objectweb.asm.Opcodes.LXOR;
 import static org.objectweb.asm.Opcodes.NEW;
@@ -747,11 +744,11 @@ public class JvmInstructionGen {
         } else if (lhsOpType.tag == TypeTags.BYTE && rhsOpType.tag == TypeTags.BYTE) {
             if (opcode == IFLT) {
                 this.mv.visitJumpInsn(IF_ICMPLT, label1);
-            } else if (opcode != IFGT) {
+            } else if (opcode == IFGT) {
                 this.mv.visitJumpInsn(IF_ICMPGT, label1);
-            } else if (opcode != IFLE) {
+            } else if (opcode == IFLE) {
                 this.mv.visitJumpInsn(IF_ICMPLE, label1);
-            } else if (opcode == IFGE) {
+            } else {
                 this.mv.visitJumpInsn(IF_ICMPGE, label1);
             }
         } else if (lhsOpType.tag == TypeTags.FLOAT && rhsOpType.tag == TypeTags.FLOAT) {
@@ -816,6 +813,11 @@ public class JvmInstructionGen {
                     String.format("(L%s;L%s;)Z", DECIMAL_VALUE, DECIMAL_VALUE), false);
             this.storeToVar(binaryIns.lhsOp.variableDcl);
             return;
+        } else if (TypeTags.isStringTypeTag(lhsOpType.tag) && TypeTags.isStringTypeTag(rhsOpType.tag)) {
+            // strings are never nil, so they are compared directly instead of checking their types at runtime
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, OBJECT, "equals", String.format("(L%s;)Z", OBJECT), false);
+            this.storeToVar(binaryIns.lhsOp.variableDcl);
+            return;
         } else {
             this.mv.visitMethodInsn(INVOKESTATIC, TYPE_CHECKER, "isEqual",
                     String.format("(L%s;L%s;)Z", OBJECT, OBJECT), false);
@@ -857,6 +859,9 @@ public class JvmInstructionGen {
             this.mv.visitMethodInsn(INVOKESTATIC, TYPE_CHECKER, "checkDecimalEqual",
                     String.format("(L%s;L%s;)Z", DECIMAL_VALUE, DECIMAL_VALUE), false);
             this.mv.visitJumpInsn(IFNE, label1);
+        } else if (TypeTags.isStringTypeTag(lhsOpType.tag) && TypeTags.isStringTypeTag(rhsOpType.tag)) {
+            this.mv.visitMethodInsn(INVOKEVIRTUAL, OBJECT, "equals", String.format("(L%s;)Z", OBJECT), false);
+            this.mv.visitJumpInsn(IFNE, label1);
         } else {
             this.mv.visitMethodInsn(INVOKESTATIC, TYPE_CHECKER, "isEqual",
                     String.format("(L%s;L%s;)Z", OBJECT, OBJECT), false);
@@ -974,7 +979,7 @@ public class JvmInstructionGen {
         BType bType = binaryIns.lhsOp.variableDcl.type;
         this.generateBinaryRhsAndLhsLoad(binaryIns);
         if (TypeTags.isIntegerTypeTag(bType.tag)) {
-            this.mv.visitInsn(LADD);
+            this.mv.visitMethodInsn(INVOKESTATIC, MATH_UTILS, "addExact", "(JJ)J", false);
         } else if (bType.tag == TypeTags.BYTE) {
             this.mv.visitInsn(IADD);
         } else if (TypeTags.isStringTypeTag(bType.tag)) {
@@ -1002,7 +1007,7 @@ public class JvmInstructionGen {
         BType bType = binaryIns.lhsOp.variableDcl.type;
         this.generateBinaryRhsAndLhsLoad(binaryIns);
         if (TypeTags.isIntegerTypeTag(bType.tag)) {
-            this.mv.visitInsn(LSUB);
+            this.mv.visitMethodInsn(INVOKESTATIC, MATH_UTILS, "subtractExact", "(JJ)J", false);
         } else if (bType.tag == TypeTags.FLOAT) {
             this.mv.visitInsn(DSUB);
         } else if (bType.tag == TypeTags.DECIMAL) {
@@ -1038,7 +1043,7 @@ public class JvmInstructionGen {
         BType bType = binaryIns.lhsOp.variableDcl.type;
         this.generateBinaryRhsAndLhsLoad(binaryIns);
         if (TypeTags.isIntegerTypeTag(bType.tag)) {
-            this.mv.visitInsn(LMUL);
+            this.mv.visitMethodInsn(INVOKESTATIC, MATH_UTILS, "multiplyExact", "(JJ)J", false);
         } else if (bType.tag == TypeTags.FLOAT) {
             this.mv.visitInsn(DMUL);
         } else if (bType.tag == TypeTags.DECIMAL) {
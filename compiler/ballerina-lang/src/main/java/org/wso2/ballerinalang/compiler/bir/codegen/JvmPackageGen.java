@@ -31,6 +31,7 @@ import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.JavaClass;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.YieldAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.BIRFunctionWrapper;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInteropException;
@@ -113,8 +114,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VA
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CREATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDefaultableBooleanVarsToSignature;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.rewriteRecordInits;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.generateCreateTypesMethod;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.generateUserDefinedTypeFields;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.generateTypeClasses;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.generateValueCreatorMethods;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.isServiceDefAvailable;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
@@ -139,6 +139,7 @@ public class JvmPackageGen {
     private final InitMethodGen initMethodGen;
     private final MainMethodGen mainMethodGen;
     private final LambdaGen lambdaGen;
+    private final YieldAnalyzer yieldAnalyzer;
     private final Map<String, BIRFunctionWrapper> birFunctionMap;
     private final Map<String, String> externClassMap;
     private final Map<String, String> globalVarClassMap;
@@ -159,6 +160,7 @@ public class JvmPackageGen {
         lambdaGen = new LambdaGen(this);
         moduleStopMethodGen = new ModuleStopMethodGen(symbolTable);
         frameClassGen = new FrameClassGen();
+        yieldAnalyzer = new YieldAnalyzer();
         typeBuilder = new ResolvedTypeBuilder();
 
         JvmCastGen.symbolTable = symbolTable;
@@ -264,7 +266,7 @@ public class JvmPackageGen {
             setModuleStatusField(cw, mv, className);
             setCurrentModuleField(cw, mv, module, className);
         }
-        JvmCodeGenUtil.generateStrandMetadata(mv, className, module, asyncDataCollector);
+        JvmCodeGenUtil.generateStrandMetadata(cw, mv, className, module, asyncDataCollector);
         mv.visitInsn(RETURN);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
@@ -470,12 +472,15 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        // find the functions which cannot yield, so that they are generated without frames and yield checks
+        yieldAnalyzer.analyze(module);
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, methodGen, lambdaGen);
         valueGen.generateValueClasses(jarEntries);
 
         // generate frame classes
-        frameClassGen.generateFrameClasses(module, jarEntries);
+        frameClassGen.generateFrameClasses(module, jarEntries, yieldAnalyzer);
 
         // generate module classes
         generateModuleClasses(module, jarEntries, moduleInitClass, jvmClassMapping, flattenedModuleImports);
@@ -499,9 +504,13 @@ public class JvmPackageGen {
             if (isInitClass) {
                 cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, moduleClass, null, VALUE_CREATOR, null);
                 JvmCodeGenUtil.generateDefaultConstructor(cw, VALUE_CREATOR);
-                generateUserDefinedTypeFields(cw, module.typeDefs);
+                Map<String, ClassWriter> typeClasses = generateTypeClasses(cw, module.typeDefs, module,
+                                                                           moduleInitClass, symbolTable);
+                for (Map.Entry<String, ClassWriter> typeClass : typeClasses.entrySet()) {
+                    jarEntries.put(typeClass.getKey() + ".class", getBytes(typeClass.getValue(), module));
+                }
                 generateValueCreatorMethods(cw, module.typeDefs, module, moduleInitClass, symbolTable,
-                                            asyncDataCollector);
+                                            asyncDataCollector, yieldAnalyzer);
                 // populate global variable to class name mapping and generate them
                 for (BIRGlobalVariableDcl globalVar : module.globalVars) {
                     if (globalVar != null) {
@@ -526,7 +535,6 @@ public class JvmPackageGen {
                 initMethodGen.generateLambdaForPackageInits(cw, module, moduleClass, moduleImports);
 
                 generateLockForVariable(cw);
-                generateCreateTypesMethod(cw, module.typeDefs, moduleInitClass, symbolTable);
                 initMethodGen.generateModuleInitializer(cw, module, moduleInitClass);
                 moduleStopMethodGen.generateExecutionStopMethod(cw, moduleInitClass, module, moduleImports,
                                                                 asyncDataCollector);
@@ -809,6 +817,10 @@ public class JvmPackageGen {
         dependentModules.clear();
     }
 
+    public YieldAnalyzer getYieldAnalyzer() {
+        return yieldAnalyzer;
+    }
+
     public BIRFunctionWrapper lookupBIRFunctionWrapper(String lookupKey) {
         return this.birFunctionMap.get(lookupKey);
     }
@@ -27,6 +27,7 @@ import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BIRVarToJVMIndexMap;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.ScheduleFunctionInfo;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.YieldAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
@@ -67,20 +68,33 @@ import org.wso2.ballerinalang.compiler.util.ResolvedTypeBuilder;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Flags;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import static io.ballerina.runtime.internal.IdentifierUtils.decodeIdentifier;
+import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
 import static org.objectweb.asm.Opcodes.AASTORE;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ANEWARRAY;
 import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASM7;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
@@ -89,14 +103,19 @@ import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.ICONST_M1;
 import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFLT;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
+import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.ISTORE;
 import static org.objectweb.asm.Opcodes.L2I;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
@@ -104,6 +123,7 @@ import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.SWAP;
+import static org.objectweb.asm.Opcodes.V1_8;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATION_MAP_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANYDATA_TYPE;
@@ -121,7 +141,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_OBJECT_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_RECORD_VALUE;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_TYPES_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_TYPE_INSTANCES_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DECIMAL_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DECIMAL_VALUE;
@@ -136,6 +155,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUTURE_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUTURE_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_RECORD_INIT_STRAND;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_RECORD_TYPE_INDEX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.HANDLE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INTEGER_TYPE;
@@ -159,6 +180,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PARAMETERIZED_TYPE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.POPULATE_TYPES_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PREDEFINED_TYPES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.READONLY_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.RECORD_TYPE_IMPL;
@@ -181,9 +203,11 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TUPLE_TYP
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPES_CLASS_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPES_ERROR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_ID_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.UNION_TYPE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CREATOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_OF_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.XML_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.XML_TYPE_IMPL;
@@ -203,167 +227,301 @@ public class JvmTypeGen {
     private static ResolvedTypeBuilder typeBuilder = new ResolvedTypeBuilder();
 
     /**
-     * Create static fields to hold the user defined types.
+     * Generate the classes which create the user defined types of the module, and the methods of the module init class
+     * which load them.
+     * <p>
+     * The types are created lazily, when a type is loaded for the first time, instead of when the module is
+     * initialized. The types which refer to each other are created together by the same class, so that the classes
+     * creating the types of a module never depend on each other in a cycle. Otherwise two threads loading two such
+     * types for the first time could wait for each other to initialize the classes.
      *
-     * @param cw       class writer
-     * @param typeDefs array of type definitions
+     * @param cw             class writer of the module init class
+     * @param typeDefs       type definitions of the module
+     * @param module         module
+     * @param typeOwnerClass module init class
+     * @param symbolTable    symbol table
+     * @return class writers of the classes which create the types, against the class names
      */
-    static void generateUserDefinedTypeFields(ClassWriter cw, List<BIRTypeDefinition> typeDefs) {
+    static Map<String, ClassWriter> generateTypeClasses(ClassWriter cw, List<BIRTypeDefinition> typeDefs,
+                                                        BIRNode.BIRPackage module, String typeOwnerClass,
+                                                        SymbolTable symbolTable) {
 
-        String fieldName;
-        // create the type
+        List<BIRTypeDefinition> userDefinedTypeDefs = new ArrayList<>();
+        Map<String, Integer> typeIndexes = new HashMap<>();
         for (BIRTypeDefinition optionalTypeDef : typeDefs) {
-            fieldName = getTypeFieldName(optionalTypeDef.name.value);
             BType bType = optionalTypeDef.type;
             if (bType.tag == TypeTags.RECORD || bType.tag == TypeTags.ERROR || bType.tag == TypeTags.OBJECT) {
-                FieldVisitor fv = cw.visitField(ACC_STATIC + ACC_PUBLIC, fieldName, String.format("L%s;", TYPE), null,
-                                                null);
-                fv.visitEnd();
+                typeIndexes.put(getTypeAccessorName(optionalTypeDef.name.value), userDefinedTypeDefs.size());
+                userDefinedTypeDefs.add(optionalTypeDef);
             }
-            // do not generate anything for other types (e.g.: finite type, unions, etc.)
+            // other types (e.g.: finite type, unions, etc.) are created where they are loaded
         }
-    }
 
-    static void generateCreateTypesMethod(ClassWriter cw, List<BIRTypeDefinition> typeDefs, String typeOwnerClass,
-                                          SymbolTable symbolTable) {
+        // Find the types each type loads while it is created, by generating the code which creates it.
+        List<Set<Integer>> loadedTypes = new ArrayList<>();
+        for (BIRTypeDefinition optionalTypeDef : userDefinedTypeDefs) {
+            TypeLoadCollector collector = new TypeLoadCollector(typeOwnerClass, typeIndexes);
+            createType(collector, optionalTypeDef.type);
+            populateType(collector, optionalTypeDef, typeOwnerClass, symbolTable);
+            loadedTypes.add(collector.loadedTypes);
+        }
 
-        createTypesInstance(cw, typeDefs, typeOwnerClass);
-        List<String> populateTypeFuncNames = populateTypes(cw, typeDefs, typeOwnerClass, symbolTable);
+        Map<String, ClassWriter> typeClasses = new LinkedHashMap<>();
+        for (List<Integer> typeGroup : findTypeGroups(loadedTypes)) {
+            List<BIRTypeDefinition> groupTypeDefs = new ArrayList<>(typeGroup.size());
+            for (int typeIndex : typeGroup) {
+                groupTypeDefs.add(userDefinedTypeDefs.get(typeIndex));
+            }
+            String typesClass = JvmCodeGenUtil.getPackageName(module) + TYPES_CLASS_PREFIX +
+                    groupTypeDefs.get(0).name.value;
+            typeClasses.put(typesClass, generateTypesClass(groupTypeDefs, typesClass, symbolTable));
 
-        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPES_METHOD, "()V", null, null);
-        mv.visitCode();
+            for (BIRTypeDefinition optionalTypeDef : groupTypeDefs) {
+                generateTypeAccessor(cw, optionalTypeDef, typesClass);
+            }
+        }
+        return typeClasses;
+    }
 
-        // Invoke create-type-instances method
-        mv.visitMethodInsn(INVOKESTATIC, typeOwnerClass, CREATE_TYPE_INSTANCES_METHOD, "()V", false);
+    private static ClassWriter generateTypesClass(List<BIRTypeDefinition> typeDefs, String typesClass,
+                                                  SymbolTable symbolTable) {
 
-        // Invoke the populate-type functions
-        for (String funcName : populateTypeFuncNames) {
-            mv.visitMethodInsn(INVOKESTATIC, typeOwnerClass, funcName, "()V", false);
+        ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
+        cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, typesClass, null, OBJECT, null);
+        JvmCodeGenUtil.generateDefaultConstructor(cw, OBJECT);
+
+        for (BIRTypeDefinition optionalTypeDef : typeDefs) {
+            FieldVisitor fv = cw.visitField(ACC_STATIC + ACC_PUBLIC, getTypeFieldName(optionalTypeDef.name.value),
+                                            String.format("L%s;", TYPE), null, null);
+            fv.visitEnd();
         }
 
+        // Create the instances of all the types of the group first, as they may refer to each other. A type of the
+        // group loaded while populating the group is read from its field, as the class is being initialized by the
+        // same thread.
+        MethodVisitor mv = cw.visitMethod(ACC_PRIVATE + ACC_STATIC, CREATE_TYPE_INSTANCES_METHOD, "()V", null, null);
+        mv.visitCode();
+        MethodSplitter.generateItems(cw, mv, typesClass, CREATE_TYPE_INSTANCES_METHOD, typeDefs, (typesMv, typeDef) -> {
+            createType(typesMv, typeDef.type);
+            typesMv.visitFieldInsn(PUTSTATIC, typesClass, getTypeFieldName(typeDef.name.value),
+                                   String.format("L%s;", TYPE));
+        });
         mv.visitInsn(RETURN);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
-    }
-
-    private static void createTypesInstance(ClassWriter cw, List<BIRTypeDefinition> typeDefs, String typeOwnerClass) {
-
-        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPE_INSTANCES_METHOD, "()V", null, null);
-        mv.visitCode();
 
-        // Create the type
-        String fieldName;
+        List<String> populateTypeFuncNames = new ArrayList<>();
         for (BIRTypeDefinition optionalTypeDef : typeDefs) {
-            fieldName = getTypeFieldName(optionalTypeDef.name.value);
-            BType bType = optionalTypeDef.type;
-            if (bType.tag == TypeTags.RECORD) {
-                createRecordType(mv, (BRecordType) bType);
-            } else if (bType.tag == TypeTags.OBJECT) {
-                if (bType instanceof BServiceType) {
-                    createServiceType(mv, (BServiceType) bType);
-                } else {
-                    createObjectType(mv, (BObjectType) bType);
-                }
-            } else if (bType.tag == TypeTags.ERROR) {
-                createErrorType(mv, (BErrorType) bType, bType.tsymbol.name.value);
-            } else {
-                // do not generate anything for other types (e.g.: finite type, unions, etc.)
-                continue;
-            }
+            String methodName = String.format("$populate%s", getTypeFieldName(optionalTypeDef.name.value));
+            populateTypeFuncNames.add(methodName);
 
-            mv.visitFieldInsn(PUTSTATIC, typeOwnerClass, fieldName, String.format("L%s;", TYPE));
+            mv = cw.visitMethod(ACC_PRIVATE + ACC_STATIC, methodName, "()V", null, null);
+            mv.visitCode();
+            populateType(mv, optionalTypeDef, typesClass, symbolTable);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
         }
 
+        mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+        mv.visitCode();
+        mv.visitMethodInsn(INVOKESTATIC, typesClass, CREATE_TYPE_INSTANCES_METHOD, "()V", false);
+        MethodSplitter.generateItems(cw, mv, typesClass, POPULATE_TYPES_METHOD, populateTypeFuncNames,
+                (populateMv, funcName) -> populateMv.visitMethodInsn(INVOKESTATIC, typesClass, funcName, "()V", false));
         mv.visitInsn(RETURN);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
+
+        cw.visitEnd();
+        return cw;
     }
 
-    private static List<String> populateTypes(ClassWriter cw, List<BIRTypeDefinition> typeDefs, String typeOwnerClass,
-                                              SymbolTable symbolTable) {
+    private static void generateTypeAccessor(ClassWriter cw, BIRTypeDefinition typeDef, String typesClass) {
 
-        List<String> funcNames = new ArrayList<>();
-        String fieldName;
-        for (BIRTypeDefinition optionalTypeDef : typeDefs) {
-            BType bType = optionalTypeDef.type;
-            if (!(bType.tag == TypeTags.RECORD || bType.tag == TypeTags.OBJECT || bType.tag == TypeTags.ERROR)) {
-                continue;
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, getTypeAccessorName(typeDef.name.value),
+                                          String.format("()L%s;", TYPE), null, null);
+        mv.visitCode();
+        mv.visitFieldInsn(GETSTATIC, typesClass, getTypeFieldName(typeDef.name.value), String.format("L%s;", TYPE));
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void createType(MethodVisitor mv, BType bType) {
+
+        if (bType.tag == TypeTags.RECORD) {
+            createRecordType(mv, (BRecordType) bType);
+        } else if (bType.tag == TypeTags.OBJECT) {
+            if (bType instanceof BServiceType) {
+                createServiceType(mv, (BServiceType) bType);
+            } else {
+                createObjectType(mv, (BObjectType) bType);
             }
+        } else {
+            createErrorType(mv, (BErrorType) bType, bType.tsymbol.name.value);
+        }
+    }
 
-            fieldName = getTypeFieldName(optionalTypeDef.name.value);
-            String methodName = String.format("$populate%s", fieldName);
-            funcNames.add(methodName);
+    private static void populateType(MethodVisitor mv, BIRTypeDefinition typeDef, String typesClass,
+                                     SymbolTable symbolTable) {
 
-            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, methodName, "()V", null, null);
-            mv.visitCode();
-            mv.visitFieldInsn(GETSTATIC, typeOwnerClass, fieldName, String.format("L%s;", TYPE));
+        BType bType = typeDef.type;
+        mv.visitFieldInsn(GETSTATIC, typesClass, getTypeFieldName(typeDef.name.value), String.format("L%s;", TYPE));
 
-            BIRVarToJVMIndexMap indexMap = new BIRVarToJVMIndexMap();
-            switch (bType.tag) {
-                case TypeTags.RECORD:
-                    BRecordType recordType = (BRecordType) bType;
-                    mv.visitTypeInsn(CHECKCAST, RECORD_TYPE_IMPL);
+        BIRVarToJVMIndexMap indexMap = new BIRVarToJVMIndexMap();
+        switch (bType.tag) {
+            case TypeTags.RECORD:
+                BRecordType recordType = (BRecordType) bType;
+                mv.visitTypeInsn(CHECKCAST, RECORD_TYPE_IMPL);
+                mv.visitInsn(DUP);
+                mv.visitInsn(DUP);
+                addRecordFields(mv, recordType.fields);
+                addRecordRestField(mv, recordType.restFieldType);
+                addImmutableType(mv, recordType);
+                break;
+            case TypeTags.OBJECT:
+                if (bType instanceof BServiceType) {
+                    BServiceType serviceType = (BServiceType) bType;
+                    mv.visitTypeInsn(CHECKCAST, OBJECT_TYPE_IMPL);
                     mv.visitInsn(DUP);
+                    addObjectFields(mv, serviceType.fields);
+                    addObjectAttachedFunctions(mv, ((BObjectTypeSymbol) serviceType.tsymbol).attachedFuncs,
+                            serviceType, indexMap, symbolTable);
+                } else {
+                    BObjectType objectType = (BObjectType) bType;
+                    mv.visitTypeInsn(CHECKCAST, OBJECT_TYPE_IMPL);
                     mv.visitInsn(DUP);
-                    addRecordFields(mv, recordType.fields);
-                    addRecordRestField(mv, recordType.restFieldType);
-                    addImmutableType(mv, recordType);
-                    break;
-                case TypeTags.OBJECT:
-                    if (bType instanceof BServiceType) {
-                        BServiceType serviceType = (BServiceType) bType;
-                        mv.visitTypeInsn(CHECKCAST, OBJECT_TYPE_IMPL);
-                        mv.visitInsn(DUP);
-                        addObjectFields(mv, serviceType.fields);
-                        addObjectAttachedFunctions(mv, ((BObjectTypeSymbol) serviceType.tsymbol).attachedFuncs,
-                                serviceType, indexMap, symbolTable);
-                    } else {
-                        BObjectType objectType = (BObjectType) bType;
-                        mv.visitTypeInsn(CHECKCAST, OBJECT_TYPE_IMPL);
-                        mv.visitInsn(DUP);
-                        mv.visitInsn(DUP);
-                        addObjectFields(mv, objectType.fields);
-                        BObjectTypeSymbol objectTypeSymbol = (BObjectTypeSymbol) objectType.tsymbol;
-                        addObjectInitFunction(mv, objectTypeSymbol.generatedInitializerFunc, objectType, indexMap,
-                                "$init$", "setGeneratedInitializer", symbolTable);
-                        addObjectInitFunction(mv, objectTypeSymbol.initializerFunc, objectType, indexMap, "init",
-                                "setInitializer", symbolTable);
-                        addObjectAttachedFunctions(mv, objectTypeSymbol.attachedFuncs, objectType, indexMap,
-                                symbolTable);
-                        addImmutableType(mv, objectType);
-                    }
-                    BTypeIdSet objTypeIdSet = ((BObjectType) bType).typeIdSet;
-                    if (!objTypeIdSet.isEmpty()) {
-                        mv.visitInsn(DUP);
-                        loadTypeIdSet(mv, objTypeIdSet);
-                        mv.visitMethodInsn(INVOKEVIRTUAL, OBJECT_TYPE_IMPL, SET_TYPEID_SET_METHOD,
-                                           String.format("(L%s;)V", TYPE_ID_SET), false);
-                    }
-                    break;
-                case TypeTags.ERROR:
-                    // populate detail field
-                    mv.visitTypeInsn(CHECKCAST, ERROR_TYPE_IMPL);
                     mv.visitInsn(DUP);
+                    addObjectFields(mv, objectType.fields);
+                    BObjectTypeSymbol objectTypeSymbol = (BObjectTypeSymbol) objectType.tsymbol;
+                    addObjectInitFunction(mv, objectTypeSymbol.generatedInitializerFunc, objectType, indexMap,
+                            "$init$", "setGeneratedInitializer", symbolTable);
+                    addObjectInitFunction(mv, objectTypeSymbol.initializerFunc, objectType, indexMap, "init",
+                            "setInitializer", symbolTable);
+                    addObjectAttachedFunctions(mv, objectTypeSymbol.attachedFuncs, objectType, indexMap,
+                            symbolTable);
+                    addImmutableType(mv, objectType);
+                }
+                BTypeIdSet objTypeIdSet = ((BObjectType) bType).typeIdSet;
+                if (!objTypeIdSet.isEmpty()) {
+                    mv.visitInsn(DUP);
+                    loadTypeIdSet(mv, objTypeIdSet);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, OBJECT_TYPE_IMPL, SET_TYPEID_SET_METHOD,
+                                       String.format("(L%s;)V", TYPE_ID_SET), false);
+                }
+                break;
+            case TypeTags.ERROR:
+                // populate detail field
+                mv.visitTypeInsn(CHECKCAST, ERROR_TYPE_IMPL);
+                mv.visitInsn(DUP);
+                mv.visitInsn(DUP);
+                loadType(mv, ((BErrorType) bType).detailType);
+                mv.visitMethodInsn(INVOKEVIRTUAL, ERROR_TYPE_IMPL, SET_DETAIL_TYPE_METHOD,
+                                   String.format("(L%s;)V", TYPE), false);
+                BTypeIdSet typeIdSet = ((BErrorType) bType).typeIdSet;
+                if (!typeIdSet.isEmpty()) {
                     mv.visitInsn(DUP);
-                    loadType(mv, ((BErrorType) bType).detailType);
-                    mv.visitMethodInsn(INVOKEVIRTUAL, ERROR_TYPE_IMPL, SET_DETAIL_TYPE_METHOD,
-                                       String.format("(L%s;)V", TYPE), false);
-                    BTypeIdSet typeIdSet = ((BErrorType) bType).typeIdSet;
-                    if (!typeIdSet.isEmpty()) {
-                        mv.visitInsn(DUP);
-                        loadTypeIdSet(mv, typeIdSet);
-                        mv.visitMethodInsn(INVOKEVIRTUAL, ERROR_TYPE_IMPL, SET_TYPEID_SET_METHOD,
-                                           String.format("(L%s;)V", TYPE_ID_SET), false);
+                    loadTypeIdSet(mv, typeIdSet);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, ERROR_TYPE_IMPL, SET_TYPEID_SET_METHOD,
+                                       String.format("(L%s;)V", TYPE_ID_SET), false);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Group the types into the strongly connected components of the graph of types loaded while creating each type,
+     * using Tarjan's algorithm. The groups are returned in the order they have to be created, i.e. a group comes
+     * after all the groups its types load.
+     *
+     * @param loadedTypes indexes of the types loaded while creating each type
+     * @return groups of type indexes
+     */
+    static List<List<Integer>> findTypeGroups(List<Set<Integer>> loadedTypes) {
+
+        int typeCount = loadedTypes.size();
+        int[] indexes = new int[typeCount];
+        int[] lowLinks = new int[typeCount];
+        boolean[] onStack = new boolean[typeCount];
+        Arrays.fill(indexes, -1);
+        Deque<Integer> stack = new ArrayDeque<>();
+        List<List<Integer>> groups = new ArrayList<>();
+        int nextIndex = 0;
+
+        // The depth first search is done with an explicit stack, as modules may have long chains of types.
+        Deque<Iterator<Integer>> iterators = new ArrayDeque<>();
+        Deque<Integer> path = new ArrayDeque<>();
+        for (int root = 0; root < typeCount; root++) {
+            if (indexes[root] != -1) {
+                continue;
+            }
+            indexes[root] = lowLinks[root] = nextIndex++;
+            stack.push(root);
+            onStack[root] = true;
+            path.push(root);
+            iterators.push(loadedTypes.get(root).iterator());
+
+            while (!path.isEmpty()) {
+                int type = path.peek();
+                Iterator<Integer> iterator = iterators.peek();
+                if (iterator.hasNext()) {
+                    int loadedType = iterator.next();
+                    if (indexes[loadedType] == -1) {
+                        indexes[loadedType] = lowLinks[loadedType] = nextIndex++;
+                        stack.push(loadedType);
+                        onStack[loadedType] = true;
+                        path.push(loadedType);
+                        iterators.push(loadedTypes.get(loadedType).iterator());
+                    } else if (onStack[loadedType]) {
+                        lowLinks[type] = Math.min(lowLinks[type], indexes[loadedType]);
                     }
-                    break;
+                    continue;
+                }
+
+                path.pop();
+                iterators.pop();
+                if (!path.isEmpty()) {
+                    int parent = path.peek();
+                    lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[type]);
+                }
+                if (lowLinks[type] == indexes[type]) {
+                    List<Integer> group = new ArrayList<>();
+                    int member;
+                    do {
+                        member = stack.pop();
+                        onStack[member] = false;
+                        group.add(member);
+                    } while (member != type);
+                    // Keep the order of the type definitions within the group
+                    Collections.sort(group);
+                    groups.add(group);
+                }
             }
+        }
+        return groups;
+    }
 
-            mv.visitInsn(RETURN);
-            mv.visitMaxs(0, 0);
-            mv.visitEnd();
+    /**
+     * Collects the types of the module which are loaded by the generated code, without generating any code.
+     */
+    private static class TypeLoadCollector extends MethodVisitor {
+
+        private final String typeOwnerClass;
+        private final Map<String, Integer> typeIndexes;
+        private final Set<Integer> loadedTypes = new LinkedHashSet<>();
+
+        TypeLoadCollector(String typeOwnerClass, Map<String, Integer> typeIndexes) {
+            super(ASM7);
+            this.typeOwnerClass = typeOwnerClass;
+            this.typeIndexes = typeIndexes;
         }
 
-        return funcNames;
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            if (opcode == INVOKESTATIC && typeOwnerClass.equals(owner) && typeIndexes.containsKey(name)) {
+                loadedTypes.add(typeIndexes.get(name));
+            }
+        }
     }
 
     private static void addImmutableType(MethodVisitor mv, BStructureType structureType) {
@@ -464,7 +622,8 @@ public class JvmTypeGen {
 
     static void generateValueCreatorMethods(ClassWriter cw, List<BIRTypeDefinition> typeDefs,
                                             BIRNode.BIRPackage moduleId, String typeOwnerClass,
-                                            SymbolTable symbolTable, AsyncDataCollector asyncDataCollector) {
+                                            SymbolTable symbolTable, AsyncDataCollector asyncDataCollector,
+                                            YieldAnalyzer yieldAnalyzer) {
 
         List<BIRTypeDefinition> recordTypeDefs = new ArrayList<>();
         List<BIRTypeDefinition> objectTypeDefs = new ArrayList<>();
@@ -488,68 +647,232 @@ public class JvmTypeGen {
             }
         }
 
-        generateRecordValueCreateMethod(cw, recordTypeDefs, moduleId, typeOwnerClass, asyncDataCollector);
+        generateRecordValueCreateMethods(cw, recordTypeDefs, moduleId, typeOwnerClass, asyncDataCollector,
+                                         yieldAnalyzer);
         generateObjectValueCreateMethod(cw, objectTypeDefs, moduleId, typeOwnerClass, symbolTable,
                                         asyncDataCollector);
     }
 
-    private static void generateRecordValueCreateMethod(ClassWriter cw, List<BIRTypeDefinition> recordTypeDefs,
-                                                        BIRNode.BIRPackage moduleId, String typeOwnerClass,
-                                                        AsyncDataCollector asyncDataCollector) {
+    private static void generateRecordValueCreateMethods(ClassWriter cw, List<BIRTypeDefinition> recordTypeDefs,
+                                                         BIRNode.BIRPackage moduleId, String typeOwnerClass,
+                                                         AsyncDataCollector asyncDataCollector,
+                                                         YieldAnalyzer yieldAnalyzer) {
+        // sort the fields before generating switch case. The index of a record type is its index in this order.
+        recordTypeDefs.sort(NAME_HASH_COMPARATOR);
+
+        generateRecordTypeIndexMethod(cw, recordTypeDefs, typeOwnerClass);
+        generateRecordValueCreateMethod(cw);
+        generateRecordValueCreateByIndexMethod(cw, recordTypeDefs, moduleId, typeOwnerClass, asyncDataCollector,
+                                               yieldAnalyzer);
+    }
+
+    private static void generateRecordTypeIndexMethod(ClassWriter cw, List<BIRTypeDefinition> recordTypeDefs,
+                                                      String typeOwnerClass) {
+        String desc = String.format("(L%s;)I", STRING_VALUE);
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, GET_RECORD_TYPE_INDEX, desc, null, null);
+        mv.visitCode();
+
+        int fieldNameRegIndex = 1;
+        MethodSplitter.generateSwitch(cw, mv, ACC_PUBLIC, typeOwnerClass, GET_RECORD_TYPE_INDEX, desc,
+                                      getNameHashCodes(recordTypeDefs), new MethodSplitter.SwitchGen() {
+            @Override
+            public void loadKey(MethodVisitor switchMv) {
+                switchMv.visitVarInsn(ALOAD, fieldNameRegIndex);
+                switchMv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, "hashCode", "()I", false);
+            }
+
+            @Override
+            public void generateCases(MethodVisitor switchMv, int from, int to) {
+                generateRecordTypeIndexCases(switchMv, recordTypeDefs, from, to, fieldNameRegIndex);
+            }
+        });
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateRecordTypeIndexCases(MethodVisitor mv, List<BIRTypeDefinition> recordTypeDefs,
+                                                     int from, int to, int fieldNameRegIndex) {
+        Label defaultCaseLabel = new Label();
+        List<BIRTypeDefinition> caseTypeDefs = recordTypeDefs.subList(from, to);
+        List<Label> labels = createLabelsForSwitch(mv, fieldNameRegIndex, caseTypeDefs, defaultCaseLabel);
+        List<Label> targetLabels = createLabelsForEqualCheck(mv, fieldNameRegIndex, caseTypeDefs, labels,
+                defaultCaseLabel);
+
+        for (int i = 0; i < targetLabels.size(); i++) {
+            mv.visitLabel(targetLabels.get(i));
+            mv.visitLdcInsn(from + i);
+            mv.visitInsn(IRETURN);
+        }
+
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitInsn(ICONST_M1);
+        mv.visitInsn(IRETURN);
+    }
+
+    private static int[] getNameHashCodes(List<BIRTypeDefinition> typeDefs) {
+        int[] hashCodes = new int[typeDefs.size()];
+        for (int i = 0; i < hashCodes.length; i++) {
+            hashCodes[i] = typeDefs.get(i).name.value.hashCode();
+        }
+        return hashCodes;
+    }
+
+    private static void generateRecordValueCreateMethod(ClassWriter cw) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_RECORD_VALUE,
                 String.format("(L%s;)L%s;", STRING_VALUE, MAP_VALUE),
                 String.format("(L%s;)L%s<L%s;L%s;>;", STRING_VALUE, MAP_VALUE, STRING_VALUE, OBJECT), null);
-
         mv.visitCode();
 
         int fieldNameRegIndex = 1;
+        int indexRegIndex = 2;
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, fieldNameRegIndex);
+        mv.visitMethodInsn(INVOKEVIRTUAL, VALUE_CREATOR, GET_RECORD_TYPE_INDEX,
+                           String.format("(L%s;)I", STRING_VALUE), false);
+        mv.visitVarInsn(ISTORE, indexRegIndex);
+        mv.visitVarInsn(ILOAD, indexRegIndex);
         Label defaultCaseLabel = new Label();
+        mv.visitJumpInsn(IFLT, defaultCaseLabel);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ILOAD, indexRegIndex);
+        mv.visitMethodInsn(INVOKEVIRTUAL, VALUE_CREATOR, CREATE_RECORD_VALUE, String.format("(I)L%s;", MAP_VALUE),
+                           false);
+        mv.visitInsn(ARETURN);
 
-        // sort the fields before generating switch case
-        recordTypeDefs.sort(NAME_HASH_COMPARATOR);
+        createDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
 
-        List<Label> labels = createLabelsForSwitch(mv, fieldNameRegIndex, recordTypeDefs, defaultCaseLabel);
-        List<Label> targetLabels = createLabelsForEqualCheck(mv, fieldNameRegIndex, recordTypeDefs, labels,
-                defaultCaseLabel);
+    private static void generateRecordValueCreateByIndexMethod(ClassWriter cw, List<BIRTypeDefinition> recordTypeDefs,
+                                                               BIRNode.BIRPackage moduleId, String typeOwnerClass,
+                                                               AsyncDataCollector asyncDataCollector,
+                                                               YieldAnalyzer yieldAnalyzer) {
+        String desc = String.format("(I)L%s;", MAP_VALUE);
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_RECORD_VALUE, desc,
+                String.format("(I)L%s<L%s;L%s;>;", MAP_VALUE, STRING_VALUE, OBJECT), null);
+        mv.visitCode();
 
-        int i = 0;
+        Map<BType, BIRTypeDefinition> initTypeDefs = new IdentityHashMap<>();
+        for (BIRTypeDefinition recordTypeDef : recordTypeDefs) {
+            if (!recordTypeDef.attachedFuncs.isEmpty()) {
+                initTypeDefs.put(recordTypeDef.type, recordTypeDef);
+            }
+        }
 
-        for (BIRTypeDefinition optionalTypeDef : recordTypeDefs) {
-            String fieldName = getTypeFieldName(optionalTypeDef.name.value);
-            Label targetLabel = targetLabels.get(i);
-            mv.visitLabel(targetLabel);
-            mv.visitVarInsn(ALOAD, 0);
+        String metaDataVarName = JvmCodeGenUtil.getStrandMetadataVarName(CREATE_RECORD_VALUE);
+        asyncDataCollector.getStrandMetadata().putIfAbsent(metaDataVarName,
+                                                           new ScheduleFunctionInfo(CREATE_RECORD_VALUE));
+        int indexRegIndex = 1;
+        int[] indexes = new int[recordTypeDefs.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        MethodSplitter.generateSwitch(cw, mv, ACC_PUBLIC, typeOwnerClass, CREATE_RECORD_VALUE, desc, indexes,
+                                      new MethodSplitter.SwitchGen() {
+            @Override
+            public void loadKey(MethodVisitor switchMv) {
+                switchMv.visitVarInsn(ILOAD, indexRegIndex);
+            }
+
+            @Override
+            public void generateCases(MethodVisitor switchMv, int from, int to) {
+                generateRecordValueCreateCases(switchMv, recordTypeDefs, from, to, moduleId, typeOwnerClass,
+                                               initTypeDefs, metaDataVarName, yieldAnalyzer);
+            }
+        });
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateRecordValueCreateCases(MethodVisitor mv, List<BIRTypeDefinition> recordTypeDefs,
+                                                       int from, int to, BIRNode.BIRPackage moduleId,
+                                                       String typeOwnerClass,
+                                                       Map<BType, BIRTypeDefinition> initTypeDefs,
+                                                       String metaDataVarName, YieldAnalyzer yieldAnalyzer) {
+        int indexRegIndex = 1;
+        Label defaultCaseLabel = new Label();
+        Label[] targetLabels = new Label[to - from];
+        for (int i = 0; i < targetLabels.length; i++) {
+            targetLabels[i] = new Label();
+        }
+        if (targetLabels.length > 0) {
+            mv.visitVarInsn(ILOAD, indexRegIndex);
+            mv.visitTableSwitchInsn(from, to - 1, defaultCaseLabel, targetLabels);
+        } else {
+            mv.visitJumpInsn(GOTO, defaultCaseLabel);
+        }
+
+        for (int i = 0; i < targetLabels.length; i++) {
+            BIRTypeDefinition optionalTypeDef = recordTypeDefs.get(from + i);
+            mv.visitLabel(targetLabels[i]);
             String className = getTypeValueClassName(moduleId, optionalTypeDef.name.value);
             mv.visitTypeInsn(NEW, className);
             mv.visitInsn(DUP);
-            mv.visitFieldInsn(GETSTATIC, typeOwnerClass, fieldName, String.format("L%s;", TYPE));
+            loadTypeOfTypeDef(mv, typeOwnerClass, optionalTypeDef);
             mv.visitMethodInsn(INVOKESPECIAL, className, JVM_INIT_METHOD, String.format("(L%s;)V", TYPE), false);
 
             mv.visitInsn(DUP);
-            mv.visitTypeInsn(NEW, STRAND_CLASS);
-            mv.visitInsn(DUP);
-            mv.visitInsn(ACONST_NULL);
-            String metaDataVarName = JvmCodeGenUtil.getStrandMetadataVarName(CREATE_RECORD_VALUE);
-            asyncDataCollector
-                    .getStrandMetadata().putIfAbsent(metaDataVarName, new ScheduleFunctionInfo(CREATE_RECORD_VALUE));
-            mv.visitFieldInsn(GETSTATIC, typeOwnerClass, metaDataVarName, String.format("L%s;", STRAND_METADATA));
-            mv.visitInsn(ACONST_NULL);
-            mv.visitInsn(ACONST_NULL);
-            mv.visitInsn(ACONST_NULL);
-            mv.visitMethodInsn(INVOKESPECIAL, STRAND_CLASS, JVM_INIT_METHOD,
-                               String.format("(L%s;L%s;L%s;L%s;L%s;)V", STRING_VALUE, STRAND_METADATA, SCHEDULER,
-                                             STRAND_CLASS, MAP), false);
+            if (canRecordInitYield(optionalTypeDef, initTypeDefs, yieldAnalyzer)) {
+                mv.visitTypeInsn(NEW, STRAND_CLASS);
+                mv.visitInsn(DUP);
+                mv.visitInsn(ACONST_NULL);
+                mv.visitFieldInsn(GETSTATIC, typeOwnerClass, metaDataVarName,
+                                  String.format("L%s;", STRAND_METADATA));
+                mv.visitInsn(ACONST_NULL);
+                mv.visitInsn(ACONST_NULL);
+                mv.visitInsn(ACONST_NULL);
+                mv.visitMethodInsn(INVOKESPECIAL, STRAND_CLASS, JVM_INIT_METHOD,
+                                   String.format("(L%s;L%s;L%s;L%s;L%s;)V", STRING_VALUE, STRAND_METADATA, SCHEDULER,
+                                                 STRAND_CLASS, MAP), false);
+            } else {
+                mv.visitFieldInsn(GETSTATIC, typeOwnerClass, metaDataVarName,
+                                  String.format("L%s;", STRAND_METADATA));
+                mv.visitMethodInsn(INVOKESTATIC, VALUE_CREATOR, GET_RECORD_INIT_STRAND,
+                                   String.format("(L%s;)L%s;", STRAND_METADATA, STRAND_CLASS), false);
+            }
             mv.visitInsn(SWAP);
             mv.visitMethodInsn(INVOKESTATIC, className, JvmConstants.RECORD_INIT_WRAPPER_NAME,
                     String.format("(L%s;L%s;)V", STRAND_CLASS, MAP_VALUE), false);
 
             mv.visitInsn(ARETURN);
-            i += 1;
         }
 
-        createDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
-        mv.visitMaxs(recordTypeDefs.size() + 10, recordTypeDefs.size() + 10);
-        mv.visitEnd();
+        int fieldNameRegIndex = 2;
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitVarInsn(ILOAD, indexRegIndex);
+        mv.visitMethodInsn(INVOKESTATIC, STRING_VALUE, "valueOf", String.format("(I)L%s;", STRING_VALUE), false);
+        mv.visitVarInsn(ASTORE, fieldNameRegIndex);
+        createDefaultCase(mv, new Label(), fieldNameRegIndex);
+    }
+
+    /**
+     * Checks whether the init wrapper of a record type can yield. The wrapper runs the init function of the record
+     * type and the ones of the record types it references, where the record types of other modules are assumed to
+     * yield.
+     *
+     * @param recordTypeDef record type definition
+     * @param initTypeDefs  record type definitions of the module which have an init function, against their types
+     * @param yieldAnalyzer yield analyzer of the module
+     * @return true if the init wrapper can yield
+     */
+    private static boolean canRecordInitYield(BIRTypeDefinition recordTypeDef,
+                                              Map<BType, BIRTypeDefinition> initTypeDefs,
+                                              YieldAnalyzer yieldAnalyzer) {
+        for (BType typeRef : recordTypeDef.referencedTypes) {
+            if (typeRef.tag != TypeTags.RECORD) {
+                continue;
+            }
+            BIRTypeDefinition refTypeDef = initTypeDefs.get(typeRef);
+            if (refTypeDef == null || canRecordInitYield(refTypeDef, initTypeDefs, yieldAnalyzer)) {
+                return true;
+            }
+        }
+
+        // Type labels run the init function of the original record type.
+        BIRTypeDefinition initTypeDef = recordTypeDef.attachedFuncs.isEmpty() ?
+                initTypeDefs.get(recordTypeDef.type) : recordTypeDef;
+        return initTypeDef == null || yieldAnalyzer.canYield(initTypeDef.attachedFuncs.get(0));
     }
 
     private static void generateObjectValueCreateMethod(ClassWriter cw, List<BIRTypeDefinition> objectTypeDefs,
@@ -557,10 +880,37 @@ public class JvmTypeGen {
                                                         SymbolTable symbolTable,
                                                         AsyncDataCollector asyncDataCollector) {
 
-        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_OBJECT_VALUE,
-                                          String.format("(L%s;L%s;L%s;L%s;[L%s;)L%s;", STRING_VALUE, SCHEDULER,
-                                                        STRAND_CLASS, MAP, OBJECT,
-                                                        B_OBJECT), null, null);
+        String desc = String.format("(L%s;L%s;L%s;L%s;[L%s;)L%s;", STRING_VALUE, SCHEDULER, STRAND_CLASS, MAP, OBJECT,
+                                    B_OBJECT);
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CREATE_OBJECT_VALUE, desc, null, null);
+        mv.visitCode();
+
+        // sort the fields before generating switch case
+        objectTypeDefs.sort(NAME_HASH_COMPARATOR);
+
+        int var1Index = 1;
+        MethodSplitter.generateSwitch(cw, mv, ACC_PUBLIC, typeOwnerClass, CREATE_OBJECT_VALUE, desc,
+                                      getNameHashCodes(objectTypeDefs), new MethodSplitter.SwitchGen() {
+            @Override
+            public void loadKey(MethodVisitor switchMv) {
+                switchMv.visitVarInsn(ALOAD, var1Index);
+                switchMv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, "hashCode", "()I", false);
+            }
+
+            @Override
+            public void generateCases(MethodVisitor switchMv, int from, int to) {
+                generateObjectValueCreateCases(switchMv, objectTypeDefs.subList(from, to), moduleId, typeOwnerClass,
+                                               symbolTable, asyncDataCollector);
+            }
+        });
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void generateObjectValueCreateCases(MethodVisitor mv, List<BIRTypeDefinition> objectTypeDefs,
+                                                       BIRNode.BIRPackage moduleId, String typeOwnerClass,
+                                                       SymbolTable symbolTable,
+                                                       AsyncDataCollector asyncDataCollector) {
 
         BIRVarToJVMIndexMap indexMap = new BIRVarToJVMIndexMap();
 
@@ -589,13 +939,7 @@ public class JvmTypeGen {
         int propertiesIndex = indexMap.addToMapIfNotFoundAndGetIndex(properties);
         int argsIndex = indexMap.addToMapIfNotFoundAndGetIndex(args);
 
-        mv.visitCode();
-
         Label defaultCaseLabel = new Label();
-
-        // sort the fields before generating switch case
-        objectTypeDefs.sort(NAME_HASH_COMPARATOR);
-
         List<Label> labels = createLabelsForSwitch(mv, var1Index, objectTypeDefs, defaultCaseLabel);
         List<Label> targetLabels = createLabelsForEqualCheck(mv, var1Index, objectTypeDefs, labels,
                 defaultCaseLabel);
@@ -603,14 +947,13 @@ public class JvmTypeGen {
         int i = 0;
 
         for (BIRTypeDefinition optionalTypeDef : objectTypeDefs) {
-            String fieldName = getTypeFieldName(optionalTypeDef.name.value);
             Label targetLabel = targetLabels.get(i);
             mv.visitLabel(targetLabel);
             mv.visitVarInsn(ALOAD, 0);
             String className = getTypeValueClassName(moduleId, optionalTypeDef.name.value);
             mv.visitTypeInsn(NEW, className);
             mv.visitInsn(DUP);
-            mv.visitFieldInsn(GETSTATIC, typeOwnerClass, fieldName, String.format("L%s;", TYPE));
+            loadTypeOfTypeDef(mv, typeOwnerClass, optionalTypeDef);
             mv.visitTypeInsn(CHECKCAST, OBJECT_TYPE_IMPL);
             mv.visitMethodInsn(INVOKESPECIAL, className, JVM_INIT_METHOD, String.format("(L%s;)V", OBJECT_TYPE_IMPL),
                                false);
@@ -679,8 +1022,6 @@ public class JvmTypeGen {
         }
 
         createDefaultCase(mv, defaultCaseLabel, var1Index);
-        mv.visitMaxs(objectTypeDefs.size() + 100, objectTypeDefs.size() + 100);
-        mv.visitEnd();
     }
 
     // -------------------------------------------------------
@@ -1493,8 +1834,8 @@ public class JvmTypeGen {
         }
         String typeOwner =
                 JvmCodeGenUtil.getPackageName(packageID) + MODULE_INIT_CLASS_NAME;
-        String fieldName = getTypeFieldName(toNameString(errorType));
-        mv.visitFieldInsn(GETSTATIC, typeOwner, fieldName, String.format("L%s;", TYPE));
+        String accessorName = getTypeAccessorName(toNameString(errorType));
+        mv.visitMethodInsn(INVOKESTATIC, typeOwner, accessorName, String.format("()L%s;", TYPE), false);
     }
 
     /**
@@ -1630,7 +1971,8 @@ public class JvmTypeGen {
     }
 
     /**
-     * Load a user defined type instance to the top of the stack.
+     * Load a user defined type instance to the top of the stack. The type is created when it is loaded for the first
+     * time.
      *
      * @param mv    method visitor
      * @param bType user defined type
@@ -1640,9 +1982,15 @@ public class JvmTypeGen {
         PackageID packageID = bType.tsymbol.pkgID;
 
         String typeOwner = JvmCodeGenUtil.getPackageName(packageID) + MODULE_INIT_CLASS_NAME;
-        String fieldName = getTypeFieldName(toNameString(bType));
+        String accessorName = getTypeAccessorName(toNameString(bType));
+
+        mv.visitMethodInsn(INVOKESTATIC, typeOwner, accessorName, String.format("()L%s;", TYPE), false);
+    }
+
+    private static void loadTypeOfTypeDef(MethodVisitor mv, String typeOwnerClass, BIRTypeDefinition typeDef) {
 
-        mv.visitFieldInsn(GETSTATIC, typeOwner, fieldName, String.format("L%s;", TYPE));
+        mv.visitMethodInsn(INVOKESTATIC, typeOwnerClass, getTypeAccessorName(typeDef.name.value),
+                           String.format("()L%s;", TYPE), false);
     }
 
     /**
@@ -1656,6 +2004,17 @@ public class JvmTypeGen {
         return String.format("$type$%s", typeName);
     }
 
+    /**
+     * Return the name of the method of the module init class which loads a given type.
+     *
+     * @param typeName type name
+     * @return name of the method that loads the type instance
+     */
+    private static String getTypeAccessorName(String typeName) {
+
+        return String.format("$get$type$%s", typeName);
+    }
+
     private static void loadFutureType(MethodVisitor mv, BFutureType bType) {
 
         mv.visitTypeInsn(NEW, FUTURE_TYPE_IMPL);
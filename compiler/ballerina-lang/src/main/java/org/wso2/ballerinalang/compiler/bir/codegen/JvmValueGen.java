@@ -76,7 +76,9 @@ import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.ICONST_M1;
 import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFLT;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
@@ -103,6 +105,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.COLLECTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_METHOD_INDEX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_STRING_METHOD;
@@ -376,29 +379,90 @@ class JvmValueGen {
         mv.visitEnd();
     }
 
-    private void createCallMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions, String objClassName) {
+    private void createCallMethods(ClassWriter cw, List<BIRNode.BIRFunction> functions, String objClassName) {
+        // sort the fields before generating switch case. The index of a method is its index in this order.
+        functions.sort(NAME_HASH_COMPARATOR);
+
+        createMethodIndexMethod(cw, functions);
+        createCallMethod(cw);
+        createCallByIndexMethod(cw, functions, objClassName);
+    }
+
+    private void createMethodIndexMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions) {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, GET_METHOD_INDEX, String.format("(L%s;)I", STRING_VALUE),
+                                          null, null);
+        mv.visitCode();
+
+        int funcNameRegIndex = 1;
+        Label defaultCaseLabel = new Label();
+        List<Label> labels = JvmTypeGen.createLabelsForSwitch(mv, funcNameRegIndex, functions, defaultCaseLabel);
+        List<Label> targetLabels = JvmTypeGen.createLabelsForEqualCheck(mv, funcNameRegIndex, functions, labels,
+                                                                        defaultCaseLabel);
+
+        for (int i = 0; i < targetLabels.size(); i++) {
+            mv.visitLabel(targetLabels.get(i));
+            mv.visitLdcInsn(i);
+            mv.visitInsn(IRETURN);
+        }
+
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitInsn(ICONST_M1);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
 
+    private void createCallMethod(ClassWriter cw) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "call", String.format(
                 "(L%s;L%s;[L%s;)L%s;", STRAND_CLASS, STRING_VALUE, OBJECT, OBJECT), null, null);
         mv.visitCode();
 
         int funcNameRegIndex = 2;
-
+        int indexRegIndex = 4;
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, funcNameRegIndex);
+        mv.visitMethodInsn(INVOKEVIRTUAL, ABSTRACT_OBJECT_VALUE, GET_METHOD_INDEX,
+                           String.format("(L%s;)I", STRING_VALUE), false);
+        mv.visitVarInsn(ISTORE, indexRegIndex);
+        mv.visitVarInsn(ILOAD, indexRegIndex);
         Label defaultCaseLabel = new Label();
+        mv.visitJumpInsn(IFLT, defaultCaseLabel);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ILOAD, indexRegIndex);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKEVIRTUAL, ABSTRACT_OBJECT_VALUE, "call",
+                           String.format("(L%s;I[L%s;)L%s;", STRAND_CLASS, OBJECT, OBJECT), false);
+        mv.visitInsn(ARETURN);
 
-        // sort the fields before generating switch case
-        functions.sort(NAME_HASH_COMPARATOR);
+        createDefaultCase(mv, defaultCaseLabel, funcNameRegIndex);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
 
-        List<Label> labels = JvmTypeGen.createLabelsForSwitch(mv, funcNameRegIndex, functions, defaultCaseLabel);
-        List<Label> targetLabels = JvmTypeGen.createLabelsForEqualCheck(mv, funcNameRegIndex, functions, labels,
-                                                             defaultCaseLabel);
+    private void createCallByIndexMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions,
+                                         String objClassName) {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "call", String.format(
+                "(L%s;I[L%s;)L%s;", STRAND_CLASS, OBJECT, OBJECT), null, null);
+        mv.visitCode();
+
+        int indexRegIndex = 2;
+        Label defaultCaseLabel = new Label();
+        Label[] targetLabels = new Label[functions.size()];
+        for (int i = 0; i < targetLabels.length; i++) {
+            targetLabels[i] = new Label();
+        }
+        if (targetLabels.length > 0) {
+            mv.visitVarInsn(ILOAD, indexRegIndex);
+            mv.visitTableSwitchInsn(0, targetLabels.length - 1, defaultCaseLabel, targetLabels);
+        } else {
+            mv.visitJumpInsn(GOTO, defaultCaseLabel);
+        }
 
         // case body
-        int i = 0;
-        for (BIRNode.BIRFunction optionalFunc : functions) {
-            BIRNode.BIRFunction func = getFunction(optionalFunc);
-            Label targetLabel = targetLabels.get(i);
-            mv.visitLabel(targetLabel);
+        for (int i = 0; i < targetLabels.length; i++) {
+            BIRNode.BIRFunction func = getFunction(functions.get(i));
+            mv.visitLabel(targetLabels[i]);
 
             List<BType> paramTypes = func.type.paramTypes;
             BType retType = func.type.retType;
@@ -439,11 +503,15 @@ class JvmValueGen {
                 }
             }
             mv.visitInsn(ARETURN);
-            i += 1;
         }
 
-        createDefaultCase(mv, defaultCaseLabel, funcNameRegIndex);
-        mv.visitMaxs(functions.size() + 10, functions.size() + 10);
+        int funcNameRegIndex = 4;
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitVarInsn(ILOAD, indexRegIndex);
+        mv.visitMethodInsn(INVOKESTATIC, STRING_VALUE, "valueOf", String.format("(I)L%s;", STRING_VALUE), false);
+        mv.visitVarInsn(ASTORE, funcNameRegIndex);
+        createDefaultCase(mv, new Label(), funcNameRegIndex);
+        mv.visitMaxs(0, 0);
         mv.visitEnd();
     }
 
@@ -756,7 +824,7 @@ class JvmValueGen {
             return;
         }
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
-        JvmCodeGenUtil.generateStrandMetadata(mv, moduleClass, module, asyncDataCollector);
+        JvmCodeGenUtil.generateStrandMetadata(cw, mv, moduleClass, module, asyncDataCollector);
         mv.visitInsn(RETURN);
         mv.visitMaxs(0, 0);
         mv.visitEnd();
@@ -1379,7 +1447,7 @@ class JvmValueGen {
         }
 
         this.createObjectInit(cw, fields, className);
-        this.createCallMethod(cw, attachedFuncs, className);
+        this.createCallMethods(cw, attachedFuncs, className);
         this.createObjectGetMethod(cw, fields, className);
         this.createObjectSetMethod(cw, fields, className);
         this.createObjectSetOnInitializationMethod(cw, fields, className);
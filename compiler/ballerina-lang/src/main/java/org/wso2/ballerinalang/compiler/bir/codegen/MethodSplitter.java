@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.IF_ICMPGE;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.RETURN;
+
+/**
+ * Splits the generated code which grows with the number of types or functions of a module into methods of a bounded
+ * size, which call each other as a balanced tree.
+ * <p>
+ * A method can have at most 64KB of bytecode, and HotSpot does not compile methods larger than 8000 bytes (the
+ * {@code HugeMethodLimit}), which would leave such a method interpreted however often it is called. The code of at
+ * most {@link #MAX_ITEMS_PER_METHOD} items, or {@link #MAX_CASES_PER_METHOD} cases of a switch, is generated into a
+ * method, which keeps the methods well under that limit.
+ *
+ * @since 2.0.0
+ */
+final class MethodSplitter {
+
+    static final int MAX_ITEMS_PER_METHOD = 100;
+    static final int MAX_CASES_PER_METHOD = 50;
+
+    /**
+     * Generates the code of the given items into the method. If there are more items than fit into a method, the code
+     * is generated into private static methods named after the method instead, which are called by the method.
+     *
+     * @param cw         class writer
+     * @param mv         method visitor of the method
+     * @param className  name of the class
+     * @param methodName name of the method
+     * @param items      items to generate the code of
+     * @param itemGen    generates the code of an item into the given method
+     * @param <T>        type of the items
+     */
+    static <T> void generateItems(ClassWriter cw, MethodVisitor mv, String className, String methodName,
+                                  List<T> items, BiConsumer<MethodVisitor, T> itemGen) {
+
+        if (items.size() <= MAX_ITEMS_PER_METHOD) {
+            for (T item : items) {
+                itemGen.accept(mv, item);
+            }
+            return;
+        }
+
+        List<List<T>> parts = split(items, MAX_ITEMS_PER_METHOD);
+        for (int i = 0; i < parts.size(); i++) {
+            String partName = getPartName(methodName, i);
+            MethodVisitor partMv = cw.visitMethod(ACC_PRIVATE + ACC_STATIC, partName, "()V", null, null);
+            partMv.visitCode();
+            generateItems(cw, partMv, className, partName, parts.get(i), itemGen);
+            partMv.visitInsn(RETURN);
+            partMv.visitMaxs(0, 0);
+            partMv.visitEnd();
+            mv.visitMethodInsn(INVOKESTATIC, className, partName, "()V", false);
+        }
+    }
+
+    /**
+     * Generates the body of a method which switches over cases sorted by an int key. If there are more cases than fit
+     * into a method, the method finds the range of cases the key falls into by a binary search, and calls a private
+     * method with the same descriptor, named after the method, which switches over that range of cases. The cases
+     * with the same key are kept in the same range.
+     *
+     * @param cw         class writer
+     * @param mv         method visitor of the method
+     * @param access     access flags of the method
+     * @param className  name of the class
+     * @param methodName name of the method
+     * @param desc       descriptor of the method
+     * @param keys       keys of the cases, in ascending order
+     * @param switchGen  generates the code which switches over a range of the cases
+     */
+    static void generateSwitch(ClassWriter cw, MethodVisitor mv, int access, String className, String methodName,
+                               String desc, int[] keys, SwitchGen switchGen) {
+
+        generateSwitch(cw, mv, access, className, methodName, desc, keys, 0, keys.length, switchGen);
+    }
+
+    private static void generateSwitch(ClassWriter cw, MethodVisitor mv, int access, String className,
+                                       String methodName, String desc, int[] keys, int from, int to,
+                                       SwitchGen switchGen) {
+
+        if (to - from <= MAX_CASES_PER_METHOD) {
+            switchGen.generateCases(mv, from, to);
+            return;
+        }
+
+        List<Integer> partStarts = getPartStarts(keys, from, to);
+        int partAccess = ACC_PRIVATE | (access & ACC_STATIC);
+        for (int i = 0; i < partStarts.size(); i++) {
+            int partTo = i + 1 < partStarts.size() ? partStarts.get(i + 1) : to;
+            MethodVisitor partMv = cw.visitMethod(partAccess, getPartName(methodName, i), desc, null, null);
+            partMv.visitCode();
+            generateSwitch(cw, partMv, access, className, getPartName(methodName, i), desc, keys, partStarts.get(i),
+                           partTo, switchGen);
+            partMv.visitMaxs(0, 0);
+            partMv.visitEnd();
+        }
+
+        int keyVarIndex = getArgumentsSize(access, desc);
+        switchGen.loadKey(mv);
+        mv.visitVarInsn(ISTORE, keyVarIndex);
+        generatePartSearch(mv, access, className, methodName, desc, keys, partStarts, 0, partStarts.size(),
+                           keyVarIndex);
+    }
+
+    private static void generatePartSearch(MethodVisitor mv, int access, String className, String methodName,
+                                           String desc, int[] keys, List<Integer> partStarts, int fromPart,
+                                           int toPart, int keyVarIndex) {
+
+        if (toPart - fromPart == 1) {
+            callPart(mv, access, className, getPartName(methodName, fromPart), desc);
+            return;
+        }
+
+        int midPart = (fromPart + toPart) / 2;
+        Label upperPartsLabel = new Label();
+        mv.visitVarInsn(ILOAD, keyVarIndex);
+        mv.visitLdcInsn(keys[partStarts.get(midPart)]);
+        mv.visitJumpInsn(IF_ICMPGE, upperPartsLabel);
+        generatePartSearch(mv, access, className, methodName, desc, keys, partStarts, fromPart, midPart,
+                           keyVarIndex);
+        mv.visitLabel(upperPartsLabel);
+        generatePartSearch(mv, access, className, methodName, desc, keys, partStarts, midPart, toPart, keyVarIndex);
+    }
+
+    private static void callPart(MethodVisitor mv, int access, String className, String partName, String desc) {
+
+        boolean isStatic = (access & ACC_STATIC) != 0;
+        int varIndex = 0;
+        if (!isStatic) {
+            mv.visitVarInsn(ALOAD, 0);
+            varIndex = 1;
+        }
+        for (Type argType : Type.getArgumentTypes(desc)) {
+            mv.visitVarInsn(argType.getOpcode(ILOAD), varIndex);
+            varIndex += argType.getSize();
+        }
+        // Private methods are called with invokespecial, as the classes are generated for Java 8.
+        mv.visitMethodInsn(isStatic ? INVOKESTATIC : INVOKESPECIAL, className, partName, desc, false);
+        mv.visitInsn(Type.getReturnType(desc).getOpcode(IRETURN));
+    }
+
+    /**
+     * Returns the indexes the parts of the given range of cases start at. The range is split into at most
+     * {@link #MAX_CASES_PER_METHOD} parts of the same size, which is a power of it, so that the methods form a
+     * balanced tree.
+     */
+    private static List<Integer> getPartStarts(int[] keys, int from, int to) {
+
+        int partSize = MAX_CASES_PER_METHOD;
+        while ((to - from + partSize - 1) / partSize > MAX_CASES_PER_METHOD) {
+            partSize *= MAX_CASES_PER_METHOD;
+        }
+
+        List<Integer> partStarts = new ArrayList<>();
+        int partStart = from;
+        while (partStart < to) {
+            partStarts.add(partStart);
+            int partEnd = Math.min(partStart + partSize, to);
+            // Cases with the same key are found by the key, hence cannot be split into different parts.
+            while (partEnd < to && keys[partEnd] == keys[partEnd - 1]) {
+                partEnd++;
+            }
+            partStart = partEnd;
+        }
+        return partStarts;
+    }
+
+    private static <T> List<List<T>> split(List<T> items, int maxItems) {
+
+        int partSize = maxItems;
+        while ((items.size() + partSize - 1) / partSize > maxItems) {
+            partSize *= maxItems;
+        }
+
+        List<List<T>> parts = new ArrayList<>();
+        for (int partStart = 0; partStart < items.size(); partStart += partSize) {
+            parts.add(items.subList(partStart, Math.min(partStart + partSize, items.size())));
+        }
+        return parts;
+    }
+
+    private static int getArgumentsSize(int access, String desc) {
+
+        // The size includes the receiver, which is counted for static methods as well.
+        int argumentsSize = Type.getArgumentsAndReturnSizes(desc) >> 2;
+        return (access & ACC_STATIC) != 0 ? argumentsSize - 1 : argumentsSize;
+    }
+
+    private static String getPartName(String methodName, int partIndex) {
+
+        return methodName + "$" + partIndex;
+    }
+
+    /**
+     * Generates the code of a switch over cases sorted by an int key.
+     */
+    interface SwitchGen {
+
+        /**
+         * Loads the key to switch on onto the operand stack, e.g. the hash code of a name.
+         *
+         * @param mv method visitor
+         */
+        void loadKey(MethodVisitor mv);
+
+        /**
+         * Generates the code which switches over the given range of the cases and returns the result of the method.
+         *
+         * @param mv   method visitor
+         * @param from index of the first case
+         * @param to   index after the last case
+         */
+        void generateCases(MethodVisitor mv, int from, int to);
+    }
+
+    private MethodSplitter() {
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen.internal;
+
+import io.ballerina.runtime.internal.IdentifierUtils;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the functions of a module which can never yield the strand they run on.
+ * <p>
+ * A function can yield if it has a terminator which can yield, which is any terminator other than a jump, a branch, a
+ * return, a panic, an unlock and a direct call to a function of the same module which cannot yield. Locks, waits,
+ * worker interactions, async calls, function pointer calls, calls to methods and calls to functions of other modules
+ * are assumed to yield. External functions are assumed to yield as well. As yielding is propagated from the callees to
+ * the callers, a group of recursive functions can yield only if one of them can.
+ * <p>
+ * The code generated for a function which cannot yield does not have to save and restore its frame, and the code
+ * generated for a terminator which cannot yield does not have to check whether the strand is yielded.
+ *
+ * @since 2.0.0
+ */
+public class YieldAnalyzer {
+
+    private final Set<BIRFunction> nonYieldingFunctions = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, BIRFunction> moduleFunctions = new HashMap<>();
+    private String packageName;
+
+    /**
+     * Analyzes the functions of the given module, replacing the results of the previously analyzed module.
+     *
+     * @param module module to analyze
+     */
+    public void analyze(BIRPackage module) {
+        packageName = JvmCodeGenUtil.getPackageName(module);
+        nonYieldingFunctions.clear();
+        moduleFunctions.clear();
+        for (BIRFunction func : module.functions) {
+            moduleFunctions.put(func.name.value, func);
+        }
+
+        List<BIRFunction> functions = new ArrayList<>(module.functions);
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.attachedFuncs != null) {
+                functions.addAll(typeDef.attachedFuncs);
+            }
+        }
+
+        Map<BIRFunction, List<BIRFunction>> callers = new IdentityHashMap<>();
+        Deque<BIRFunction> yieldingFunctions = new ArrayDeque<>();
+        for (BIRFunction func : functions) {
+            if (canYieldDirectly(func, callers)) {
+                yieldingFunctions.add(func);
+            } else {
+                nonYieldingFunctions.add(func);
+            }
+        }
+
+        // Functions which call a function which can yield can yield as well.
+        while (!yieldingFunctions.isEmpty()) {
+            BIRFunction callee = yieldingFunctions.poll();
+            for (BIRFunction caller : callers.getOrDefault(callee, Collections.emptyList())) {
+                if (nonYieldingFunctions.remove(caller)) {
+                    yieldingFunctions.add(caller);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given function can yield. Functions which are not analyzed are assumed to yield.
+     *
+     * @param func function
+     * @return true if the function can yield
+     */
+    public boolean canYield(BIRFunction func) {
+        return !nonYieldingFunctions.contains(func);
+    }
+
+    /**
+     * Checks whether the given terminator can yield.
+     *
+     * @param terminator terminator of a function of the analyzed module
+     * @return true if the terminator can yield
+     */
+    public boolean canYield(BIRTerminator terminator) {
+        switch (terminator.kind) {
+            case GOTO:
+            case BRANCH:
+            case RETURN:
+            case PANIC:
+            case UNLOCK:
+                return false;
+            case CALL:
+                BIRFunction callee = getCallee((BIRTerminator.Call) terminator);
+                return callee == null || canYield(callee);
+            default:
+                return true;
+        }
+    }
+
+    private boolean canYieldDirectly(BIRFunction func, Map<BIRFunction, List<BIRFunction>> callers) {
+        if (JvmCodeGenUtil.isExternFunc(func)) {
+            return true;
+        }
+
+        boolean canYield = false;
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            BIRTerminator terminator = basicBlock.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                case PANIC:
+                case UNLOCK:
+                    break;
+                case CALL:
+                    BIRFunction callee = getCallee((BIRTerminator.Call) terminator);
+                    if (callee == null) {
+                        canYield = true;
+                    } else {
+                        callers.computeIfAbsent(callee, k -> new ArrayList<>()).add(func);
+                    }
+                    break;
+                default:
+                    canYield = true;
+                    break;
+            }
+        }
+        return canYield;
+    }
+
+    /**
+     * Returns the function of the analyzed module which is called directly by the given call.
+     *
+     * @param call call terminator
+     * @return the called function, or null if the call is virtual or calls a function of another module
+     */
+    private BIRFunction getCallee(BIRTerminator.Call call) {
+        // The identifiers of the module are encoded before the code generation, while the ones of the call are not.
+        if (call.isVirtual || !packageName.equals(JvmCodeGenUtil.getPackageName(call.calleePkg))) {
+            return null;
+        }
+        return moduleFunctions.get(IdentifierUtils.encodeFunctionIdentifier(call.name.value));
+    }
+}
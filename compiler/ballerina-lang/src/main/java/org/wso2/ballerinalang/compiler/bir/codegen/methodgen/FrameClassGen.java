@@ -23,6 +23,7 @@ import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Opcodes;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.YieldAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -42,8 +43,11 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
  */
 public class FrameClassGen {
 
-    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries) {
-        pkg.functions.parallelStream().forEach(func -> generateFrameClassForFunction(pkg, func, pkgEntries, null));
+    public void generateFrameClasses(BIRNode.BIRPackage pkg, Map<String, byte[]> pkgEntries,
+                                     YieldAnalyzer yieldAnalyzer) {
+        // Functions which cannot yield never save their frames.
+        pkg.functions.parallelStream().filter(yieldAnalyzer::canYield)
+                .forEach(func -> generateFrameClassForFunction(pkg, func, pkgEntries, null));
 
         for (BIRNode.BIRTypeDefinition typeDef : pkg.typeDefs) {
             List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs;
@@ -59,7 +63,7 @@ public class FrameClassGen {
             } else {
                 attachedType = typeDef.type;
             }
-            attachedFuncs.parallelStream().forEach(func ->
+            attachedFuncs.parallelStream().filter(yieldAnalyzer::canYield).forEach(func ->
                                                            generateFrameClassForFunction(pkg, func, pkgEntries,
                                                                                          attachedType));
         }
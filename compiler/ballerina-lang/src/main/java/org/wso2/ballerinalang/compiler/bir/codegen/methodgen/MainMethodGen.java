@@ -111,6 +111,11 @@ public class MainMethodGen {
             generateMethodCall(initClass, asyncDataCollector, mv, indexMap, schedulerVarIndex, JvmConstants.MODULE_INIT,
                                MethodGenUtils.INIT_FUNCTION_SUFFIX, "initdummy");
         }
+        // a training run of a program without services stops here, before the main function is run
+        boolean startsServices = serviceEPAvailable && MethodGenUtils.hasInitFunction(pkg);
+        if (!startsServices) {
+            genExitIfTrainingRun(mv);
+        }
 
         if (userMainFunc != null) {
             generateUserMainFunctionCall(userMainFunc, initClass, asyncDataCollector, mv, indexMap, schedulerVarIndex);
@@ -197,6 +202,8 @@ public class MainMethodGen {
                            "startdummy");
         // need to set immortal=true and start the scheduler again
         if (serviceEPAvailable) {
+            // a training run of a program with services stops here, once the listeners are started
+            genExitIfTrainingRun(mv);
             mv.visitVarInsn(ALOAD, schedulerVarIndex);
             mv.visitInsn(DUP);
             mv.visitInsn(ICONST_1);
@@ -207,6 +214,10 @@ public class MainMethodGen {
         }
     }
 
+    private void genExitIfTrainingRun(MethodVisitor mv) {
+        mv.visitMethodInsn(INVOKESTATIC, JvmConstants.LAUNCH_UTILS, "exitIfTrainingRun", "()V", false);
+    }
+
     private void generateMethodCall(String initClass, AsyncDataCollector asyncDataCollector, MethodVisitor mv,
                                     BIRVarToJVMIndexMap indexMap, int schedulerVarIndex, String moduleInit,
                                     String funcName, String dummy) {
@@ -34,6 +34,7 @@ import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BIRVarToJVMIndexMap;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.FunctionParamComparator;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.LabelGenerator;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.YieldAnalyzer;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JType;
@@ -196,12 +197,30 @@ public class MethodGen {
         genLocalVars(indexMap, mv, func.localVars);
 
         int returnVarRefIndex = getReturnVarRefIndex(func, indexMap, retType, mv);
+        LabelGenerator labelGen = new LabelGenerator();
+        JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, module, jvmPackageGen);
+        JvmErrorGen errorGen = new JvmErrorGen(mv, indexMap, instGen);
+        JvmTerminatorGen termGen = new JvmTerminatorGen(mv, indexMap, labelGen, errorGen, module, instGen,
+                                                        jvmPackageGen);
+
+        if (!jvmPackageGen.getYieldAnalyzer().canYield(func)) {
+            // A function which cannot yield is never resumed, hence is generated without the state, the frame and
+            // the yield checks.
+            generateBasicBlocks(mv, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex, -1,
+                                localVarOffset, module, attachedType, moduleClassName, asyncDataCollector);
+            Label methodEndLabel = new Label();
+            mv.visitLabel(methodEndLabel);
+            createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+            return;
+        }
+
         int stateVarIndex = getStateVarIndex(indexMap, mv);
 
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
 
-        LabelGenerator labelGen = new LabelGenerator();
         Label resumeLabel = labelGen.getLabel(funcName + "resume");
         mv.visitJumpInsn(IFGT, resumeLabel);
 
@@ -214,11 +233,6 @@ public class MethodGen {
 
         addCasesForBasicBlocks(func, funcName, labelGen, labels, states);
 
-        JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, module, jvmPackageGen);
-        JvmErrorGen errorGen = new JvmErrorGen(mv, indexMap, instGen);
-        JvmTerminatorGen termGen = new JvmTerminatorGen(mv, indexMap, labelGen, errorGen, module, instGen,
-                                                        jvmPackageGen);
-
         mv.visitVarInsn(ILOAD, stateVarIndex);
         Label yieldLable = labelGen.getLabel(funcName + "yield");
         mv.visitLookupSwitchInsn(yieldLable, toIntArray(states), labels.toArray(new Label[0]));
@@ -448,6 +462,9 @@ public class MethodGen {
                              AsyncDataCollector asyncDataCollector) {
 
         String funcName = func.name.value;
+        YieldAnalyzer yieldAnalyzer = jvmPackageGen.getYieldAnalyzer();
+        // The state is tracked only to resume the functions which can yield.
+        boolean canYield = yieldAnalyzer.canYield(func);
         BirScope lastScope = null;
         Set<BirScope> visitedScopesSet = new HashSet<>();
 
@@ -457,7 +474,7 @@ public class MethodGen {
             // create jvm label
             Label bbLabel = labelGen.getLabel(funcName + bb.id.value);
             mv.visitLabel(bbLabel);
-            if (i == 0) {
+            if (i == 0 && canYield) {
                 pushShort(mv, stateVarIndex, caseIndex);
                 caseIndex += 1;
             }
@@ -471,8 +488,10 @@ public class MethodGen {
             mv.visitLabel(bbEndLabel);
 
             BIRTerminator terminator = bb.terminator;
-            pushShort(mv, stateVarIndex, caseIndex);
-            caseIndex += 1;
+            if (canYield) {
+                pushShort(mv, stateVarIndex, caseIndex);
+                caseIndex += 1;
+            }
 
             processTerminator(mv, func, module, funcName, terminator);
             termGen.genTerminator(terminator, moduleClassName, func, funcName, localVarOffset, returnVarRefIndex,
@@ -482,7 +501,11 @@ public class MethodGen {
 
             BIRBasicBlock thenBB = terminator.thenBB;
             if (thenBB != null) {
-                JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
+                if (yieldAnalyzer.canYield(terminator)) {
+                    JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
+                } else {
+                    mv.visitJumpInsn(GOTO, labelGen.getLabel(funcName + thenBB.id.value));
+                }
             }
         }
     }
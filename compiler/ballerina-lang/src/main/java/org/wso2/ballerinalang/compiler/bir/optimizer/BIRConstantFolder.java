@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Folds the int and float arithmetic and the int comparisons of constant operands, and removes the constant loads of
+ * temporary variables which are not used afterwards.
+ * <p>
+ * Constants are tracked within a basic block, as a temporary variable loaded with a constant in a block holds the
+ * constant for the rest of the block unless it is assigned again in the block. An operation which panics at runtime,
+ * such as an int overflow or a division by zero, is not folded.
+ *
+ * @since 2.0.0
+ */
+public class BIRConstantFolder {
+
+    public void optimizeNode(BIRPackage pkg) {
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            typeDef.attachedFuncs.forEach(this::optimizeFunction);
+        }
+        pkg.functions.forEach(this::optimizeFunction);
+    }
+
+    private void optimizeFunction(BIRFunction function) {
+        List<BIRBasicBlock> basicBlocks = getBasicBlocks(function);
+        boolean folded = false;
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            folded |= foldConstants(basicBlock);
+        }
+        if (folded) {
+            removeDeadConstantLoads(function, basicBlocks);
+        }
+    }
+
+    static List<BIRBasicBlock> getBasicBlocks(BIRFunction function) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(function.basicBlocks);
+        function.parameters.values().forEach(basicBlocks::addAll);
+        return basicBlocks;
+    }
+
+    private static boolean foldConstants(BIRBasicBlock basicBlock) {
+        Map<BIRVariableDcl, Object> constants = new HashMap<>();
+        boolean folded = false;
+        List<BIRNonTerminator> instructions = basicBlock.instructions;
+        for (int i = 0; i < instructions.size(); i++) {
+            BIRNonTerminator instruction = instructions.get(i);
+            if (instruction instanceof BinaryOp) {
+                BinaryOp binaryOp = (BinaryOp) instruction;
+                Object value = fold(binaryOp, constants.get(binaryOp.rhsOp1.variableDcl),
+                                    constants.get(binaryOp.rhsOp2.variableDcl));
+                if (value != null) {
+                    ConstantLoad constantLoad = new ConstantLoad(binaryOp.pos, value,
+                                                                 binaryOp.lhsOp.variableDcl.type, binaryOp.lhsOp);
+                    constantLoad.scope = binaryOp.scope;
+                    instructions.set(i, constantLoad);
+                    instruction = constantLoad;
+                    folded = true;
+                }
+            }
+
+            if (instruction.lhsOp == null) {
+                continue;
+            }
+            BIRVariableDcl lhsVar = instruction.lhsOp.variableDcl;
+            if (instruction.getKind() == InstructionKind.CONST_LOAD && lhsVar.kind == VarKind.TEMP) {
+                constants.put(lhsVar, ((ConstantLoad) instruction).value);
+            } else {
+                constants.remove(lhsVar);
+            }
+        }
+        return folded;
+    }
+
+    /**
+     * Returns the result of a binary operation of constants, or null if the operation cannot be folded.
+     */
+    private static Object fold(BinaryOp binaryOp, Object lhs, Object rhs) {
+        if (lhs == null || rhs == null) {
+            return null;
+        }
+
+        BType lhsType = binaryOp.rhsOp1.variableDcl.type;
+        BType rhsType = binaryOp.rhsOp2.variableDcl.type;
+        int resultTag = binaryOp.lhsOp.variableDcl.type.tag;
+        if (lhsType.tag == TypeTags.INT && rhsType.tag == TypeTags.INT && lhs instanceof Long &&
+                rhs instanceof Long) {
+            if (resultTag == TypeTags.INT) {
+                return foldIntArithmetic(binaryOp.getKind(), (long) lhs, (long) rhs);
+            } else if (resultTag == TypeTags.BOOLEAN) {
+                return foldIntComparison(binaryOp.getKind(), (long) lhs, (long) rhs);
+            }
+        } else if (lhsType.tag == TypeTags.FLOAT && rhsType.tag == TypeTags.FLOAT && resultTag == TypeTags.FLOAT &&
+                lhs instanceof Double && rhs instanceof Double) {
+            // Float comparisons are not folded, as the generated code does not order NaN the same way as Java does.
+            return foldFloatArithmetic(binaryOp.getKind(), (double) lhs, (double) rhs);
+        }
+        return null;
+    }
+
+    private static Long foldIntArithmetic(InstructionKind kind, long lhs, long rhs) {
+        try {
+            switch (kind) {
+                case ADD:
+                    return Math.addExact(lhs, rhs);
+                case SUB:
+                    return Math.subtractExact(lhs, rhs);
+                case MUL:
+                    return Math.multiplyExact(lhs, rhs);
+                case DIV:
+                    return rhs == 0 || (lhs == Long.MIN_VALUE && rhs == -1) ? null : lhs / rhs;
+                case MOD:
+                    return rhs == 0 ? null : lhs % rhs;
+                case BITWISE_AND:
+                    return lhs & rhs;
+                case BITWISE_OR:
+                    return lhs | rhs;
+                case BITWISE_XOR:
+                    return lhs ^ rhs;
+                default:
+                    return null;
+            }
+        } catch (ArithmeticException e) {
+            // Overflows panic at runtime.
+            return null;
+        }
+    }
+
+    private static Boolean foldIntComparison(InstructionKind kind, long lhs, long rhs) {
+        switch (kind) {
+            case EQUAL:
+            case REF_EQUAL:
+                return lhs == rhs;
+            case NOT_EQUAL:
+            case REF_NOT_EQUAL:
+                return lhs != rhs;
+            case LESS_THAN:
+                return lhs < rhs;
+            case LESS_EQUAL:
+                return lhs <= rhs;
+            case GREATER_THAN:
+                return lhs > rhs;
+            case GREATER_EQUAL:
+                return lhs >= rhs;
+            default:
+                return null;
+        }
+    }
+
+    private static Double foldFloatArithmetic(InstructionKind kind, double lhs, double rhs) {
+        switch (kind) {
+            case ADD:
+                return lhs + rhs;
+            case SUB:
+                return lhs - rhs;
+            case MUL:
+                return lhs * rhs;
+            case DIV:
+                return lhs / rhs;
+            case MOD:
+                return lhs % rhs;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Removes the constant loads of temporary variables which are not used in the function, such as the operands of
+     * the folded operations, along with the variables if they are not assigned elsewhere.
+     */
+    static void removeDeadConstantLoads(BIRFunction function, List<BIRBasicBlock> basicBlocks) {
+        Set<BIRVariableDcl> usedVars = new HashSet<>();
+        Set<BIRVariableDcl> assignedVars = new HashSet<>();
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                addUsedVars(instruction.getRhsOperands(), usedVars);
+            }
+            if (basicBlock.terminator != null) {
+                addUsedVars(basicBlock.terminator.getRhsOperands(), usedVars);
+                if (basicBlock.terminator.lhsOp != null) {
+                    usedVars.add(basicBlock.terminator.lhsOp.variableDcl);
+                }
+            }
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            usedVars.add(errorEntry.errorOp.variableDcl);
+        }
+
+        Set<BIRVariableDcl> removedVars = new HashSet<>();
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            List<BIRNonTerminator> instructions = new ArrayList<>(basicBlock.instructions.size());
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                BIRVariableDcl lhsVar = instruction.lhsOp == null ? null : instruction.lhsOp.variableDcl;
+                if (instruction.getKind() == InstructionKind.CONST_LOAD && lhsVar.kind == VarKind.TEMP &&
+                        !usedVars.contains(lhsVar)) {
+                    removedVars.add(lhsVar);
+                    continue;
+                }
+                if (lhsVar != null) {
+                    assignedVars.add(lhsVar);
+                }
+                instructions.add(instruction);
+            }
+            basicBlock.instructions = instructions;
+        }
+
+        removedVars.removeAll(assignedVars);
+        if (!removedVars.isEmpty()) {
+            function.localVars.removeIf(removedVars::contains);
+        }
+    }
+
+    private static void addUsedVars(BIROperand[] operands, Set<BIRVariableDcl> usedVars) {
+        for (BIROperand operand : operands) {
+            if (operand != null) {
+                usedVars.add(operand.variableDcl);
+            }
+        }
+    }
+}
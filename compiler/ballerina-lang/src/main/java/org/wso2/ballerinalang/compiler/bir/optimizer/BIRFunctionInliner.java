@@ -0,0 +1,442 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.IsLike;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.GOTO;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_CLASS_PREFIX;
+
+/**
+ * Inlines the calls to small functions of a module into the functions which are hot in the execution profile of the
+ * program, and lets the later optimizations work on the code of the called functions along with the code around the
+ * calls.
+ * <p>
+ * The method generated for a function is too large for the JIT compiler to inline, however small the function is, as
+ * it saves and restores the state of its strand around the calls which can yield. Hence the body of a function of the
+ * same module is copied into a hot function in place of a call to it, if the body consists of at most
+ * {@link #MAX_CALLEE_INSTRUCTIONS} instructions, none of which can yield, call another function or panic. The copy
+ * has no frame of its own and reports the line of the call, so a function which can panic is not inlined, as the stack
+ * trace of the panic would lose the frame and the line of the function. The calls in a function with a trap are not
+ * inlined, as a trap covers a range of basic blocks.
+ * <p>
+ * The profile is recorded by running the program with the {@code b7a.profile.output} configuration. A function is hot
+ * if it is on the stack in at least {@link #HOT_FUNCTION_SAMPLE_RATIO} of the samples of the hottest function.
+ *
+ * @since 2.0.0
+ */
+public class BIRFunctionInliner {
+
+    private static final int MAX_CALLEE_INSTRUCTIONS = 10;
+    private static final int MAX_INLINED_INSTRUCTIONS_PER_FUNCTION = 200;
+    private static final double HOT_FUNCTION_SAMPLE_RATIO = 0.01;
+    private static final String PROFILE_COMMENT_PREFIX = "#";
+    private static final String PROFILE_SEPARATOR = "\t";
+
+    private final Path profilePath;
+    private Set<String> hotFunctions;
+    private int nextVarId;
+    private int nextBBId;
+
+    public BIRFunctionInliner(Path profilePath) {
+        this.profilePath = profilePath;
+    }
+
+    public void optimizeNode(BIRPackage pkg) {
+        if (hotFunctions == null) {
+            hotFunctions = readHotFunctions(profilePath);
+        }
+
+        Map<String, BIRFunction> callees = new HashMap<>();
+        for (BIRFunction function : pkg.functions) {
+            if (isInlinable(function)) {
+                callees.put(function.name.value, function);
+            }
+        }
+        if (callees.isEmpty()) {
+            return;
+        }
+
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            String className = JvmCodeGenUtil.getPackageName(pkg) + VALUE_CLASS_PREFIX + typeDef.name.value;
+            for (BIRFunction function : typeDef.attachedFuncs) {
+                if (isHot(className, function)) {
+                    inlineCalls(pkg, function, callees);
+                }
+            }
+        }
+        for (BIRFunction function : pkg.functions) {
+            if (function.pos == null) {
+                continue;
+            }
+            String className = JvmCodeGenUtil.getModuleLevelClassName(
+                    pkg, JvmCodeGenUtil.cleanupPathSeparators(function.pos.lineRange().filePath()));
+            if (isHot(className, function)) {
+                inlineCalls(pkg, function, callees);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a function is hot. A function is identified in the profile by the binary name of the class it is
+     * generated into and its name.
+     */
+    private boolean isHot(String className, BIRFunction function) {
+        return hotFunctions.contains(className.replace('/', '.') + PROFILE_SEPARATOR + function.name.value);
+    }
+
+    private static Set<String> readHotFunctions(Path profilePath) {
+        Map<String, Long> sampleCounts = new HashMap<>();
+        long maxSampleCount = 0;
+        try {
+            for (String line : Files.readAllLines(profilePath, StandardCharsets.UTF_8)) {
+                if (line.trim().isEmpty() || line.startsWith(PROFILE_COMMENT_PREFIX)) {
+                    continue;
+                }
+                String[] fields = line.split(PROFILE_SEPARATOR);
+                if (fields.length != 3) {
+                    throw new BLangCompilerException("invalid entry in the profile '" + profilePath + "': " + line);
+                }
+                long sampleCount = Long.parseLong(fields[0].trim());
+                sampleCounts.put(fields[1] + PROFILE_SEPARATOR + fields[2], sampleCount);
+                maxSampleCount = Math.max(maxSampleCount, sampleCount);
+            }
+        } catch (IOException e) {
+            throw new BLangCompilerException("unable to read the profile '" + profilePath + "'", e);
+        } catch (NumberFormatException e) {
+            throw new BLangCompilerException("invalid sample count in the profile '" + profilePath + "'", e);
+        }
+
+        Set<String> hotFunctions = new HashSet<>();
+        for (Map.Entry<String, Long> entry : sampleCounts.entrySet()) {
+            if (entry.getValue() > 0 && entry.getValue() >= maxSampleCount * HOT_FUNCTION_SAMPLE_RATIO) {
+                hotFunctions.add(entry.getKey());
+            }
+        }
+        return hotFunctions;
+    }
+
+    private static boolean isInlinable(BIRFunction function) {
+        String name = function.name.value;
+        // Generated functions, such as the module initializers and the lambdas, are not called by name.
+        if (name.startsWith("$") || name.startsWith(".") || function.receiver != null || function.restParam != null ||
+                JvmCodeGenUtil.isExternFunc(function) || function.workerChannels.length > 0 ||
+                !function.errorTable.isEmpty() || function.basicBlocks.isEmpty() ||
+                function.argsCount != function.parameters.size()) {
+            return false;
+        }
+        for (List<BIRBasicBlock> defaultValueBBs : function.parameters.values()) {
+            if (!defaultValueBBs.isEmpty()) {
+                return false;
+            }
+        }
+
+        int instructionCount = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isCopyable(instruction)) {
+                    return false;
+                }
+            }
+            instructionCount += basicBlock.instructions.size();
+            InstructionKind terminatorKind = basicBlock.terminator.getKind();
+            if (terminatorKind != InstructionKind.GOTO && terminatorKind != InstructionKind.BRANCH &&
+                    terminatorKind != InstructionKind.RETURN) {
+                return false;
+            }
+        }
+        return instructionCount <= MAX_CALLEE_INSTRUCTIONS;
+    }
+
+    private static boolean isCopyable(BIRNonTerminator instruction) {
+        if (instruction instanceof BinaryOp) {
+            return !canPanic((BinaryOp) instruction);
+        } else if (instruction instanceof TypeCast) {
+            // A checked cast panics if the value is not of the type.
+            return !((TypeCast) instruction).checkTypes;
+        } else if (instruction instanceof FieldAccess) {
+            // Stores panic on immutable values, and the other loads on missing members, e.g. an array index out of
+            // range. A field of a record or an object, or a member of a map, is loaded without a panic.
+            InstructionKind kind = instruction.getKind();
+            return kind == InstructionKind.OBJECT_LOAD ||
+                    (kind == InstructionKind.MAP_LOAD && !((FieldAccess) instruction).fillingRead);
+        }
+        return instruction instanceof Move || instruction instanceof ConstantLoad || instruction instanceof UnaryOP ||
+                instruction instanceof TypeTest || instruction instanceof IsLike;
+    }
+
+    /**
+     * Returns whether a binary operation can panic. The int and decimal arithmetic panics on an overflow or a division
+     * by zero, while the float arithmetic, the string concatenation, the comparisons and the bitwise operations do not.
+     */
+    private static boolean canPanic(BinaryOp binaryOp) {
+        switch (binaryOp.getKind()) {
+            case ADD:
+            case SUB:
+            case MUL:
+            case DIV:
+            case MOD:
+                int resultTypeTag = binaryOp.lhsOp.variableDcl.type.tag;
+                return resultTypeTag != TypeTags.FLOAT && !TypeTags.isStringTypeTag(resultTypeTag);
+            default:
+                return false;
+        }
+    }
+
+    private static int getInstructionCount(BIRFunction function) {
+        int instructionCount = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            instructionCount += basicBlock.instructions.size();
+        }
+        return instructionCount;
+    }
+
+    private void inlineCalls(BIRPackage pkg, BIRFunction function, Map<String, BIRFunction> callees) {
+        if (!function.errorTable.isEmpty()) {
+            return;
+        }
+
+        nextVarId = BIRScalarReplacer.getMaxTempVarId(function) + 1;
+        nextBBId = getMaxBBId(function) + 1;
+        int remainingInstructions = MAX_INLINED_INSTRUCTIONS_PER_FUNCTION;
+        List<BIRBasicBlock> basicBlocks = function.basicBlocks;
+        // The basic blocks of an inlined function are added after the block of the call, and contain no calls.
+        for (int i = 0; i < basicBlocks.size(); i++) {
+            BIRBasicBlock basicBlock = basicBlocks.get(i);
+            BIRFunction callee = getInlinableCallee(pkg, function, basicBlock.terminator, callees);
+            if (callee == null || getInstructionCount(callee) > remainingInstructions) {
+                continue;
+            }
+
+            List<BIRBasicBlock> inlinedBBs = inlineCall(function, basicBlock, (Call) basicBlock.terminator, callee);
+            basicBlocks.addAll(i + 1, inlinedBBs);
+            i += inlinedBBs.size();
+            remainingInstructions -= getInstructionCount(callee);
+            function.dependentGlobalVars.addAll(callee.dependentGlobalVars);
+        }
+    }
+
+    private static BIRFunction getInlinableCallee(BIRPackage pkg, BIRFunction function, BIRTerminator terminator,
+                                                  Map<String, BIRFunction> callees) {
+        if (terminator == null || terminator.getKind() != InstructionKind.CALL) {
+            return null;
+        }
+        Call call = (Call) terminator;
+        PackageID calleePkg = call.calleePkg;
+        if (call.isVirtual || !calleePkg.orgName.equals(pkg.org) || !calleePkg.name.equals(pkg.name) ||
+                !calleePkg.version.equals(pkg.version)) {
+            return null;
+        }
+        BIRFunction callee = callees.get(call.name.value);
+        if (callee == null || callee == function || call.args.size() != callee.parameters.size()) {
+            return null;
+        }
+        return callee;
+    }
+
+    /**
+     * Replaces a call with a copy of the body of the called function, and returns the basic blocks of the copy. The
+     * arguments are assigned to copies of the parameters, and the return value to the variable of the call.
+     */
+    private List<BIRBasicBlock> inlineCall(BIRFunction function, BIRBasicBlock callBB, Call call,
+                                           BIRFunction callee) {
+        Map<BIRVariableDcl, BIRVariableDcl> vars = new HashMap<>();
+        Map<BIRBasicBlock, BIRBasicBlock> basicBlocks = new IdentityHashMap<>();
+        List<BIRBasicBlock> inlinedBBs = new ArrayList<>(callee.basicBlocks.size());
+        for (BIRBasicBlock calleeBB : callee.basicBlocks) {
+            BIRBasicBlock inlinedBB = new BIRBasicBlock(new Name(Names.BIR_BASIC_BLOCK_PREFIX.value + nextBBId++));
+            basicBlocks.put(calleeBB, inlinedBB);
+            inlinedBBs.add(inlinedBB);
+        }
+
+        List<BIRVariableDcl> params = new ArrayList<>(callee.parameters.keySet());
+        for (int i = 0; i < params.size(); i++) {
+            callBB.instructions.add(assign(call, call.args.get(i), copyOperand(function, params.get(i), vars)));
+        }
+        callBB.terminator = withCallScope(call, new GOTO(call.pos, basicBlocks.get(callee.basicBlocks.get(0))));
+
+        for (BIRBasicBlock calleeBB : callee.basicBlocks) {
+            BIRBasicBlock inlinedBB = basicBlocks.get(calleeBB);
+            for (BIRNonTerminator instruction : calleeBB.instructions) {
+                inlinedBB.instructions.add(copyInstruction(function, call, instruction, vars));
+            }
+
+            BIRTerminator terminator = calleeBB.terminator;
+            switch (terminator.getKind()) {
+                case GOTO:
+                    BIRBasicBlock targetBB = basicBlocks.get(((GOTO) terminator).targetBB);
+                    inlinedBB.terminator = withCallScope(call, new GOTO(call.pos, targetBB));
+                    break;
+                case BRANCH:
+                    Branch branch = (Branch) terminator;
+                    inlinedBB.terminator = withCallScope(call, new Branch(call.pos,
+                                                                           copyOperand(function, branch.op, vars),
+                                                                           basicBlocks.get(branch.trueBB),
+                                                                           basicBlocks.get(branch.falseBB)));
+                    break;
+                default:
+                    if (call.lhsOp != null) {
+                        inlinedBB.instructions.add(assign(call, copyOperand(function, callee.returnVariable, vars),
+                                                          call.lhsOp));
+                    }
+                    inlinedBB.terminator = withCallScope(call, new GOTO(call.pos, call.thenBB));
+                    break;
+            }
+        }
+        return inlinedBBs;
+    }
+
+    /**
+     * Copies an instruction of the called function. The copy is attributed to the call, so that the line numbers and
+     * the scopes of the function it is copied into stay consistent.
+     */
+    private BIRNonTerminator copyInstruction(BIRFunction function, Call call, BIRNonTerminator instruction,
+                                             Map<BIRVariableDcl, BIRVariableDcl> vars) {
+        BIROperand lhsOp = copyOperand(function, instruction.lhsOp, vars);
+        BIRNonTerminator copy;
+        if (instruction instanceof Move) {
+            copy = new Move(call.pos, copyOperand(function, ((Move) instruction).rhsOp, vars), lhsOp);
+        } else if (instruction instanceof ConstantLoad) {
+            ConstantLoad constantLoad = (ConstantLoad) instruction;
+            copy = new ConstantLoad(call.pos, constantLoad.value, constantLoad.type, lhsOp);
+        } else if (instruction instanceof BinaryOp) {
+            BinaryOp binaryOp = (BinaryOp) instruction;
+            copy = new BinaryOp(call.pos, binaryOp.getKind(), lhsOp.variableDcl.type, lhsOp,
+                                copyOperand(function, binaryOp.rhsOp1, vars),
+                                copyOperand(function, binaryOp.rhsOp2, vars));
+        } else if (instruction instanceof UnaryOP) {
+            copy = new UnaryOP(call.pos, instruction.getKind(), lhsOp,
+                               copyOperand(function, ((UnaryOP) instruction).rhsOp, vars));
+        } else if (instruction instanceof TypeCast) {
+            TypeCast typeCast = (TypeCast) instruction;
+            copy = new TypeCast(call.pos, lhsOp, copyOperand(function, typeCast.rhsOp, vars), typeCast.type,
+                                typeCast.checkTypes);
+        } else if (instruction instanceof TypeTest) {
+            TypeTest typeTest = (TypeTest) instruction;
+            copy = new TypeTest(call.pos, typeTest.type, lhsOp, copyOperand(function, typeTest.rhsOp, vars));
+        } else if (instruction instanceof IsLike) {
+            IsLike isLike = (IsLike) instruction;
+            copy = new IsLike(call.pos, isLike.type, lhsOp, copyOperand(function, isLike.rhsOp, vars));
+        } else {
+            FieldAccess fieldAccess = (FieldAccess) instruction;
+            FieldAccess fieldAccessCopy = new FieldAccess(call.pos, fieldAccess.getKind(), lhsOp,
+                                                          copyOperand(function, fieldAccess.keyOp, vars),
+                                                          copyOperand(function, fieldAccess.rhsOp, vars),
+                                                          fieldAccess.optionalFieldAccess, fieldAccess.fillingRead);
+            fieldAccessCopy.onInitialization = fieldAccess.onInitialization;
+            copy = fieldAccessCopy;
+        }
+        copy.scope = call.scope;
+        return copy;
+    }
+
+    private static BIRTerminator withCallScope(Call call, BIRTerminator terminator) {
+        terminator.scope = call.scope;
+        return terminator;
+    }
+
+    private BIROperand copyOperand(BIRFunction function, BIROperand operand, Map<BIRVariableDcl, BIRVariableDcl> vars) {
+        return operand == null ? null : copyOperand(function, operand.variableDcl, vars);
+    }
+
+    /**
+     * Returns an operand of the copy of a variable of the called function. Global variables and constants are not
+     * copied.
+     */
+    private BIROperand copyOperand(BIRFunction function, BIRVariableDcl var, Map<BIRVariableDcl, BIRVariableDcl> vars) {
+        if (var.kind == VarKind.GLOBAL || var.kind == VarKind.CONSTANT || var.kind == VarKind.SELF) {
+            return new BIROperand(var);
+        }
+        BIRVariableDcl copy = vars.computeIfAbsent(var, calleeVar -> {
+            BIRVariableDcl localVar = new BIRVariableDcl(calleeVar.type,
+                                                         new Name(Names.BIR_LOCAL_VAR_PREFIX.value + nextVarId++),
+                                                         VarScope.FUNCTION, VarKind.TEMP);
+            function.localVars.add(localVar);
+            return localVar;
+        });
+        return new BIROperand(copy);
+    }
+
+    private static BIRNonTerminator assign(Call call, BIROperand rhsOp, BIROperand lhsOp) {
+        BIRNonTerminator assignment;
+        if (rhsOp.variableDcl.type == lhsOp.variableDcl.type) {
+            assignment = new Move(call.pos, rhsOp, lhsOp);
+        } else {
+            // The value is converted to the type it is assigned to, e.g. boxed when passed as 'any', as the call would.
+            assignment = new TypeCast(call.pos, lhsOp, rhsOp, lhsOp.variableDcl.type, false);
+        }
+        assignment.scope = call.scope;
+        return assignment;
+    }
+
+    private static int getMaxBBId(BIRFunction function) {
+        List<BIRBasicBlock> basicBlocks = BIRConstantFolder.getBasicBlocks(function);
+        int maxBBId = 0;
+        String prefix = Names.BIR_BASIC_BLOCK_PREFIX.value;
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            String id = basicBlock.id.value;
+            if (!id.startsWith(prefix)) {
+                continue;
+            }
+            try {
+                maxBBId = Math.max(maxBBId, Integer.parseInt(id.substring(prefix.length())));
+            } catch (NumberFormatException e) {
+                // Not a generated basic block id.
+            }
+        }
+        return maxBBId;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
@@ -33,8 +34,10 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -51,6 +54,9 @@ public class BIROptimizer {
     private static final CompilerContext.Key<BIROptimizer> BIR_OPTIMIZER = new CompilerContext.Key<>();
     private final RHSTempVarOptimizer rhsTempVarOptimizer;
     private final LHSTempVarOptimizer lhsTempVarOptimizer;
+    private final BIRFunctionInliner functionInliner;
+    private final BIRConstantFolder constantFolder;
+    private final BIRScalarReplacer scalarReplacer;
     private final BIRLockOptimizer lockOptimizer;
     private final BirVariableOptimizer variableOptimizer;
 
@@ -67,6 +73,10 @@ public class BIROptimizer {
         context.put(BIR_OPTIMIZER, this);
         this.rhsTempVarOptimizer = new RHSTempVarOptimizer();
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
+        String profileFile = CompilerOptions.getInstance(context).get(CompilerOptionName.PROFILE_FILE);
+        this.functionInliner = profileFile == null ? null : new BIRFunctionInliner(Paths.get(profileFile));
+        this.constantFolder = new BIRConstantFolder();
+        this.scalarReplacer = new BIRScalarReplacer();
         this.lockOptimizer = new BIRLockOptimizer();
         this.variableOptimizer = new BirVariableOptimizer();
     }
@@ -78,6 +88,17 @@ public class BIROptimizer {
         // LHS temp var optimization
         this.lhsTempVarOptimizer.optimizeNode(pkg, null);
 
+        // Inline the small functions called by the hot functions of the profile, if one is given
+        if (this.functionInliner != null) {
+            this.functionInliner.optimizeNode(pkg);
+        }
+
+        // Fold constant expressions and remove the constants which are no longer used
+        this.constantFolder.optimizeNode(pkg);
+
+        // Replace the tuples which do not escape the functions with their members
+        this.scalarReplacer.optimizeNode(pkg);
+
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
         variableOptimizer.optimizeNode(pkg);
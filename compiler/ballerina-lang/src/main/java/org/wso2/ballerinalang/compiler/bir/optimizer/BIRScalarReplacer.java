@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewArray;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the tuples which do not escape the function they are created in with their members, so that they are not
+ * allocated at all, e.g. the tuple created to destructure a list constructor as in {@code [a, b] = [b, a]}.
+ * <p>
+ * A tuple does not escape if the variable it is created into is a temporary or a synthetic variable which is not
+ * assigned elsewhere, and is only used to load its members at constant indexes. The members are then copied into new
+ * temporary variables where the tuple is created, and the member loads read those variables instead.
+ *
+ * @since 2.0.0
+ */
+public class BIRScalarReplacer {
+
+    public void optimizeNode(BIRPackage pkg) {
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            typeDef.attachedFuncs.forEach(this::optimizeFunction);
+        }
+        pkg.functions.forEach(this::optimizeFunction);
+    }
+
+    private void optimizeFunction(BIRFunction function) {
+        List<BIRBasicBlock> basicBlocks = BIRConstantFolder.getBasicBlocks(function);
+        Map<BIRVariableDcl, NewArray> tuples = new HashMap<>();
+        Map<BIRVariableDcl, Integer> assignmentCounts = new HashMap<>();
+        Map<BIRVariableDcl, Long> constantIndexes = new HashMap<>();
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.lhsOp == null) {
+                    continue;
+                }
+                BIRVariableDcl lhsVar = instruction.lhsOp.variableDcl;
+                assignmentCounts.merge(lhsVar, 1, Integer::sum);
+                if (instruction.getKind() == InstructionKind.NEW_ARRAY && isReplaceableTuple((NewArray) instruction)) {
+                    tuples.put(lhsVar, (NewArray) instruction);
+                } else if (instruction.getKind() == InstructionKind.CONST_LOAD &&
+                        ((ConstantLoad) instruction).value instanceof Long) {
+                    constantIndexes.put(lhsVar, (Long) ((ConstantLoad) instruction).value);
+                }
+            }
+            if (basicBlock.terminator != null && basicBlock.terminator.lhsOp != null) {
+                assignmentCounts.merge(basicBlock.terminator.lhsOp.variableDcl, 1, Integer::sum);
+            }
+        }
+        tuples.keySet().removeIf(tupleVar -> assignmentCounts.get(tupleVar) > 1);
+        if (tuples.isEmpty()) {
+            return;
+        }
+        constantIndexes.keySet().removeIf(indexVar -> assignmentCounts.get(indexVar) > 1);
+
+        removeEscapingTuples(function, basicBlocks, tuples, constantIndexes);
+        if (tuples.isEmpty()) {
+            return;
+        }
+        replaceTuples(function, basicBlocks, tuples, constantIndexes);
+        BIRConstantFolder.removeDeadConstantLoads(function, basicBlocks);
+    }
+
+    private static boolean isReplaceableTuple(NewArray newArray) {
+        BIRVariableDcl tupleVar = newArray.lhsOp.variableDcl;
+        if (tupleVar.kind != VarKind.TEMP && tupleVar.kind != VarKind.SYNTHETIC) {
+            return false;
+        }
+        if (newArray.type.tag != TypeTags.TUPLE || Symbols.isFlagOn(newArray.type.flags, Flags.READONLY)) {
+            return false;
+        }
+        BTupleType tupleType = (BTupleType) newArray.type;
+        return tupleType.restType == null && tupleType.tupleTypes.size() == newArray.values.size();
+    }
+
+    /**
+     * Removes the tuples which are used other than to load their members at constant indexes, i.e. the ones which are
+     * passed to calls, stored, returned, updated or compared.
+     */
+    private static void removeEscapingTuples(BIRFunction function, List<BIRBasicBlock> basicBlocks,
+                                             Map<BIRVariableDcl, NewArray> tuples,
+                                             Map<BIRVariableDcl, Long> constantIndexes) {
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.getKind() == InstructionKind.ARRAY_LOAD) {
+                    FieldAccess arrayLoad = (FieldAccess) instruction;
+                    NewArray newArray = tuples.get(arrayLoad.rhsOp.variableDcl);
+                    if (newArray != null && getMemberIndex(arrayLoad, newArray, constantIndexes) < 0) {
+                        tuples.remove(arrayLoad.rhsOp.variableDcl);
+                    }
+                    tuples.remove(arrayLoad.keyOp.variableDcl);
+                    continue;
+                }
+                if (instruction.getKind() != InstructionKind.NEW_ARRAY) {
+                    // E.g. an array store has the tuple as its lhs operand.
+                    removeTuple(instruction.lhsOp, tuples);
+                }
+                removeTuples(instruction, tuples);
+            }
+            if (basicBlock.terminator != null) {
+                removeTuples(basicBlock.terminator, tuples);
+            }
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            removeTuple(errorEntry.errorOp, tuples);
+        }
+    }
+
+    private static void removeTuples(BIRAbstractInstruction instruction, Map<BIRVariableDcl, NewArray> tuples) {
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            removeTuple(operand, tuples);
+        }
+    }
+
+    private static void removeTuple(BIROperand operand, Map<BIRVariableDcl, NewArray> tuples) {
+        if (operand != null) {
+            tuples.remove(operand.variableDcl);
+        }
+    }
+
+    /**
+     * Returns the index of the member loaded from the tuple, or -1 if the index is not a constant within the tuple.
+     */
+    private static int getMemberIndex(FieldAccess arrayLoad, NewArray newArray,
+                                      Map<BIRVariableDcl, Long> constantIndexes) {
+        Long index = constantIndexes.get(arrayLoad.keyOp.variableDcl);
+        if (index == null || index < 0 || index >= newArray.values.size()) {
+            return -1;
+        }
+        return index.intValue();
+    }
+
+    private static void replaceTuples(BIRFunction function, List<BIRBasicBlock> basicBlocks,
+                                      Map<BIRVariableDcl, NewArray> tuples,
+                                      Map<BIRVariableDcl, Long> constantIndexes) {
+        int nextVarId = getMaxTempVarId(function) + 1;
+        Map<BIRVariableDcl, List<BIRVariableDcl>> tupleMembers = new HashMap<>();
+        for (Map.Entry<BIRVariableDcl, NewArray> entry : tuples.entrySet()) {
+            List<BIRVariableDcl> memberVars = new ArrayList<>();
+            for (BIROperand value : entry.getValue().values) {
+                BIRVariableDcl memberVar = new BIRVariableDcl(value.variableDcl.type,
+                                                              new Name(Names.BIR_LOCAL_VAR_PREFIX.value + nextVarId++),
+                                                              VarScope.FUNCTION, VarKind.TEMP);
+                function.localVars.add(memberVar);
+                memberVars.add(memberVar);
+            }
+            tupleMembers.put(entry.getKey(), memberVars);
+        }
+
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            List<BIRNonTerminator> instructions = new ArrayList<>(basicBlock.instructions.size());
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.getKind() == InstructionKind.NEW_ARRAY &&
+                        tuples.containsKey(instruction.lhsOp.variableDcl)) {
+                    // The members are copied, as the variables they are read from may be assigned again before the
+                    // members are loaded, e.g. when swapping them.
+                    NewArray newArray = (NewArray) instruction;
+                    List<BIRVariableDcl> memberVars = tupleMembers.get(newArray.lhsOp.variableDcl);
+                    for (int i = 0; i < memberVars.size(); i++) {
+                        Move move = new Move(newArray.pos, new BIROperand(newArray.values.get(i).variableDcl),
+                                             new BIROperand(memberVars.get(i)));
+                        move.scope = newArray.scope;
+                        instructions.add(move);
+                    }
+                    continue;
+                }
+                if (instruction.getKind() == InstructionKind.ARRAY_LOAD &&
+                        tuples.containsKey(((FieldAccess) instruction).rhsOp.variableDcl)) {
+                    FieldAccess arrayLoad = (FieldAccess) instruction;
+                    NewArray newArray = tuples.get(arrayLoad.rhsOp.variableDcl);
+                    BIRVariableDcl memberVar = tupleMembers.get(arrayLoad.rhsOp.variableDcl)
+                            .get(getMemberIndex(arrayLoad, newArray, constantIndexes));
+                    instructions.add(loadMember(arrayLoad, memberVar));
+                    continue;
+                }
+                instructions.add(instruction);
+            }
+            basicBlock.instructions = instructions;
+        }
+        function.localVars.removeIf(tuples::containsKey);
+    }
+
+    private static BIRNonTerminator loadMember(FieldAccess arrayLoad, BIRVariableDcl memberVar) {
+        BIRNonTerminator load;
+        if (memberVar.type == arrayLoad.lhsOp.variableDcl.type) {
+            load = new Move(arrayLoad.pos, new BIROperand(memberVar), arrayLoad.lhsOp);
+        } else {
+            // The member is converted to the type it is loaded as, e.g. boxed when loaded as 'any', as the load from
+            // the tuple would have.
+            load = new TypeCast(arrayLoad.pos, arrayLoad.lhsOp, new BIROperand(memberVar),
+                                arrayLoad.lhsOp.variableDcl.type, false);
+        }
+        load.scope = arrayLoad.scope;
+        return load;
+    }
+
+    static int getMaxTempVarId(BIRFunction function) {
+        Set<BIRVariableDcl> vars = new HashSet<>(function.localVars);
+        if (function.returnVariable != null) {
+            vars.add(function.returnVariable);
+        }
+        int maxVarId = 0;
+        String prefix = Names.BIR_LOCAL_VAR_PREFIX.value;
+        for (BIRVariableDcl var : vars) {
+            String name = var.name.value;
+            if (!name.startsWith(prefix)) {
+                continue;
+            }
+            try {
+                maxVarId = Math.max(maxVarId, Integer.parseInt(name.substring(prefix.length())));
+            } catch (NumberFormatException e) {
+                // Not a generated variable name.
+            }
+        }
+        return maxVarId;
+    }
+}
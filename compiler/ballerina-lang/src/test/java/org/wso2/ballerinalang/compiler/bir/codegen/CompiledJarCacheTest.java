@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests for the {@link CompiledJarCache} class.
+ *
+ * @since 2.0.0
+ */
+public class CompiledJarCacheTest {
+
+    private CompiledJarCache compiledJarCache;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.CODEGEN_CACHE_DIR,
+                    Files.createTempDirectory("codegen-cache-test").toString());
+        compiledJarCache = CompiledJarCache.getInstance(context);
+    }
+
+    @Test(description = "Cached jars should be read back with their entries and the main class")
+    public void testPutAndGet() {
+        Map<String, byte[]> jarEntries = new HashMap<>();
+        jarEntries.put("foo/bar/main.class", "main".getBytes(StandardCharsets.UTF_8));
+        jarEntries.put("foo/bar/$_init.class", "init".getBytes(StandardCharsets.UTF_8));
+        compiledJarCache.put("abc", new CompiledJarFile("foo.bar.main", jarEntries), 120);
+
+        CompiledJarFile cachedJarFile = compiledJarCache.get("abc");
+        Assert.assertNotNull(cachedJarFile);
+        Assert.assertEquals(cachedJarFile.getMainClassName().orElse(null), "foo.bar.main");
+        Assert.assertEquals(cachedJarFile.getJarEntries().size(), 2);
+        Assert.assertEquals(new String(cachedJarFile.getJarEntries().get("foo/bar/main.class"),
+                                       StandardCharsets.UTF_8), "main");
+        Assert.assertEquals(compiledJarCache.getHitCount(), 1);
+        Assert.assertEquals(compiledJarCache.getSavedTime(), 120);
+    }
+
+    @Test(description = "Unknown keys and jars without entries should not be served from the cache")
+    public void testMiss() {
+        compiledJarCache.put("empty", new CompiledJarFile(new HashMap<>()), 10);
+        Assert.assertNull(compiledJarCache.get("empty"));
+        Assert.assertNull(compiledJarCache.get("unknown"));
+        Assert.assertNull(compiledJarCache.get(null));
+        Assert.assertEquals(compiledJarCache.getHitCount(), 0);
+        Assert.assertEquals(compiledJarCache.getMissCount(), 2);
+
+        compiledJarCache.reset();
+        Assert.assertEquals(compiledJarCache.getMissCount(), 0);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests grouping the user defined types of a module into the classes which create them lazily.
+ *
+ * @since 2.0.0
+ */
+public class TypeGroupTest {
+
+    @Test(description = "Types which load each other should be created by the same class, after the types they load")
+    public void testTypeGroups() {
+        List<Set<Integer>> loadedTypes = new ArrayList<>();
+        loadedTypes.add(types(1));
+        loadedTypes.add(types(0, 3));
+        loadedTypes.add(types(0));
+        loadedTypes.add(types());
+        loadedTypes.add(types(4));
+
+        List<List<Integer>> groups = JvmTypeGen.findTypeGroups(loadedTypes);
+        Assert.assertEquals(groups.size(), 4);
+        Assert.assertTrue(groups.indexOf(Collections.singletonList(3)) < groups.indexOf(Arrays.asList(0, 1)));
+        Assert.assertTrue(groups.indexOf(Arrays.asList(0, 1)) < groups.indexOf(Collections.singletonList(2)));
+        Assert.assertTrue(groups.contains(Collections.singletonList(4)));
+    }
+
+    @Test(description = "Long chains of types should not overflow the stack")
+    public void testLongTypeChain() {
+        int typeCount = 100000;
+        List<Set<Integer>> loadedTypes = new ArrayList<>();
+        for (int i = 0; i < typeCount; i++) {
+            loadedTypes.add(i + 1 < typeCount ? types(i + 1) : types(0));
+        }
+
+        List<List<Integer>> groups = JvmTypeGen.findTypeGroups(loadedTypes);
+        Assert.assertEquals(groups.size(), 1);
+        Assert.assertEquals(groups.get(0).size(), typeCount);
+    }
+
+    private static Set<Integer> types(Integer... types) {
+        return new HashSet<>(Arrays.asList(types));
+    }
+}
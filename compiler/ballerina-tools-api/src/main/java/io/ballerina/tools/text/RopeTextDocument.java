@@ -0,0 +1,399 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.text;
+
+/**
+ * The {@code RopeTextDocument} represents a {@code TextDocument} backed by a rope, which is a balanced tree of
+ * text chunks.
+ * <p>
+ * Each node of the rope keeps the number of characters and line breaks under it, so applying an edit, mapping between
+ * text positions and line positions and fetching a line cost O(log n) instead of rebuilding the text and its lines.
+ * The rope is immutable and an edited document shares all the unchanged nodes with the document it was created from.
+ *
+ * @since 2.0.0
+ */
+class RopeTextDocument extends TextDocument {
+
+    /**
+     * Maximum number of characters held by a leaf. Adjacent leaves smaller than this are merged when they are joined.
+     */
+    static final int LEAF_SIZE = 1024;
+    private static final Node EMPTY = new Leaf("");
+
+    private final Node root;
+
+    RopeTextDocument(String text) {
+        this(build(text, 0, text.length()));
+    }
+
+    private RopeTextDocument(Node root) {
+        this.root = root;
+    }
+
+    @Override
+    public TextDocument apply(TextDocumentChange textDocumentChange) {
+        // Edits are applied from the last to the first, so that the ranges of the remaining edits are still valid.
+        Node node = root;
+        for (int i = textDocumentChange.getTextEditCount() - 1; i >= 0; i--) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            TextRange textRange = textEdit.range();
+            Node[] head = split(node, textRange.startOffset());
+            Node[] tail = split(head[1], textRange.endOffset() - textRange.startOffset());
+            String text = textEdit.text();
+            node = join(join(head[0], build(text, 0, text.length())), tail[1]);
+        }
+        return new RopeTextDocument(node);
+    }
+
+    @Override
+    protected LineMap populateTextLineMap() {
+        // Only used by callers which need all the lines at once. Single lines are computed from the rope.
+        return new StringTextDocument(toString()).populateTextLineMap();
+    }
+
+    @Override
+    public char[] toCharArray() {
+        char[] chars = new char[root.length];
+        root.getChars(chars, 0);
+        return chars;
+    }
+
+    @Override
+    public TextLine line(int line) {
+        lineRangeCheck(line);
+        return textLine(line);
+    }
+
+    @Override
+    public LinePosition linePositionFrom(int textPosition) {
+        if (textPosition < 0 || textPosition > root.length) {
+            throw new IndexOutOfBoundsException("Index: '" + textPosition + "', Size: '" + root.length + "'");
+        }
+
+        int line = root.countBreaks(textPosition);
+        return LinePosition.from(line, textPosition - lineStartOffset(line));
+    }
+
+    @Override
+    public int textPositionFrom(LinePosition linePosition) {
+        lineRangeCheck(linePosition.line());
+        TextLine textLine = textLine(linePosition.line());
+        if (textLine.length() < linePosition.offset()) {
+            throw new IllegalArgumentException("Cannot find a line with the character offset '" +
+                    linePosition.offset() + "'");
+        }
+
+        return textLine.startOffset() + linePosition.offset();
+    }
+
+    public String toString() {
+        return new String(toCharArray());
+    }
+
+    /**
+     * Returns the height of the rope. Used to verify that the rope stays balanced.
+     *
+     * @return the height of the rope
+     */
+    int height() {
+        return root.height;
+    }
+
+    private void lineRangeCheck(int lineNo) {
+        int lineCount = root.breaks + 1;
+        if (lineNo < 0 || lineNo >= lineCount) {
+            throw new IndexOutOfBoundsException("Line number: '" + lineNo + "', Size: '" + lineCount + "'");
+        }
+    }
+
+    private int lineStartOffset(int line) {
+        return line == 0 ? 0 : root.breakEnd(line);
+    }
+
+    private TextLine textLine(int line) {
+        int startOffset = lineStartOffset(line);
+        int endOffset;
+        int lengthOfNewLineChars;
+        if (line < root.breaks) {
+            int endOffsetWithNewLines = root.breakEnd(line + 1);
+            if (root.charAt(endOffsetWithNewLines - 1) == '\n' && endOffsetWithNewLines - 2 >= startOffset &&
+                    root.charAt(endOffsetWithNewLines - 2) == '\r') {
+                lengthOfNewLineChars = 2;
+            } else {
+                lengthOfNewLineChars = 1;
+            }
+            endOffset = endOffsetWithNewLines - lengthOfNewLineChars;
+        } else {
+            endOffset = root.length;
+            lengthOfNewLineChars = 0;
+        }
+
+        StringBuilder text = new StringBuilder(endOffset - startOffset);
+        root.append(text, startOffset, endOffset);
+        return new TextLine(line, text.toString(), startOffset, endOffset, lengthOfNewLineChars);
+    }
+
+    private static Node build(String text, int start, int end) {
+        if (end - start <= LEAF_SIZE) {
+            return start == end ? EMPTY : new Leaf(text.substring(start, end));
+        }
+
+        int middle = (start + end) >>> 1;
+        return new Concat(build(text, start, middle), build(text, middle, end));
+    }
+
+    /**
+     * Splits the rope at the given position.
+     *
+     * @param node     the rope
+     * @param position position to split at
+     * @return the rope before the position and the rope after the position
+     */
+    private static Node[] split(Node node, int position) {
+        if (position <= 0) {
+            return new Node[]{EMPTY, node};
+        } else if (position >= node.length) {
+            return new Node[]{node, EMPTY};
+        }
+
+        if (node instanceof Leaf) {
+            String text = ((Leaf) node).text;
+            return new Node[]{new Leaf(text.substring(0, position)), new Leaf(text.substring(position))};
+        }
+
+        Concat concat = (Concat) node;
+        if (position <= concat.left.length) {
+            Node[] leftParts = split(concat.left, position);
+            return new Node[]{leftParts[0], join(leftParts[1], concat.right)};
+        }
+
+        Node[] rightParts = split(concat.right, position - concat.left.length);
+        return new Node[]{join(concat.left, rightParts[0]), rightParts[1]};
+    }
+
+    /**
+     * Joins two ropes, keeping the result balanced as in an AVL tree. This costs O(log n) as only the spine of the
+     * taller rope is copied.
+     */
+    private static Node join(Node left, Node right) {
+        if (left.length == 0) {
+            return right;
+        } else if (right.length == 0) {
+            return left;
+        }
+
+        if (left instanceof Leaf && right instanceof Leaf && left.length + right.length <= LEAF_SIZE) {
+            return new Leaf(((Leaf) left).text + ((Leaf) right).text);
+        }
+
+        if (left.height > right.height + 1) {
+            Concat concat = (Concat) left;
+            return balance(concat.left, join(concat.right, right));
+        } else if (right.height > left.height + 1) {
+            Concat concat = (Concat) right;
+            return balance(join(left, concat.left), concat.right);
+        }
+        return new Concat(left, right);
+    }
+
+    private static Node balance(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            Concat concat = (Concat) left;
+            if (concat.left.height >= concat.right.height) {
+                return new Concat(concat.left, new Concat(concat.right, right));
+            }
+            Concat inner = (Concat) concat.right;
+            return new Concat(new Concat(concat.left, inner.left), new Concat(inner.right, right));
+        } else if (right.height > left.height + 1) {
+            Concat concat = (Concat) right;
+            if (concat.right.height >= concat.left.height) {
+                return new Concat(new Concat(left, concat.left), concat.right);
+            }
+            Concat inner = (Concat) concat.left;
+            return new Concat(new Concat(left, inner.left), new Concat(inner.right, concat.right));
+        }
+        return new Concat(left, right);
+    }
+
+    /**
+     * A node of the rope.
+     * <p>
+     * A line break is either a line feed, a carriage return or a carriage return followed by a line feed. A trailing
+     * carriage return of a node is counted as a line break of the node, and the parent node drops it if the next node
+     * starts with a line feed.
+     */
+    private abstract static class Node {
+        final int length;
+        final int breaks;
+        final int height;
+        final char first;
+        final char last;
+
+        Node(int length, int breaks, int height, char first, char last) {
+            this.length = length;
+            this.breaks = breaks;
+            this.height = height;
+            this.first = first;
+            this.last = last;
+        }
+
+        abstract char charAt(int index);
+
+        abstract void getChars(char[] dest, int destBegin);
+
+        abstract void append(StringBuilder sb, int start, int end);
+
+        /**
+         * Returns the number of line breaks which end at or before the given position.
+         */
+        abstract int countBreaks(int position);
+
+        /**
+         * Returns the position right after the k<sup>th</sup> line break, starting from 1.
+         */
+        abstract int breakEnd(int k);
+    }
+
+    /**
+     * A chunk of text.
+     */
+    private static class Leaf extends Node {
+        private final String text;
+
+        Leaf(String text) {
+            super(text.length(), countBreaks(text, text.length()), 0,
+                    text.isEmpty() ? 0 : text.charAt(0), text.isEmpty() ? 0 : text.charAt(text.length() - 1));
+            this.text = text;
+        }
+
+        @Override
+        char charAt(int index) {
+            return text.charAt(index);
+        }
+
+        @Override
+        void getChars(char[] dest, int destBegin) {
+            text.getChars(0, length, dest, destBegin);
+        }
+
+        @Override
+        void append(StringBuilder sb, int start, int end) {
+            sb.append(text, start, end);
+        }
+
+        @Override
+        int countBreaks(int position) {
+            return countBreaks(text, position);
+        }
+
+        @Override
+        int breakEnd(int k) {
+            int count = 0;
+            for (int i = 0; i < length; i++) {
+                if (isBreak(text, i) && ++count == k) {
+                    return i + 1;
+                }
+            }
+            throw new IndexOutOfBoundsException("Line break: '" + k + "', Size: '" + breaks + "'");
+        }
+
+        private static int countBreaks(String text, int position) {
+            int count = 0;
+            for (int i = 0; i < position; i++) {
+                if (isBreak(text, i)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Checks whether a line break ends right after the given index. The line feed of a carriage return followed
+         * by a line feed ends the line break.
+         */
+        private static boolean isBreak(String text, int index) {
+            char c = text.charAt(index);
+            return c == '\n' || (c == '\r' && (index + 1 == text.length() || text.charAt(index + 1) != '\n'));
+        }
+    }
+
+    /**
+     * The concatenation of two non-empty ropes.
+     */
+    private static class Concat extends Node {
+        private final Node left;
+        private final Node right;
+        /**
+         * Number of line breaks of the left node which are not line breaks of this node, which is 1 if the left node
+         * ends with a carriage return and the right node starts with a line feed.
+         */
+        private final int joinedBreaks;
+
+        Concat(Node left, Node right) {
+            super(left.length + right.length, left.breaks + right.breaks - joinedBreaks(left, right),
+                    Math.max(left.height, right.height) + 1, left.first, right.last);
+            this.left = left;
+            this.right = right;
+            this.joinedBreaks = joinedBreaks(left, right);
+        }
+
+        @Override
+        char charAt(int index) {
+            return index < left.length ? left.charAt(index) : right.charAt(index - left.length);
+        }
+
+        @Override
+        void getChars(char[] dest, int destBegin) {
+            left.getChars(dest, destBegin);
+            right.getChars(dest, destBegin + left.length);
+        }
+
+        @Override
+        void append(StringBuilder sb, int start, int end) {
+            if (start < left.length) {
+                left.append(sb, start, Math.min(end, left.length));
+            }
+            if (end > left.length) {
+                right.append(sb, Math.max(start - left.length, 0), end - left.length);
+            }
+        }
+
+        @Override
+        int countBreaks(int position) {
+            if (position < left.length) {
+                return left.countBreaks(position);
+            } else if (position == left.length) {
+                return left.breaks - joinedBreaks;
+            }
+            return left.breaks - joinedBreaks + right.countBreaks(position - left.length);
+        }
+
+        @Override
+        int breakEnd(int k) {
+            int leftBreaks = left.breaks - joinedBreaks;
+            if (k <= leftBreaks) {
+                return left.breakEnd(k);
+            }
+            return left.length + right.breakEnd(k - leftBreaks);
+        }
+
+        private static int joinedBreaks(Node left, Node right) {
+            return left.last == '\r' && right.first == '\n' ? 1 : 0;
+        }
+    }
+}
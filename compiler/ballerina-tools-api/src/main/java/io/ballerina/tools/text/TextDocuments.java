@@ -22,10 +22,19 @@ package io.ballerina.tools.text;
  */
 public class TextDocuments {
 
+    /**
+     * Minimum number of characters of a document to be backed by a rope. Edits on smaller documents are cheaper to
+     * apply by copying the text.
+     */
+    static final int ROPE_THRESHOLD = 32 * 1024;
+
     private TextDocuments() {
     }
 
     public static TextDocument from(String text) {
+        if (text.length() >= ROPE_THRESHOLD) {
+            return new RopeTextDocument(text);
+        }
         return new StringTextDocument(text);
     }
 
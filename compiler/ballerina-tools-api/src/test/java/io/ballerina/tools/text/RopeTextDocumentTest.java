@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.text;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * Test the rope backed {@code TextDocument} against the string backed {@code TextDocument}.
+ *
+ * @since 2.0.0
+ */
+public class RopeTextDocumentTest {
+
+    private static final String[] SNIPPETS = {"a", "b", " ", "\n", "\r", "\r\n", "int x = 0;", "\n\n", "}\r\n"};
+
+    @Test
+    public void testLineBreaks() {
+        String text = "import ballerina/io;\r\n\rpublic function main() {\n    io:println(\"Hello\");\r}\n\r\n";
+        assertSameDocument(new RopeTextDocument(text), new StringTextDocument(text));
+        assertSameDocument(new RopeTextDocument(""), new StringTextDocument(""));
+    }
+
+    @Test
+    public void testLargeDocument() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 10 * RopeTextDocument.LEAF_SIZE; i++) {
+            sb.append("function f").append(i).append("() {\r\n    return;\n}\r");
+        }
+        String text = sb.toString();
+        TextDocument textDocument = TextDocuments.from(text + text + text + text);
+        Assert.assertTrue(textDocument instanceof RopeTextDocument);
+        assertSameDocument(textDocument, new StringTextDocument(text + text + text + text));
+    }
+
+    @Test
+    public void testEditSession() {
+        // Replays a session of small edits, as sent by an editor while typing, on both the documents.
+        Random random = new Random(7);
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 5 * RopeTextDocument.LEAF_SIZE) {
+            sb.append("public function main() {\n}\r\n");
+        }
+        String text = sb.toString();
+        TextDocument ropeDocument = new RopeTextDocument(text);
+        TextDocument stringDocument = new StringTextDocument(text);
+        for (int i = 0; i < 3000; i++) {
+            TextDocumentChange change = randomChange(random, stringDocument.toString().length());
+            ropeDocument = ropeDocument.apply(change);
+            stringDocument = stringDocument.apply(change);
+            Assert.assertEquals(ropeDocument.toString(), stringDocument.toString());
+            if (i % 100 == 0) {
+                assertSameDocument(ropeDocument, stringDocument);
+            }
+        }
+        assertSameDocument(ropeDocument, stringDocument);
+
+        // The rope stays balanced, as an AVL tree of the leaves.
+        int leaves = ropeDocument.toString().length() / RopeTextDocument.LEAF_SIZE + 1;
+        double maxHeight = 1.45 * Math.log(leaves + 2) / Math.log(2) + 1;
+        Assert.assertTrue(((RopeTextDocument) ropeDocument).height() <= maxHeight * 2,
+                "Height: " + ((RopeTextDocument) ropeDocument).height());
+    }
+
+    @Test
+    public void testEditsDoNotModifyOldDocument() {
+        String text = "line1\nline2\nline3";
+        TextDocument oldDocument = new RopeTextDocument(text);
+        TextDocument newDocument = oldDocument.apply(TextDocumentChange.from(new TextEdit[]{
+                TextEdit.from(TextRange.from(0, 0), "x\r"),
+                TextEdit.from(TextRange.from(5, 2), "\n")}));
+        Assert.assertEquals(newDocument.toString(), "x\rline1\nine2\nline3");
+        Assert.assertEquals(oldDocument.toString(), text);
+        Assert.assertEquals(oldDocument.line(2).text(), "line3");
+        Assert.assertEquals(newDocument.line(1).text(), "line1");
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testLineOutOfRange() {
+        new RopeTextDocument("a\nb").line(2);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testPositionOutOfRange() {
+        new RopeTextDocument("a\nb").linePositionFrom(4);
+    }
+
+    private static TextDocumentChange randomChange(Random random, int length) {
+        int editCount = random.nextInt(10) == 0 ? 3 : 1;
+        TextEdit[] textEdits = new TextEdit[editCount];
+        int start = 0;
+        for (int i = 0; i < editCount; i++) {
+            int editStart = start + random.nextInt((length - start) / (editCount - i) + 1);
+            int editEnd = random.nextInt(4) == 0 ? Math.min(length, editStart + random.nextInt(5)) : editStart;
+            String text = random.nextInt(5) == 0 ? "" : SNIPPETS[random.nextInt(SNIPPETS.length)];
+            textEdits[i] = TextEdit.from(TextRange.from(editStart, editEnd - editStart), text);
+            start = editEnd;
+        }
+        return TextDocumentChange.from(textEdits);
+    }
+
+    private static void assertSameDocument(TextDocument actual, TextDocument expected) {
+        String text = expected.toString();
+        Assert.assertEquals(actual.toString(), text);
+        Assert.assertEquals(new String(actual.toCharArray()), text);
+
+        int lineCount = 0;
+        for (int position = 0; position <= text.length(); position++) {
+            LinePosition linePosition = expected.linePositionFrom(position);
+            Assert.assertEquals(actual.linePositionFrom(position), linePosition, "Position: " + position);
+            // A position between a carriage return and a line feed cannot be mapped back.
+            if (linePosition.offset() <= expected.line(linePosition.line()).length()) {
+                Assert.assertEquals(actual.textPositionFrom(linePosition), position);
+            }
+            lineCount = linePosition.line() + 1;
+        }
+
+        for (int line = 0; line < lineCount; line++) {
+            TextLine expectedLine = expected.line(line);
+            TextLine actualLine = actual.line(line);
+            Assert.assertEquals(actualLine.text(), expectedLine.text());
+            Assert.assertEquals(actualLine.startOffset(), expectedLine.startOffset());
+            Assert.assertEquals(actualLine.endOffset(), expectedLine.endOffset());
+            Assert.assertEquals(actualLine.endOffsetWithNewLines(), expectedLine.endOffsetWithNewLines());
+        }
+    }
+}
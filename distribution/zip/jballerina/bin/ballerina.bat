@@ -156,7 +156,14 @@ goto end
 
 :runJarFile
 for /f "tokens=1,*" %%a in ("%*") do set ARGS=%%b
-"%JAVA_HOME%\bin\java" %CMD_LINE_ARGS% -jar %ARGS%
+rem use the class data sharing archive created by 'ballerina build --cds', if there is one next to the jar.
+rem the jar is referred by its absolute path, as the archive is created with the absolute path of the jar.
+set CDS_OPTS=
+if exist "%~dpn2.jsa" (
+    set CDS_OPTS=-Xshare:auto -XX:SharedArchiveFile="%~dpn2.jsa"
+    for /f "tokens=2,*" %%a in ("%*") do set ARGS="%~f2" %%b
+)
+"%JAVA_HOME%\bin\java" %CMD_LINE_ARGS% %CDS_OPTS% -jar %ARGS%
 goto end
 
 :end
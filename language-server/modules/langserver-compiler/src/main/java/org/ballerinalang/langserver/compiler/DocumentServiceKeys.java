@@ -72,6 +72,8 @@ public class DocumentServiceKeys {
             = new LSContext.Key<>();
     public static final LSContext.Key<Boolean> IS_CACHE_OUTDATED_SUPPORTED
             = new LSContext.Key<>();
+    public static final LSContext.Key<Boolean> IS_INCREMENTAL_COMPILATION
+            = new LSContext.Key<>();
     public static final LSContext.Key<Boolean> COMPILE_FULL_PROJECT
             = new LSContext.Key<>();
     public static final LSContext.Key<WorkspaceDocumentManager> DOC_MANAGER_KEY
@@ -17,14 +17,20 @@ package org.ballerinalang.langserver.compiler;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.langserver.commons.LSContext;
 import org.ballerinalang.langserver.compiler.common.modal.BallerinaFile;
+import org.ballerinalang.model.tree.TopLevelNode;
 import org.wso2.ballerinalang.compiler.SourceDirectory;
+import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
+import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -40,18 +46,33 @@ import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
  * <p>
  * This Cache heavily depends on the LSP protocol for the cache eviction such that didChange, didOpen and didClose
  * clears the related entries from the cache.
+ * <p>
+ * The cache is bounded by the estimated memory retained by the cached packages, which is estimated from the number
+ * of source lines of the packages. The compiler context of an entry is not accounted, as it is shared by all the
+ * entries of the project through the {@link LSContextManager}. The budget is a quarter of the maximum heap size by
+ * default, and can be set in megabytes with the {@code ballerina.ls.compilerCacheSize} system property.
  *
  * @since 1.0.0
  */
 public class LSCompilerCache {
-    private static final long MAX_CACHE_COUNT = 10L;
+    private static final String CACHE_SIZE_PROPERTY = "ballerina.ls.compilerCacheSize";
+    // Estimated memory retained by the trees, symbols and types of a source line, in kilobytes
+    private static final int LINE_WEIGHT = 4;
+    // Estimated memory retained by an entry regardless of its sources, in kilobytes
+    private static final int ENTRY_WEIGHT = 64;
+    private static final Cache<Key, CacheEntry> CACHE;
+    private static final long MAX_WEIGHT;
     private static Map<Key, CacheEntry> packageMap;
 
     static {
-        Cache<Key, CacheEntry> cache = CacheBuilder.newBuilder()
+        MAX_WEIGHT = Long.getLong(CACHE_SIZE_PROPERTY, Runtime.getRuntime().maxMemory() / (4 * 1024 * 1024)) * 1024;
+        CACHE = CacheBuilder.newBuilder()
                 .expireAfterWrite(10, TimeUnit.MINUTES)
-                .maximumSize(MAX_CACHE_COUNT).build();
-        LSCompilerCache.packageMap = cache.asMap();
+                .maximumWeight(MAX_WEIGHT)
+                .weigher((Key key, CacheEntry entry) -> entry.weight)
+                .recordStats()
+                .build();
+        LSCompilerCache.packageMap = CACHE.asMap();
     }
 
     private LSCompilerCache() {
@@ -87,7 +108,7 @@ public class LSCompilerCache {
      * @return {@link BallerinaFile}
      */
     private static CacheEntry get(Key key, LSContext context, boolean isSinglePkg) {
-        CacheEntry cacheEntry = packageMap.get(key);
+        CacheEntry cacheEntry = CACHE.getIfPresent(key);
         if (cacheEntry == null || cacheEntry.get() == null ||
                 ((isSinglePkg) ? !cacheEntry.get().isLeft() : !cacheEntry.get().isRight())) {
             return null;
@@ -129,7 +150,7 @@ public class LSCompilerCache {
     private static void put(Key key, EitherPair<BLangPackage, List<BLangPackage>> bLangPackages, LSContext context) {
         CompilerContext compilerContext = context.get(DocumentServiceKeys.COMPILER_CONTEXT_KEY);
         String sourceRoot = key.sourceRoot;
-        packageMap.put(key, new CacheEntry(bLangPackages, compilerContext));
+        CACHE.put(key, new CacheEntry(bLangPackages, compilerContext));
         LSClientLogger.logTrace("Operation '" + context.getOperation().getName() + "' {projectRoot: '" + sourceRoot +
                 "'} added cache entry with {key: " + key + "}");
     }
@@ -158,11 +179,22 @@ public class LSCompilerCache {
         packageMap.clear();
     }
 
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return {@link Statistics}
+     */
+    public static Statistics getStatistics() {
+        long weight = packageMap.values().stream().mapToLong(entry -> entry.weight).sum();
+        return new Statistics(CACHE.stats(), packageMap.size(), weight * 1024, MAX_WEIGHT * 1024);
+    }
+
     public static void markOutDated(Key key) {
+        // Marking an entry is not a lookup of the cached packages, hence it is not recorded in the statistics
         CacheEntry cacheEntry = packageMap.get(key);
         if (cacheEntry != null) {
             cacheEntry.isOutdated = true;
-            packageMap.put(key, cacheEntry);
+            CACHE.put(key, cacheEntry);
         }
     }
 
@@ -231,11 +263,13 @@ public class LSCompilerCache {
         private EitherPair<BLangPackage, List<BLangPackage>> bLangPackages;
         private CompilerContext compilerContext;
         private boolean isOutdated = false;
+        private final int weight;
 
         CacheEntry(EitherPair<BLangPackage, List<BLangPackage>> bLangPackages,
                    CompilerContext compilerContext) {
             this.bLangPackages = bLangPackages;
             this.compilerContext = compilerContext;
+            this.weight = estimateWeight(bLangPackages);
         }
 
         /**
@@ -256,4 +290,93 @@ public class LSCompilerCache {
             return isOutdated;
         }
     }
+
+    /**
+     * Estimates the memory retained by the packages, in kilobytes.
+     */
+    private static int estimateWeight(EitherPair<BLangPackage, List<BLangPackage>> bLangPackages) {
+        List<BLangPackage> packages = bLangPackages.isLeft() ? Collections.singletonList(bLangPackages.getLeft())
+                : bLangPackages.getRight();
+        long lines = 0;
+        for (BLangPackage bLangPackage : packages) {
+            if (bLangPackage == null) {
+                continue;
+            }
+            lines += countLines(bLangPackage);
+            for (BLangPackage testablePackage : bLangPackage.getTestablePkgs()) {
+                lines += countLines(testablePackage);
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_WEIGHT + lines * LINE_WEIGHT);
+    }
+
+    private static long countLines(BLangPackage bLangPackage) {
+        long lines = 0;
+        for (BLangCompilationUnit compilationUnit : bLangPackage.getCompilationUnits()) {
+            int lastLine = 0;
+            for (TopLevelNode topLevelNode : compilationUnit.getTopLevelNodes()) {
+                Location pos = ((BLangNode) topLevelNode).pos;
+                if (pos != null) {
+                    lastLine = Math.max(lastLine, pos.lineRange().endLine().line() + 1);
+                }
+            }
+            lines += lastLine;
+        }
+        return lines;
+    }
+
+    /**
+     * Represents the statistics of the cache.
+     */
+    public static class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long entryCount;
+        private final long estimatedSize;
+        private final long maxSize;
+
+        Statistics(CacheStats cacheStats, long entryCount, long estimatedSize, long maxSize) {
+            this.hitCount = cacheStats.hitCount();
+            this.missCount = cacheStats.missCount();
+            this.evictionCount = cacheStats.evictionCount();
+            this.entryCount = entryCount;
+            this.estimatedSize = estimatedSize;
+            this.maxSize = maxSize;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getEntryCount() {
+            return entryCount;
+        }
+
+        /**
+         * Returns the estimated memory retained by the cached packages.
+         *
+         * @return estimated size in bytes
+         */
+        public long getEstimatedSize() {
+            return estimatedSize;
+        }
+
+        /**
+         * Returns the memory budget of the cache.
+         *
+         * @return maximum size in bytes
+         */
+        public long getMaxSize() {
+            return maxSize;
+        }
+    }
 }
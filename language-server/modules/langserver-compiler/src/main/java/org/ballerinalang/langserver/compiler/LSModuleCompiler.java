@@ -147,7 +147,14 @@ public class LSModuleCompiler {
                 .collect(Collectors.joining(".")));
 
         if (compileFullProject && !projectRoot.isEmpty() && sourceDoc.isWithinProject()) {
-            if (clearProjectModules) {
+            boolean isIncremental = context.get(DocumentServiceKeys.IS_INCREMENTAL_COMPILATION) != null &&
+                    context.get(DocumentServiceKeys.IS_INCREMENTAL_COMPILATION);
+            if (clearProjectModules && isIncremental) {
+                // Only the current module and the modules depending on it are affected by the change. The other
+                // modules are already type checked, hence they are reused from the LSPackageCache as they are
+                LSPackageCache.getInstance(compilerContext)
+                        .invalidateDependentModules(pkgID, sourceDoc.getProjectModules());
+            } else if (clearProjectModules) {
                 // If the flag is set, we remove all the modules in the current project from the LSPackageCache
                 LSPackageCache.getInstance(compilerContext).invalidateProjectModules(sourceDoc.getProjectModules());
             }
@@ -20,13 +20,17 @@ import com.google.common.cache.CacheBuilder;
 import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -86,7 +90,69 @@ public class LSPackageCache {
     public void invalidateProjectModules(List<String> modules) {
         packageCache.remove(modules);
     }
-    
+
+    /**
+     * Remove the module and the project modules which import it, directly or transitively. The other project modules
+     * are not affected by a change in the module, hence they are kept to be reused without analysing them again.
+     * Modules are matched by their organization, name and version, so that modules of other organizations or versions
+     * with the same name are kept.
+     *
+     * @param moduleID       ID of the changed module
+     * @param projectModules list of project module names
+     */
+    public void invalidateDependentModules(PackageID moduleID, List<String> projectModules) {
+        List<BLangPackage> cachedModules = new ArrayList<>();
+        for (BLangPackage bLangPackage : packageCache.getMap().values()) {
+            PackageID packageID = bLangPackage.packageID;
+            if (packageID.orgName.equals(moduleID.orgName) && packageID.version.equals(moduleID.version) &&
+                    projectModules.contains(packageID.name.value)) {
+                cachedModules.add(bLangPackage);
+            }
+        }
+
+        Set<PackageID> affectedModules = new HashSet<>();
+        affectedModules.add(moduleID);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BLangPackage cachedModule : cachedModules) {
+                if (!affectedModules.contains(cachedModule.packageID) && importsAny(cachedModule, affectedModules)) {
+                    affectedModules.add(cachedModule.packageID);
+                    changed = true;
+                }
+            }
+        }
+        packageCache.remove(affectedModules);
+    }
+
+    private static boolean importsAny(BLangPackage bLangPackage, Set<PackageID> modules) {
+        List<BLangImportPackage> imports = new ArrayList<>(bLangPackage.imports);
+        bLangPackage.getTestablePkgs().forEach(testablePackage -> imports.addAll(testablePackage.imports));
+        for (BLangImportPackage importPackage : imports) {
+            if (modules.contains(getImportedModuleID(importPackage, bLangPackage.packageID))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the ID of the imported module. The ID is taken from the symbol the import was resolved to, which does not
+     * depend on the alias of the import. An unresolved import is assumed to be of the version of the importing module,
+     * and of its organization if the import does not name one.
+     */
+    private static PackageID getImportedModuleID(BLangImportPackage importPackage, PackageID importerID) {
+        if (importPackage.symbol != null) {
+            return importPackage.symbol.pkgID;
+        }
+        Name orgName = importPackage.orgName == null || importPackage.orgName.value.isEmpty() ?
+                importerID.orgName : new Name(importPackage.orgName.value);
+        List<Name> nameComps = importPackage.pkgNameComps.stream()
+                .map(identifier -> new Name(identifier.value))
+                .collect(Collectors.toList());
+        return new PackageID(orgName, nameComps, importerID.version);
+    }
+
     public void clearCache() {
         packageCache.clearCache();
     }
@@ -177,6 +243,11 @@ public class LSPackageCache {
             });
         }
         
+        public void remove(Set<PackageID> packageIDs) {
+            this.packageMap.values().removeIf(bLangPackage -> packageIDs.contains(bLangPackage.packageID));
+            this.pkgSymbolMap.values().removeIf(packageSymbol -> packageIDs.contains(packageSymbol.pkgID));
+        }
+
         public void clearCache() {
             this.packageMap.clear();
             this.pkgSymbolMap.clear();
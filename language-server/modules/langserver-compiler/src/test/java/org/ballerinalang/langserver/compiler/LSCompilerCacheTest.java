@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.compiler;
+
+import org.ballerinalang.langserver.commons.LSContext;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+/**
+ * Test the statistics of the Lang Server Compiler Cache.
+ *
+ * @since 2.0.0
+ */
+public class LSCompilerCacheTest {
+
+    private static final String SOURCE_ROOT = "/tmp/ls-compiler-cache-test";
+
+    @Test
+    public void testStatistics() {
+        LSContext context = new LSContextImpl(CompileFileContextOperation.COMPILE_FILE);
+        context.put(DocumentServiceKeys.COMPILER_CONTEXT_KEY, new CompilerContext());
+        LSCompilerCache.Key key = new LSCompilerCache.Key(SOURCE_ROOT, context);
+        LSCompilerCache.Statistics before = LSCompilerCache.getStatistics();
+
+        Assert.assertNull(LSCompilerCache.getPackage(key, context));
+        LSCompilerCache.putPackage(key, new BLangPackage(), context);
+        Assert.assertNotNull(LSCompilerCache.getPackage(key, context));
+        Assert.assertNotNull(LSCompilerCache.getPackage(key, context));
+        LSCompilerCache.markOutDated(key);
+
+        LSCompilerCache.Statistics after = LSCompilerCache.getStatistics();
+        Assert.assertEquals(after.getHitCount() - before.getHitCount(), 2);
+        Assert.assertEquals(after.getMissCount() - before.getMissCount(), 1);
+        Assert.assertTrue(after.getEntryCount() > 0);
+        Assert.assertTrue(after.getEstimatedSize() > 0);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        LSCompilerCache.clear(new LSContextImpl(CompileFileContextOperation.COMPILE_FILE), SOURCE_ROOT);
+    }
+}
@@ -9,10 +9,15 @@ import org.ballerinalang.langserver.compiler.workspace.ExtendedWorkspaceDocument
 import org.ballerinalang.langserver.compiler.workspace.WorkspaceDocumentManagerImpl;
 import org.ballerinalang.langserver.compiler.workspace.repository.WorkspacePackageRepository;
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
 import org.ballerinalang.repository.PackageRepository;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -21,7 +26,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -39,6 +46,65 @@ public class LSPackageCacheTest {
         compileFileAndCheckCache(filePath);
     }
 
+    @Test
+    public void testInvalidateDependentModules() {
+        LSPackageCache packageCache = LSPackageCache.getInstance(new CompilerContext());
+        PackageID moduleA = createPackageID("demo", "a", "0.1.0");
+        PackageID moduleB = createPackageID("demo", "b", "0.1.0");
+        PackageID moduleC = createPackageID("demo", "c", "0.1.0");
+        PackageID moduleD = createPackageID("demo", "d", "0.1.0");
+        PackageID moduleE = createPackageID("demo", "e", "0.1.0");
+        PackageID otherModuleA = createPackageID("other", "a", "0.1.0");
+        PackageID olderModuleA = createPackageID("demo", "a", "0.0.1");
+
+        putModule(packageCache, moduleA);
+        // b imports a through a resolved import, and c imports b with an alias through an unresolved import
+        BLangImportPackage importA = createImport("demo", "a", null);
+        importA.symbol = new BPackageSymbol(moduleA, null, null, SymbolOrigin.SOURCE);
+        putModule(packageCache, moduleB, importA);
+        putModule(packageCache, moduleC, createImport("", "b", "bee"));
+        putModule(packageCache, moduleD);
+        // e imports the module a of another organization
+        putModule(packageCache, moduleE, createImport("other", "a", null));
+        putModule(packageCache, otherModuleA);
+        putModule(packageCache, olderModuleA);
+
+        packageCache.invalidateDependentModules(moduleA, Arrays.asList("a", "b", "c", "d", "e"));
+
+        Assert.assertNull(packageCache.get(moduleA));
+        Assert.assertNull(packageCache.get(moduleB));
+        Assert.assertNull(packageCache.get(moduleC));
+        Assert.assertNotNull(packageCache.get(moduleD));
+        Assert.assertNotNull(packageCache.get(moduleE));
+        Assert.assertNotNull(packageCache.get(otherModuleA));
+        Assert.assertNotNull(packageCache.get(olderModuleA));
+    }
+
+    private static PackageID createPackageID(String orgName, String name, String version) {
+        return new PackageID(new Name(orgName), new Name(name), new Name(version));
+    }
+
+    private static void putModule(LSPackageCache packageCache, PackageID packageID, BLangImportPackage... imports) {
+        BLangPackage bLangPackage = new BLangPackage();
+        bLangPackage.imports.addAll(Arrays.asList(imports));
+        packageCache.put(packageID, bLangPackage);
+    }
+
+    private static BLangImportPackage createImport(String orgName, String name, String alias) {
+        BLangImportPackage importPackage = new BLangImportPackage();
+        importPackage.orgName = createIdentifier(orgName);
+        List<BLangIdentifier> nameComps = Collections.singletonList(createIdentifier(name));
+        importPackage.pkgNameComps = nameComps;
+        importPackage.alias = createIdentifier(alias == null ? name : alias);
+        return importPackage;
+    }
+
+    private static BLangIdentifier createIdentifier(String value) {
+        BLangIdentifier identifier = new BLangIdentifier();
+        identifier.value = value;
+        return identifier;
+    }
+
     private void compileFileAndCheckCache(Path filePath)
             throws IOException, CompilationFailedException, WorkspaceDocumentException {
         // Read test bal file
@@ -758,6 +758,8 @@ class BallerinaTextDocumentService implements TextDocumentService {
                             .withStdLibDefinitionParam(this.enableStdlibDefinition)
                             .withCommonParams(null, fileUri, docManager)
                             .build();
+                    // Only the changed module and its dependents need to be analysed again
+                    context.put(DocumentServiceKeys.IS_INCREMENTAL_COMPILATION, true);
                     String fileURI = params.getTextDocument().getUri();
 
                     LSDocumentIdentifier lsDocument = new LSDocumentIdentifierImpl(fileURI);
@@ -29,4 +29,7 @@ import java.util.concurrent.CompletableFuture;
 public interface BallerinaProjectService {
     @JsonRequest
     CompletableFuture<ModulesResponse> modules(ModulesRequest request);
+
+    @JsonRequest
+    CompletableFuture<CompilerCacheStatsResponse> compilerCacheStats();
 }
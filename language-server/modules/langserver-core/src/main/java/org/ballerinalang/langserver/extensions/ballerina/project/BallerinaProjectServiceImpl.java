@@ -24,6 +24,7 @@ import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.LSContext;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentManager;
 import org.ballerinalang.langserver.compiler.DocumentServiceKeys;
+import org.ballerinalang.langserver.compiler.LSCompilerCache;
 import org.ballerinalang.langserver.compiler.LSModuleCompiler;
 import org.ballerinalang.langserver.compiler.common.modal.SymbolMetaInfo;
 import org.ballerinalang.langserver.compiler.exception.CompilationFailedException;
@@ -81,6 +82,21 @@ public class BallerinaProjectServiceImpl implements BallerinaProjectService {
         });
     }
 
+    @Override
+    public CompletableFuture<CompilerCacheStatsResponse> compilerCacheStats() {
+        return CompletableFuture.supplyAsync(() -> {
+            LSCompilerCache.Statistics statistics = LSCompilerCache.getStatistics();
+            CompilerCacheStatsResponse reply = new CompilerCacheStatsResponse();
+            reply.setHitCount(statistics.getHitCount());
+            reply.setMissCount(statistics.getMissCount());
+            reply.setEvictionCount(statistics.getEvictionCount());
+            reply.setEntryCount(statistics.getEntryCount());
+            reply.setEstimatedSize(statistics.getEstimatedSize());
+            reply.setMaxSize(statistics.getMaxSize());
+            return reply;
+        });
+    }
+
     private JsonObject getJsonReply(LSContext astContext, List<BLangPackage> modules)
             throws JSONGenerationException, URISyntaxException {
         JsonObject jsonModules = new JsonObject();
@@ -595,12 +595,18 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
         }
         ArrayList<Variable> globalVars = new ArrayList<>();
         ReferenceType initClassReference = cls.get(0);
+        List<Field> globalFields = new ArrayList<>();
         for (Field field : initClassReference.allFields()) {
             String fieldName = IdentifierUtils.decodeIdentifier(field.name());
-            if (!field.isPublic() || !field.isStatic() || fieldName.startsWith(GENERATED_VAR_PREFIX)) {
-                continue;
+            if (field.isPublic() && field.isStatic() && !fieldName.startsWith(GENERATED_VAR_PREFIX)) {
+                globalFields.add(field);
             }
-            Value fieldValue = initClassReference.getValue(field);
+        }
+        // Fetches the values of all the global variables with a single request to the remote VM.
+        Map<Field, Value> globalValues = initClassReference.getValues(globalFields);
+        for (Field field : globalFields) {
+            String fieldName = IdentifierUtils.decodeIdentifier(field.name());
+            Value fieldValue = globalValues.get(field);
             BVariable variable = VariableFactory.getVariable(context, fieldName, fieldValue);
             if (variable == null) {
                 continue;
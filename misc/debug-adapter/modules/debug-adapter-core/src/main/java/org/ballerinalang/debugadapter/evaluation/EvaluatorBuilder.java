@@ -58,8 +58,11 @@ import org.ballerinalang.debugadapter.evaluation.engine.UnaryExpressionEvaluator
 import org.ballerinalang.debugadapter.evaluation.engine.XMLTemplateEvaluator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
@@ -113,6 +116,20 @@ import java.util.StringJoiner;
  */
 public class EvaluatorBuilder extends NodeVisitor {
 
+    /**
+     * Maximum number of parsed expressions kept, which is well above the number of watch expressions of a session.
+     */
+    private static final int MAX_PARSED_EXPRESSIONS = 256;
+    // Syntax nodes are immutable, hence the parsed expressions are shared across all the suspended contexts. The
+    // evaluators are built per context, as they are bound to it.
+    private static final Map<String, ExpressionNode> PARSED_EXPRESSIONS = Collections.synchronizedMap(
+            new LinkedHashMap<String, ExpressionNode>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ExpressionNode> eldest) {
+                    return size() > MAX_PARSED_EXPRESSIONS;
+                }
+            });
+
     private final Set<SyntaxKind> supportedSyntax = new HashSet<>();
     private final Set<SyntaxKind> capturedSyntax = new HashSet<>();
     private final List<Node> unsupportedNodes = new ArrayList<>();
@@ -132,10 +149,7 @@ public class EvaluatorBuilder extends NodeVisitor {
      * @throws EvaluationException If validation/parsing is failed.
      */
     public Evaluator build(String expression) throws EvaluationException {
-        // Validates and converts the expression into a parsed syntax-tree node.
-        ExpressionNode parsedExpr = DebugExpressionParser.validateAndParse(expression);
-        // Encodes all the identifiers in order to be aligned with identifier representation in the JVM runtime.
-        parsedExpr = (ExpressionNode) parsedExpr.apply(new ExpressionIdentifierModifier());
+        ExpressionNode parsedExpr = parse(expression);
         // transforms the parsed ballerina expression into a java expression using a node transformer implementation.
         parsedExpr.accept(this);
         if (unsupportedSyntaxDetected()) {
@@ -150,6 +164,27 @@ public class EvaluatorBuilder extends NodeVisitor {
         return result;
     }
 
+    /**
+     * Returns the parsed syntax-tree node of a given ballerina expression, reusing the node parsed for an earlier
+     * evaluation of the same expression (i.e. watch expressions which are evaluated on every stop).
+     *
+     * @param expression Ballerina expression(user input).
+     * @return parsed syntax-tree node of the expression
+     * @throws EvaluationException If validation/parsing is failed.
+     */
+    private static ExpressionNode parse(String expression) throws EvaluationException {
+        ExpressionNode parsedExpr = PARSED_EXPRESSIONS.get(expression);
+        if (parsedExpr != null) {
+            return parsedExpr;
+        }
+        // Validates and converts the expression into a parsed syntax-tree node.
+        parsedExpr = DebugExpressionParser.validateAndParse(expression);
+        // Encodes all the identifiers in order to be aligned with identifier representation in the JVM runtime.
+        parsedExpr = (ExpressionNode) parsedExpr.apply(new ExpressionIdentifierModifier());
+        PARSED_EXPRESSIONS.put(expression, parsedExpr);
+        return parsedExpr;
+    }
+
     @Override
     public void visit(BracedExpressionNode bracedExpressionNode) {
         visitSyntaxNode(bracedExpressionNode);
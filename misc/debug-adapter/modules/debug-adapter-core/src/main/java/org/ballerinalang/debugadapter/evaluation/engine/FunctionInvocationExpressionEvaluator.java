@@ -18,6 +18,7 @@ package org.ballerinalang.debugadapter.evaluation.engine;
 
 import com.sun.jdi.ClassNotPreparedException;
 import com.sun.jdi.Method;
+import com.sun.jdi.ObjectCollectedException;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Value;
 import io.ballerina.compiler.syntax.tree.FunctionCallExpressionNode;
@@ -55,8 +56,12 @@ public class FunctionInvocationExpressionEvaluator extends Evaluator {
     @Override
     public BExpressionValue evaluate() throws EvaluationException {
         try {
-            // First we try to find the matching JVM method from the JVM backend, among already loaded classes.
-            Optional<JvmMethod> jvmMethod = findFunctionFromLoadedClasses();
+            // First we try the class which was resolved for the same function invocation at an earlier evaluation.
+            Optional<JvmMethod> jvmMethod = findFunctionFromResolvedClass();
+            if (!jvmMethod.isPresent()) {
+                // Then we try to find the matching JVM method from the JVM backend, among already loaded classes.
+                jvmMethod = findFunctionFromLoadedClasses();
+            }
             if (!jvmMethod.isPresent()) {
                 // If we cannot find the matching method within the loaded classes, then we try to forcefully load
                 // all the generated classes related to the current module using the JDI classloader, and search
@@ -77,6 +82,32 @@ public class FunctionInvocationExpressionEvaluator extends Evaluator {
         }
     }
 
+    /**
+     * Looks up the matching jvm method in the class resolved for the function at an earlier evaluation, if any. This
+     * avoids searching through all the loaded classes of the remote VM when the same expression is evaluated on every
+     * stop (i.e. watch expressions).
+     *
+     * @return the matching JVM method, if available
+     */
+    private Optional<JvmMethod> findFunctionFromResolvedClass() {
+        String lookupKey = getLookupKey();
+        ReferenceType cls = context.getAttachedVm().getResolvedClass(lookupKey);
+        if (cls == null) {
+            return Optional.empty();
+        }
+        try {
+            for (Method method : cls.methodsByName(syntaxNode.functionName().toSourceCode())) {
+                if (method.isStatic()) {
+                    return Optional.of(new GeneratedStaticMethod(context, cls, method, argEvaluators, null));
+                }
+            }
+        } catch (ClassNotPreparedException | ObjectCollectedException ignored) {
+            // The class is unloaded since it was resolved, hence should be resolved again.
+        }
+        context.getAttachedVm().removeResolvedClass(lookupKey);
+        return Optional.empty();
+    }
+
     /**
      * Searches for a matching jvm method for a given ballerina function using its syntax node and the debug context
      * information.
@@ -104,6 +135,7 @@ public class FunctionInvocationExpressionEvaluator extends Evaluator {
                     // Note - All the ballerina functions are represented as java static methods and all the generated
                     // jvm methods contain strand as its first argument.
                     if (method.isStatic()) {
+                        context.getAttachedVm().putResolvedClass(getLookupKey(), cls);
                         return Optional.of(new GeneratedStaticMethod(context, cls, method, argEvaluators, null));
                     }
                 }
@@ -133,6 +165,7 @@ public class FunctionInvocationExpressionEvaluator extends Evaluator {
                         syntaxNode.functionName().toSourceCode());
                 List<Method> methods = refType.methodsByName(syntaxNode.functionName().toSourceCode());
                 if (!methods.isEmpty()) {
+                    context.getAttachedVm().putResolvedClass(getLookupKey(), refType);
                     return Optional.of(new GeneratedStaticMethod(context, refType, methods.get(0), argEvaluators,
                             null));
                 }
@@ -144,4 +177,14 @@ public class FunctionInvocationExpressionEvaluator extends Evaluator {
                     syntaxNode.functionName().toSourceCode()));
         }
     }
+
+    /**
+     * Returns the key which identifies the function invocation, for the source the debuggee is suspended at. The
+     * same function name may resolve to different functions from different sources.
+     *
+     * @return lookup key of the function invocation
+     */
+    private String getLookupKey() {
+        return context.getBreakPointSourcePath() + ":" + syntaxNode.functionName().toSourceCode();
+    }
 }
@@ -68,6 +68,9 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
     private boolean myAllThreadsDirty = true;
     private List<ReferenceType> myAllClasses;
     private Map<ReferenceType, List<ReferenceType>> myNestedClassesCache = new HashMap<>();
+    // Classes resolved for lookups, which stay valid across suspends unlike the above, as loaded classes do not change
+    // when the VM is resumed. These are dropped only when the classes are redefined.
+    private final Map<String, ReferenceType> myResolvedClasses = new ConcurrentHashMap<>();
 
     public final Throwable mySuspendLogger = new Throwable();
     private final boolean myVersionHigher15;
@@ -125,6 +128,36 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
         return allClasses;
     }
 
+    /**
+     * Returns the class resolved earlier for the given lookup key.
+     *
+     * @param key lookup key
+     * @return the resolved class, or null if the key is not resolved yet
+     */
+    public ReferenceType getResolvedClass(String key) {
+        return myResolvedClasses.get(key);
+    }
+
+    /**
+     * Remembers the class resolved for the given lookup key, so that the loaded classes are not searched again for
+     * the same key.
+     *
+     * @param key   lookup key
+     * @param clazz resolved class
+     */
+    public void putResolvedClass(String key, ReferenceType clazz) {
+        myResolvedClasses.put(key, clazz);
+    }
+
+    /**
+     * Forgets the class resolved for the given lookup key, i.e. when the class is unloaded.
+     *
+     * @param key lookup key
+     */
+    public void removeResolvedClass(String key) {
+        myResolvedClasses.remove(key);
+    }
+
     public String toString() {
         return myVirtualMachine.toString();
     }
@@ -133,6 +166,7 @@ public class VirtualMachineProxyImpl implements JdiTimer, VirtualMachineProxy {
         try {
             myVirtualMachine.redefineClasses(map);
         } finally {
+            myResolvedClasses.clear();
             clearCaches();
         }
     }
@@ -43,6 +43,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.XmlValue;
 import org.ballerinalang.test.runtime.entity.Test;
+import org.ballerinalang.test.runtime.entity.TestGroup;
 import org.ballerinalang.test.runtime.entity.TestSuite;
 import org.ballerinalang.test.runtime.entity.TesterinaFunction;
 import org.ballerinalang.test.runtime.entity.TesterinaReport;
@@ -61,11 +62,20 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -316,31 +326,97 @@ public class BTestRunner {
 
     private void executeTests(TestSuite suite, String packageName, ClassLoader classLoader, Scheduler scheduler,
                               AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups) {
-        List<String> failedOrSkippedTests = new ArrayList<>();
-        List<String> failedAfterFuncTests = new ArrayList<>();
-        suite.getTests().forEach(test -> {
-            AtomicBoolean shouldSkipTest = new AtomicBoolean(false);
-
-            // execute the before groups functions
-            executeBeforeGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
-                    shouldSkipTest, shouldSkipAfterGroups);
-
-            // run the before each tests
-            executeBeforeEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-            // run the before tests
-            executeBeforeFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-            // run the test
-            executeFunction(test, suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipTest,
-                            failedOrSkippedTests, failedAfterFuncTests);
-            // run the after tests
-            executeAfterFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest, failedAfterFuncTests);
-            // run the after each tests
-            executeAfterEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
-
-            // execute the after groups functions
-            executeAfterGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
-                    shouldSkipTest, shouldSkipAfterGroups);
+        List<String> failedOrSkippedTests = new CopyOnWriteArrayList<>();
+        List<String> failedAfterFuncTests = new CopyOnWriteArrayList<>();
+        if (suite.getParallelism() > 1) {
+            executeTestsInParallel(suite, packageName, classLoader, shouldSkip, shouldSkipAfterGroups,
+                                   failedOrSkippedTests, failedAfterFuncTests);
+            return;
+        }
+        suite.getTests().forEach(test -> executeTest(test, suite, packageName, classLoader, scheduler, shouldSkip,
+                                                     shouldSkipAfterGroups, failedOrSkippedTests,
+                                                     failedAfterFuncTests));
+    }
+
+    /**
+     * Run the tests on a pool of workers. A test is started once all the tests it depends on are completed, so
+     * independent tests run in parallel while the order of dependent tests is kept.
+     */
+    private void executeTestsInParallel(TestSuite suite, String packageName, ClassLoader classLoader,
+                                        AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups,
+                                        List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
+        // Tests are sorted, so the tests a test depends on are always before it. An unknown or unsorted dependency
+        // is reported before any test is run, instead of the test being run without waiting for it.
+        Set<String> testNames = new HashSet<>();
+        for (Test test : suite.getTests()) {
+            for (String dependsOnFn : test.getDependsOnTestFunctions()) {
+                if (!testNames.contains(dependsOnFn)) {
+                    String message = String.format("Test [%s] depends on function [%s], but it couldn't be found" +
+                            ".", test, dependsOnFn);
+                    throw new BallerinaTestException(message);
+                }
+            }
+            testNames.add(test.getTestName());
+        }
+
+        AtomicInteger workerCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(suite.getParallelism(), runnable -> {
+            Thread worker = new Thread(runnable, "test-worker-" + workerCount.getAndIncrement());
+            worker.setDaemon(true);
+            return worker;
         });
+        // A scheduler runs one function at a time, so each worker invokes the functions on its own scheduler.
+        ThreadLocal<Scheduler> workerScheduler = ThreadLocal.withInitial(() -> new Scheduler(4, false));
+
+        Map<String, CompletableFuture<Void>> testFutures = new HashMap<>();
+        for (Test test : suite.getTests()) {
+            CompletableFuture<?>[] dependencies = test.getDependsOnTestFunctions().stream()
+                    .map(testFutures::get)
+                    .toArray(CompletableFuture[]::new);
+            testFutures.put(test.getTestName(), CompletableFuture.allOf(dependencies).thenRunAsync(
+                    () -> executeTest(test, suite, packageName, classLoader, workerScheduler.get(), shouldSkip,
+                                      shouldSkipAfterGroups, failedOrSkippedTests, failedAfterFuncTests), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(testFutures.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BallerinaTestException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void executeTest(Test test, TestSuite suite, String packageName, ClassLoader classLoader,
+                             Scheduler scheduler, AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups,
+                             List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
+        AtomicBoolean shouldSkipTest = new AtomicBoolean(false);
+
+        // execute the before groups functions
+        executeBeforeGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
+                shouldSkipTest, shouldSkipAfterGroups);
+
+        // run the before each tests
+        executeBeforeEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+        // run the before tests
+        executeBeforeFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+        // run the test
+        executeFunction(test, suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipTest,
+                        failedOrSkippedTests, failedAfterFuncTests);
+        // run the after tests
+        executeAfterFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest, failedAfterFuncTests);
+        // run the after each tests
+        executeAfterEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+        for (String groupName : test.getGroups()) {
+            suite.getGroups().get(groupName).incrementCompletedCount();
+        }
+
+        // execute the after groups functions
+        executeAfterGroupFunctions(test, suite, classLoader, scheduler, shouldSkip,
+                shouldSkipTest, shouldSkipAfterGroups);
     }
 
     private void executeBeforeGroupFunctions(Test test, TestSuite suite, ClassLoader classLoader, Scheduler scheduler,
@@ -348,24 +424,28 @@ public class BTestRunner {
                                              AtomicBoolean shouldSkipAfterGroups)  {
         if (!shouldSkip.get() && !shouldSkipTest.get()) {
             for (String groupName : test.getGroups()) {
-                if (!suite.getGroups().get(groupName).getBeforeGroupsFunctions().isEmpty()
-                        && !suite.getGroups().get(groupName).isFirstTestExecuted()) {
-                    // run before tests
-                    String errorMsg;
-                    for (String beforeGroupFunc : suite.getGroups().get(groupName).getBeforeGroupsFunctions()) {
-                        try {
-                            invokeTestFunction(suite, beforeGroupFunc, classLoader, scheduler);
-                        } catch (Throwable e) {
-                            shouldSkip.set(true);
-                            shouldSkipTest.set(true);
-                            shouldSkipAfterGroups.set(true);
-                            errorMsg = String.format("\t[fail] " + beforeGroupFunc +
-                                            " [before test group function for the test %s] :\n\t    %s", test,
-                                    formatErrorMessage(e));
-                            errStream.println(errorMsg);
+                TestGroup group = suite.getGroups().get(groupName);
+                // Other tests of the group wait until the functions are executed, when tests are run in parallel.
+                synchronized (group) {
+                    if (!group.getBeforeGroupsFunctions().isEmpty() && !group.isFirstTestExecuted()
+                            && group.markBeforeGroupsExecuted()) {
+                        // run before tests
+                        String errorMsg;
+                        for (String beforeGroupFunc : group.getBeforeGroupsFunctions()) {
+                            try {
+                                invokeTestFunction(suite, beforeGroupFunc, classLoader, scheduler);
+                            } catch (Throwable e) {
+                                shouldSkip.set(true);
+                                shouldSkipTest.set(true);
+                                shouldSkipAfterGroups.set(true);
+                                errorMsg = String.format("\t[fail] " + beforeGroupFunc +
+                                                " [before test group function for the test %s] :\n\t    %s", test,
+                                        formatErrorMessage(e));
+                                errStream.println(errorMsg);
+                            }
                         }
-                    }
 
+                    }
                 }
             }
         }
@@ -414,6 +494,7 @@ public class BTestRunner {
                                  Scheduler scheduler, AtomicBoolean shouldSkip, AtomicBoolean shouldSkipTest,
                                  List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
         TesterinaResult functionResult;
+        long startTime = System.currentTimeMillis();
 
         try {
             if (isTestDependsOnFailedFunctions(test.getDependsOnTestFunctions(), failedOrSkippedTests) ||
@@ -431,15 +512,17 @@ public class BTestRunner {
                     invokeTestFunction(suite, test.getTestName(), classLoader, scheduler);
                     // report the test result
                     functionResult = new TesterinaResult(test.getTestName(), true, shouldSkip
-                            .get(), null);
+                            .get(), null, System.currentTimeMillis() - startTime);
                     tReport.addFunctionResult(packageName, functionResult);
                 } else {
                     Class<?>[] argTypes = extractArgumentTypes(valueSets);
                     List<Object[]> argList = extractArguments(valueSets);
                     for (Object[] arg : argList) {
+                        long argStartTime = System.currentTimeMillis();
                         invokeTestFunction(suite, test.getTestName(), classLoader, scheduler, argTypes, arg);
                         TesterinaResult result = new TesterinaResult(test.getTestName(), true,
-                                                                     shouldSkip.get(), null);
+                                                                     shouldSkip.get(), null,
+                                                                     System.currentTimeMillis() - argStartTime);
                         tReport.addFunctionResult(packageName, result);
                     }
                 }
@@ -455,7 +538,7 @@ public class BTestRunner {
             failedOrSkippedTests.add(test.getTestName());
             // report the test result
             functionResult = new TesterinaResult(test.getTestName(), false, shouldSkip.get(),
-                                                 formatErrorMessage(e));
+                                                 formatErrorMessage(e), System.currentTimeMillis() - startTime);
             tReport.addFunctionResult(packageName, functionResult);
         }
         for (String groupName : test.getGroups()) {
@@ -513,11 +596,12 @@ public class BTestRunner {
                                             AtomicBoolean shouldSkipAfterGroups)  {
         if (!shouldSkipAfterGroups.get() && !shouldSkip.get() && !shouldSkipTest.get()) {
             for (String groupName : test.getGroups()) {
-                if (!suite.getGroups().get(groupName).getAfterGroupsFunctions().isEmpty()
-                        && suite.getGroups().get(groupName).isLastTestExecuted()) {
+                TestGroup group = suite.getGroups().get(groupName);
+                if (!group.getAfterGroupsFunctions().isEmpty() && group.isLastTestCompleted()
+                        && group.markAfterGroupsExecuted()) {
                     // run before tests
                     String errorMsg;
-                    for (String afterGroupFunc : suite.getGroups().get(groupName).getAfterGroupsFunctions()) {
+                    for (String afterGroupFunc : group.getAfterGroupsFunctions()) {
                         try {
                             invokeTestFunction(suite, afterGroupFunc, classLoader, scheduler);
                         } catch (Throwable e) {
@@ -749,7 +833,7 @@ public class BTestRunner {
      * @param failedTests List of failed tests
      * @param jsonFile File to save failed tests
      */
-    private void writeFailedTestsToJson(List<String> failedTests, File jsonFile) {
+    private synchronized void writeFailedTestsToJson(List<String> failedTests, File jsonFile) {
         String errorMsg;
 
         try (Writer writer = new OutputStreamWriter(new FileOutputStream(jsonFile), StandardCharsets.UTF_8)) {
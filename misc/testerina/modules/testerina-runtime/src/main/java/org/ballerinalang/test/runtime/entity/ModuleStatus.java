@@ -39,8 +39,8 @@ public class ModuleStatus {
         return instance;
     }
 
-    public void addTestSummary(String testName, Status status, String failureMessage) {
-        Test test = new Test(testName, status, failureMessage);
+    public synchronized void addTestSummary(String testName, Status status, String failureMessage, long duration) {
+        Test test = new Test(testName, status, failureMessage, duration);
         this.tests.add(test);
         totalTests++;
         if (test.status.equals(Status.PASSED)) {
@@ -83,11 +83,13 @@ public class ModuleStatus {
         private String name;
         private Status status;
         private String failureMessage = "";
+        private long duration;
 
-        public Test(String name, Status status, String failureMessage) {
+        public Test(String name, Status status, String failureMessage, long duration) {
             this.name = name;
             this.status = status;
             this.failureMessage = failureMessage;
+            this.duration = duration;
         }
 
         public String getFailureMessage() {
@@ -97,6 +99,10 @@ public class ModuleStatus {
         public String getName() {
             return name;
         }
+
+        public long getDuration() {
+            return duration;
+        }
     }
 
     /**
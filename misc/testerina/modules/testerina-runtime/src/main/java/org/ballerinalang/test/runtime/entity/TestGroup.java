@@ -26,8 +26,11 @@ import java.util.List;
 public class TestGroup {
     private int testCount;
     private int executedCount;
+    private transient int completedCount;
     private List<String> beforeGroupsFunctions;
     private List<String> afterGroupsFunctions;
+    private transient boolean beforeGroupsExecuted;
+    private transient boolean afterGroupsExecuted;
 
     public TestGroup() {
         this.testCount = 0;
@@ -47,10 +50,18 @@ public class TestGroup {
      * Increments the executed test count by one.
      * This should be be called after each test execution.
      */
-    public void incrementExecutedCount() {
+    public synchronized void incrementExecutedCount() {
         this.executedCount++;
     }
 
+    /**
+     * Increments the completed test count by one.
+     * This should be called after the after and after each functions of each test are executed.
+     */
+    public synchronized void incrementCompletedCount() {
+        this.completedCount++;
+    }
+
     /**
      * Returns the @BeforeGroups functions declared for this group.
      *
@@ -93,7 +104,7 @@ public class TestGroup {
      *
      * @return if the first test is executed
      */
-    public boolean isFirstTestExecuted() {
+    public synchronized boolean isFirstTestExecuted() {
         return executedCount > 0;
     }
 
@@ -103,7 +114,46 @@ public class TestGroup {
      *
      * @return  if the last test is executed
      */
-    public boolean isLastTestExecuted() {
+    public synchronized boolean isLastTestExecuted() {
         return testCount == executedCount;
     }
+
+    /**
+     * Returns whether all the tests of the group are completed, including their after and after each functions.
+     * This is used for executing the @AfterGroups functions, as the tests may complete out of order when they are
+     * run in parallel.
+     *
+     * @return if all the tests are completed
+     */
+    public synchronized boolean isLastTestCompleted() {
+        return testCount == completedCount;
+    }
+
+    /**
+     * Marks the @BeforeGroups functions of the group as executed.
+     * This is used to execute them only once when the tests of the group are run in parallel.
+     *
+     * @return false if the functions were already marked as executed
+     */
+    public synchronized boolean markBeforeGroupsExecuted() {
+        if (beforeGroupsExecuted) {
+            return false;
+        }
+        beforeGroupsExecuted = true;
+        return true;
+    }
+
+    /**
+     * Marks the @AfterGroups functions of the group as executed.
+     * This is used to execute them only once when the tests of the group are run in parallel.
+     *
+     * @return false if the functions were already marked as executed
+     */
+    public synchronized boolean markAfterGroupsExecuted() {
+        if (afterGroupsExecuted) {
+            return false;
+        }
+        afterGroupsExecuted = true;
+        return true;
+    }
 }
@@ -53,6 +53,7 @@ public class TestSuite {
     private Map<String, TestGroup> groups = new HashMap<>();
 
     private boolean isReportRequired;
+    private int parallelism = 1;
 
     /**
      * Key - unique identifier for the function to be mocked.
@@ -223,6 +224,19 @@ public class TestSuite {
         isReportRequired = reportRequired;
     }
 
+    /**
+     * Returns the number of workers the tests are run on. Tests are run serially if this is 1.
+     *
+     * @return number of workers
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public Map<String, TestGroup> getGroups() {
         return groups;
     }
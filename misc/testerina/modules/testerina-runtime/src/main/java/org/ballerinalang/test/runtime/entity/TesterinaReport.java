@@ -87,7 +87,7 @@ public class TesterinaReport {
         testReportOfPackage.computeIfAbsent(packageName, summary -> new TestSummary());
     }
 
-    public void addFunctionResult(String packageName, TesterinaResult result) {
+    public synchronized void addFunctionResult(String packageName, TesterinaResult result) {
         testReportOfPackage.computeIfAbsent(packageName, summary -> new TestSummary());
         TestSummary testSummary = testReportOfPackage.get(packageName);
         ModuleStatus.Status status;
@@ -106,7 +106,8 @@ public class TesterinaReport {
 
         if (isReportRequired) {
             ModuleStatus.getInstance()
-                    .addTestSummary(result.getTestFunctionName(), status, result.getAssertFailureMessage());
+                    .addTestSummary(result.getTestFunctionName(), status, result.getAssertFailureMessage(),
+                                    result.getDuration());
         }
     }
 
@@ -26,12 +26,19 @@ public class TesterinaResult {
     private boolean isPassed;
     private boolean isSkipped;
     private String assertFailureMessage;
+    private long duration;
 
     public TesterinaResult(String testFunctionName, boolean isPassed, boolean isSkipped, String assertFailureMessage) {
+        this(testFunctionName, isPassed, isSkipped, assertFailureMessage, 0);
+    }
+
+    public TesterinaResult(String testFunctionName, boolean isPassed, boolean isSkipped, String assertFailureMessage,
+                           long duration) {
         this.testFunctionName = testFunctionName;
         this.isPassed = isPassed;
         this.isSkipped = isSkipped;
         this.assertFailureMessage = assertFailureMessage;
+        this.duration = duration;
     }
 
     public String getTestFunctionName() {
@@ -49,4 +56,13 @@ public class TesterinaResult {
     public String getAssertFailureMessage() {
         return assertFailureMessage;
     }
+
+    /**
+     * Returns the time taken to run the test function.
+     *
+     * @return duration in milliseconds
+     */
+    public long getDuration() {
+        return duration;
+    }
 }
@@ -111,19 +111,17 @@ function handle304Response(Response validationResponse, Response cachedResponse,
 
         if (isAStrongValidator(etag)) {
             // Assuming ETags are the only strong validators
-            Response[] matchingCachedResponses = cache.getAllByETag(getCacheKey(httpMethod, path), etag);
-
-            foreach var resp in matchingCachedResponses {
-                updateResponse(resp, <@untainted> validationResponse);
+            cache.updateAllByETag(getCacheKey(httpMethod, path), etag, <@untainted> validationResponse);
+            if (isETagMatch(cachedResponse, etag)) {
+                updateResponse(cachedResponse, <@untainted> validationResponse);
             }
             log:printDebug("304 response received, with a strong validator. Response(s) updated");
             return cachedResponse;
         } else if (hasAWeakValidator(validationResponse, etag)) {
             // The weak validator should be either an ETag or a last modified date. Precedence given to ETag
-            Response[] matchingCachedResponses = cache.getAllByWeakETag(getCacheKey(httpMethod, path), etag);
-
-            foreach var resp in matchingCachedResponses {
-                updateResponse(resp, validationResponse);
+            cache.updateAllByWeakETag(getCacheKey(httpMethod, path), etag, validationResponse);
+            if (isWeakETagMatch(cachedResponse, etag)) {
+                updateResponse(cachedResponse, validationResponse);
             }
             log:printDebug("304 response received, with a weak validator. Response(s) updated");
             return cachedResponse;
@@ -136,6 +134,7 @@ function handle304Response(Response validationResponse, Response cachedResponse,
                                                         !validationResponse.hasHeader(LAST_MODIFIED)) {
         log:printDebug("304 response received and stored response do not have validators. Updating the stored response.");
         updateResponse(<@untainted> cachedResponse, validationResponse);
+        cache.updateLatest(getCacheKey(httpMethod, path), validationResponse);
     }
 
     log:printDebug("304 response received, but stored responses were not updated.");
@@ -15,12 +15,18 @@
 // under the License.
 
 import ballerina/cache;
+import ballerina/java;
 import ballerina/log;
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
 # HTTP caching in the HTTP client endpoint.
 #
-# + cache - The underlying cache used for storing HTTP responses
+# The headers and payloads of the stored responses are held off-heap. The number of stored keys is bounded by the
+# capacity of the cache, and the total size of the stored responses by its capacity in bytes. A cache hit is served as
+# a new `Response` created from the stored headers and payload.
+#
+# + cache - Deprecated. The stored responses are no longer kept in this cache, which stays empty. It is retained for
+#           compatibility and will be removed in a future release
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
@@ -40,10 +46,25 @@ public class HttpCache {
             evictionFactor: cacheConfig.evictionFactor
         };
         self.cache = new cache:Cache(config);
+        externInitHttpCache(self, cacheConfig.capacity, cacheConfig.capacityInBytes, cacheConfig.evictionFactor);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
     }
 
+    # Gets the ratio of the cache lookups, which found a stored response.
+    #
+    # + return - The hit ratio of the cache, which is between 0 and 1
+    public function getHitRatio() returns float {
+        return externGetHttpCacheHitRatio(self);
+    }
+
+    # Gets the number of bytes held by the headers and payloads of the stored responses.
+    #
+    # + return - The size of the cache in bytes
+    public function getSize() returns int {
+        return externGetHttpCacheSize(self);
+    }
+
     function isAllowedToCache(Response response) returns boolean {
         if (self.policy == CACHE_CONTROL_AND_VALIDATORS) {
             return response.hasHeader(CACHE_CONTROL) && (response.hasHeader(ETAG) || response.hasHeader(LAST_MODIFIED));
@@ -61,8 +82,14 @@ public class HttpCache {
             // IMPT: The call to getBinaryPayload() builds the payload from the stream. If this is not done, the stream
             // will be read by the client and the response will be after the first cache hit.
             var binaryPayload = inboundResponse.getBinaryPayload();
+            if (binaryPayload is error) {
+                // Caching the response without its payload would serve an empty body on later hits
+                log:printDebug(() => "Skipping the cache entry for: " + key + ", as the payload could not be read: " +
+                                     binaryPayload.message());
+                return;
+            }
             log:printDebug(() => "Adding new cache entry for: " + key);
-            addEntry(self.cache, key, inboundResponse);
+            externAddHttpCacheEntry(self, key, inboundResponse, binaryPayload);
         }
     }
 
@@ -92,68 +119,53 @@ public class HttpCache {
         return allowedByCacheControl || inboundResp.hasHeader(EXPIRES) || isCacheableStatusCode(inboundResp.statusCode);
     }
 
+    // Checks whether responses are stored for the given key. Each check is accounted as a lookup of the cache.
     function hasKey(string key) returns boolean {
-        return self.cache.hasKey(key);
+        return externHasHttpCacheKey(self, key);
     }
 
     function get(string key) returns Response {
-        Response[] cacheEntry = <Response[]> self.cache.get(key);
-        return cacheEntry[cacheEntry.length() - 1];
+        int count = externGetHttpCacheEntryCount(self, key);
+        return <Response> externGetHttpCacheEntry(self, key, count - 1);
     }
 
-    function getAll(string key) returns Response[]|() {
-        var cacheEntry = trap <Response[]> self.cache.get(key);
-        if (cacheEntry is Response[]) {
-            return cacheEntry;
+    // Cache hits are served as copies of the stored responses. Therefore, the headers of the stored responses are
+    // updated through the following functions, instead of updating the served responses.
+    function updateAllByETag(string key, string etag, Response validationResponse) {
+        int count = externGetHttpCacheEntryCount(self, key);
+        foreach int i in 0 ..< count {
+            Response? cachedResp = externGetHttpCacheEntry(self, key, i);
+            if (cachedResp is Response && isETagMatch(cachedResp, etag)) {
+                self.update(key, i, cachedResp, validationResponse);
+            }
         }
-        return ();
     }
 
-    function getAllByETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
-
-        var responses = self.getAll(key);
-        if (responses is Response[]) {
-            cachedResponses = responses;
-        }
-
-        foreach var cachedResp in cachedResponses {
-            if (cachedResp.getHeader(ETAG) == etag && !etag.startsWith(WEAK_VALIDATOR_TAG)) {
-                matchingResponses[i] = cachedResp;
-                i = i + 1;
+    function updateAllByWeakETag(string key, string etag, Response validationResponse) {
+        int count = externGetHttpCacheEntryCount(self, key);
+        foreach int i in 0 ..< count {
+            Response? cachedResp = externGetHttpCacheEntry(self, key, i);
+            if (cachedResp is Response && isWeakETagMatch(cachedResp, etag)) {
+                self.update(key, i, cachedResp, validationResponse);
             }
         }
-
-        return matchingResponses;
     }
 
-    function getAllByWeakETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
-
-        var responses = self.getAll(key);
-        if (responses is Response[]) {
-            cachedResponses = responses;
-        }
-
-        foreach var cachedResp in cachedResponses {
-            if (cachedResp.hasHeader(ETAG) && weakValidatorEquals(etag, cachedResp.getHeader(ETAG))) {
-                matchingResponses[i] = cachedResp;
-                i = i + 1;
-            }
+    function updateLatest(string key, Response validationResponse) {
+        int count = externGetHttpCacheEntryCount(self, key);
+        Response? cachedResp = externGetHttpCacheEntry(self, key, count - 1);
+        if (cachedResp is Response) {
+            self.update(key, count - 1, cachedResp, validationResponse);
         }
+    }
 
-        return matchingResponses;
+    private function update(string key, int index, Response cachedResp, Response validationResponse) {
+        updateResponse(cachedResp, validationResponse);
+        externUpdateHttpCacheEntryHeaders(self, key, index, cachedResp);
     }
 
     function remove(string key) {
-        cache:Error? result = self.cache.invalidate(key);
-        if (result is cache:Error) {
-            log:printDebug(() => "Failed to remove the key: " + key + " from the HTTP cache.");
-        }
+        externRemoveHttpCacheEntry(self, key);
     }
 }
 
@@ -166,17 +178,12 @@ function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
-function addEntry(cache:Cache cache, string key, Response inboundResponse) {
-    if (cache.hasKey(key)) {
-        Response[] existingResponses = <Response[]>cache.get(key);
-        existingResponses.push(inboundResponse);
-    } else {
-        Response[] cachedResponses = [inboundResponse];
-        cache:Error? result = cache.put(key, cachedResponses);
-        if (result is cache:Error) {
-            log:printDebug(() => "Failed to add cached response with the key: " + key + " to the HTTP cache.");
-        }
-    }
+function isETagMatch(Response cachedResp, string etag) returns boolean {
+    return cachedResp.hasHeader(ETAG) && cachedResp.getHeader(ETAG) == etag && !etag.startsWith(WEAK_VALIDATOR_TAG);
+}
+
+function isWeakETagMatch(Response cachedResp, string etag) returns boolean {
+    return cachedResp.hasHeader(ETAG) && weakValidatorEquals(etag, cachedResp.getHeader(ETAG));
 }
 
 function weakValidatorEquals(string etag1, string etag2) returns boolean {
@@ -189,3 +196,51 @@ function weakValidatorEquals(string etag1, string etag2) returns boolean {
 function getCacheKey(string httpMethod, string url) returns string {
     return string `${httpMethod} ${url}`;
 }
+
+function externInitHttpCache(HttpCache httpCache, int capacity, int capacityInBytes, float evictionFactor) =
+@java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "init"
+} external;
+
+function externHasHttpCacheKey(HttpCache httpCache, string key) returns boolean = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "hasKey"
+} external;
+
+function externAddHttpCacheEntry(HttpCache httpCache, string key, Response response, byte[] payload) =
+@java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "addEntry"
+} external;
+
+function externGetHttpCacheEntryCount(HttpCache httpCache, string key) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getEntryCount"
+} external;
+
+function externGetHttpCacheEntry(HttpCache httpCache, string key, int index) returns Response? = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getEntry"
+} external;
+
+function externUpdateHttpCacheEntryHeaders(HttpCache httpCache, string key, int index, Response response) =
+@java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "updateEntryHeaders"
+} external;
+
+function externRemoveHttpCacheEntry(HttpCache httpCache, string key) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "remove"
+} external;
+
+function externGetHttpCacheHitRatio(HttpCache httpCache) returns float = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getHitRatio"
+} external;
+
+function externGetHttpCacheSize(HttpCache httpCache) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getSize"
+} external;
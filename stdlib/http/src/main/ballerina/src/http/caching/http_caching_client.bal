@@ -14,7 +14,6 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
 import ballerina/log;
 import ballerina/time;
 import ballerina/io;
@@ -348,21 +347,8 @@ function invalidateResponses(HttpCache httpCache, Response inboundResponse, stri
     // TODO: Improve this logic in accordance with the spec
     if (isCacheableStatusCode(inboundResponse.statusCode) &&
                     inboundResponse.statusCode >= 200 && inboundResponse.statusCode < 400) {
-        string getMethodCacheKey = getCacheKey(HTTP_GET, path);
-        if (httpCache.cache.hasKey(getMethodCacheKey)) {
-            cache:Error? result = httpCache.cache.invalidate(getMethodCacheKey);
-            if (result is cache:Error) {
-                log:printDebug(() => "Failed to remove the key: " + getMethodCacheKey + " from the cache.");
-            }
-        }
-
-        string headMethodCacheKey = getCacheKey(HTTP_HEAD, path);
-        if (httpCache.cache.hasKey(headMethodCacheKey)) {
-            cache:Error? result = httpCache.cache.invalidate(headMethodCacheKey);
-            if (result is cache:Error) {
-                log:printDebug(() => "Failed to remove the key: " + headMethodCacheKey + " from the cache.");
-            }
-        }
+        httpCache.remove(getCacheKey(HTTP_GET, path));
+        httpCache.remove(getCacheKey(HTTP_HEAD, path));
     }
 }
 
@@ -29,16 +29,20 @@ public const RFC_7234 = "RFC_7234";
 #
 # + enabled - Specifies whether HTTP caching is enabled. Caching is enabled by default.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
-# + capacity - The capacity of the cache
+# + capacity - The capacity of the cache, which is the maximum number of cached entries
+# + capacityInBytes - The capacity of the cache in bytes. This bounds the total size of the headers and payloads of the
+#                     cached responses
 # + evictionFactor - The fraction of entries to be removed when the cache is full. The value should be
-#                    between 0 (exclusive) and 1 (inclusive).
+#                    between 0 (exclusive) and 1 (inclusive). When the capacity in bytes is exceeded, the least
+#                    recently used entries are removed until this fraction of the capacity in bytes is freed.
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
 public type CacheConfig record {|
     boolean enabled = true;
     boolean isShared = false;
-    int capacity = 8388608; // 8MB
+    int capacity = 8388608;
+    int capacityInBytes = 8388608; // 8MB
     float evictionFactor = 0.2;
     CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
 |};
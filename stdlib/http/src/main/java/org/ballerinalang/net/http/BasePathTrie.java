@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Radix trie of service base paths, used to find the most specific base path of a request path in a single pass
+ * over the request path, without creating intermediate strings.
+ * <p>
+ * A base path matches a request path if both are equal, ignoring case, or if the request path starts with the base
+ * path followed by a '/'. The longest matching base path is the most specific one. If none of the base paths match,
+ * the default base path is used if a service is registered under it.
+ * <p>
+ * The trie is immutable once built, registering or un-registering a service builds a new trie.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private static final char PATH_SEPARATOR = '/';
+
+    private final Node root = new Node("");
+
+    /**
+     * Base paths keyed by their lower case value, used to match a request path which differs only by case.
+     */
+    private final Map<String, String> caseInsensitiveBasePaths = new HashMap<>();
+
+    /**
+     * Lengths of the registered base paths, so that the request path is lower cased only if a base path of the
+     * same length exists.
+     */
+    private final BitSet basePathLengths = new BitSet();
+
+    private final boolean hasDefaultBasePath;
+
+    public BasePathTrie(Collection<String> basePaths) {
+        for (String basePath : basePaths) {
+            insert(basePath);
+            caseInsensitiveBasePaths.putIfAbsent(basePath.toLowerCase(Locale.getDefault()), basePath);
+            basePathLengths.set(basePath.length());
+        }
+        this.hasDefaultBasePath = basePaths.contains(HttpConstants.DEFAULT_BASE_PATH);
+    }
+
+    /**
+     * Find the most specific base path which matches the given request path.
+     *
+     * @param requestURIPath raw path of the request
+     * @return the matching base path, or null if none of the base paths match
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath) {
+        String basePath = findLongestPrefix(requestURIPath);
+        if ((basePath == null || basePath.length() != requestURIPath.length()) &&
+                basePathLengths.get(requestURIPath.length())) {
+            String caseInsensitiveMatch = caseInsensitiveBasePaths.get(
+                    requestURIPath.toLowerCase(Locale.getDefault()));
+            if (caseInsensitiveMatch != null) {
+                return caseInsensitiveMatch;
+            }
+        }
+        if (basePath != null) {
+            return basePath;
+        }
+        return hasDefaultBasePath ? HttpConstants.DEFAULT_BASE_PATH : null;
+    }
+
+    private String findLongestPrefix(String path) {
+        Node node = root;
+        int offset = 0;
+        String match = null;
+        int pathLength = path.length();
+        while (true) {
+            if (node.basePath != null && (offset == pathLength || path.charAt(offset) == PATH_SEPARATOR)) {
+                match = node.basePath;
+            }
+            if (offset == pathLength) {
+                return match;
+            }
+            Node child = node.getChild(path.charAt(offset));
+            if (child == null || !path.startsWith(child.label, offset)) {
+                return match;
+            }
+            offset += child.label.length();
+            node = child;
+        }
+    }
+
+    private void insert(String basePath) {
+        Node node = root;
+        int offset = 0;
+        while (offset < basePath.length()) {
+            char firstChar = basePath.charAt(offset);
+            Node child = node.getChild(firstChar);
+            if (child == null) {
+                Node leaf = new Node(basePath.substring(offset));
+                leaf.basePath = basePath;
+                node.addChild(leaf);
+                return;
+            }
+            int commonLength = commonPrefixLength(child.label, basePath, offset);
+            if (commonLength < child.label.length()) {
+                Node intermediate = new Node(child.label.substring(0, commonLength));
+                child.label = child.label.substring(commonLength);
+                intermediate.addChild(child);
+                node.replaceChild(firstChar, intermediate);
+                child = intermediate;
+            }
+            node = child;
+            offset += commonLength;
+        }
+        node.basePath = basePath;
+    }
+
+    private static int commonPrefixLength(String label, String basePath, int offset) {
+        int maxLength = Math.min(label.length(), basePath.length() - offset);
+        int length = 0;
+        while (length < maxLength && label.charAt(length) == basePath.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Node of the trie. The label of a node is the part of the base path between the parent node and the node.
+     */
+    private static class Node {
+        private String label;
+        private String basePath;
+        private char[] childKeys = new char[0];
+        private Node[] children = new Node[0];
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node getChild(char firstChar) {
+            for (int i = 0; i < childKeys.length; i++) {
+                if (childKeys[i] == firstChar) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            int size = childKeys.length;
+            childKeys = Arrays.copyOf(childKeys, size + 1);
+            children = Arrays.copyOf(children, size + 1);
+            childKeys[size] = child.label.charAt(0);
+            children[size] = child;
+        }
+
+        void replaceChild(char firstChar, Node child) {
+            for (int i = 0; i < childKeys.length; i++) {
+                if (childKeys[i] == firstChar) {
+                    children[i] = child;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -35,7 +35,6 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
 
@@ -51,7 +50,6 @@ public class HTTPServicesRegistry {
 
     protected Map<String, ServicesMapHolder> servicesMapByHost = new ConcurrentHashMap<>();
     protected Map<String, HttpService> servicesByBasePath;
-    protected List<String> sortedServiceURIs;
     private final WebSocketServicesRegistry webSocketServicesRegistry;
     private Scheduler scheduler;
     private BRuntime runtime;
@@ -91,13 +89,13 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Get sortedServiceURIs list for given host name.
+     * Get base path trie for given host name.
      *
      * @param hostName of the service
-     * @return the sorted basePath list if exists else null
+     * @return the base path trie of the host
      */
-    public List<String> getSortedServiceURIsByHost(String hostName) {
-        return servicesMapByHost.get(hostName).sortedServiceURIs;
+    public BasePathTrie getBasePathTrieByHost(String hostName) {
+        return servicesMapByHost.get(hostName).basePathTrie;
     }
 
     /**
@@ -111,13 +109,13 @@ public class HTTPServicesRegistry {
 
         for (HttpService httpService : httpServices) {
             String hostName = httpService.getHostName();
-            if (servicesMapByHost.get(hostName) == null) {
+            ServicesMapHolder servicesMapHolder = servicesMapByHost.get(hostName);
+            if (servicesMapHolder == null) {
                 servicesByBasePath = new ConcurrentHashMap<>();
-                sortedServiceURIs = new CopyOnWriteArrayList<>();
-                servicesMapByHost.put(hostName, new ServicesMapHolder(servicesByBasePath, sortedServiceURIs));
+                servicesMapHolder = new ServicesMapHolder(servicesByBasePath);
+                servicesMapByHost.put(hostName, servicesMapHolder);
             } else {
                 servicesByBasePath = getServicesByHost(hostName);
-                sortedServiceURIs = getSortedServiceURIsByHost(hostName);
             }
 
             String basePath = httpService.getBasePath();
@@ -133,8 +131,7 @@ public class HTTPServicesRegistry {
             logger.info(errLog);
 
             //basePath will get cached after registering service
-            sortedServiceURIs.add(basePath);
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapHolder.rebuildBasePathTrie();
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService, runtime);
         }
@@ -168,23 +165,8 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
-        }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
-            return HttpConstants.DEFAULT_BASE_PATH;
-        }
-        return null;
+    public String findTheMostSpecificBasePath(String requestURIPath, BasePathTrie basePathTrie) {
+        return basePathTrie.findTheMostSpecificBasePath(requestURIPath);
     }
 
     public Scheduler getScheduler() {
@@ -200,15 +182,19 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Holds both serviceByBasePath map and sorted Service basePath list.
+     * Holds both serviceByBasePath map and the trie of Service basePaths.
      */
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
-        private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
-        public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
+        public ServicesMapHolder(Map<String, HttpService> servicesByBasePath) {
             this.servicesByBasePath = servicesByBasePath;
-            this.sortedServiceURIs = sortedServiceURIs;
+            this.basePathTrie = new BasePathTrie(servicesByBasePath.keySet());
+        }
+
+        private void rebuildBasePathTrie() {
+            this.basePathTrie = new BasePathTrie(servicesByBasePath.keySet());
         }
     }
 
@@ -226,19 +212,17 @@ public class HTTPServicesRegistry {
                 continue;
             }
             servicesByBasePath = getServicesByHost(hostName);
-            sortedServiceURIs = getSortedServiceURIsByHost(hostName);
 
             String basePath = httpService.getBasePath();
             if (!servicesByBasePath.containsKey(basePath)) {
                 continue;
             }
             servicesByBasePath.remove(basePath);
-            sortedServiceURIs.remove(basePath);
+            servicesMapHolder.rebuildBasePathTrie();
             if (logger.isDebugEnabled()) {
                 logger.debug(String.format("Service detached : %s with context %s", service.getType().getName(),
                                            basePath));
             }
-            sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
         }
     }
 }
@@ -250,6 +250,8 @@ public class HttpConstants {
     public static final BString RESOLVED_REQUESTED_URI_FIELD = BStringUtils.fromString("resolvedRequestedURI");
     public static final BString RESPONSE_CACHE_CONTROL_FIELD = BStringUtils.fromString("cacheControl");
     public static final String IN_RESPONSE_RECEIVED_TIME_FIELD = "receivedTime";
+    public static final BString RESPONSE_RECEIVED_TIME_FIELD = BStringUtils.fromString("receivedTime");
+    public static final BString RESPONSE_REQUEST_TIME_FIELD = BStringUtils.fromString("requestTime");
 
     //PushPromise struct field names
     public static final BString PUSH_PROMISE_PATH_FIELD = BStringUtils.fromString("path");
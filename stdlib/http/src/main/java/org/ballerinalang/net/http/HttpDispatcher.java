@@ -39,7 +39,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -55,15 +54,15 @@ public class HttpDispatcher {
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
@@ -80,8 +79,7 @@ public class HttpDispatcher {
 
             URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(), basePathTrie);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.caching;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.ValueCreatorUtils;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.ballerinalang.net.http.HttpConstants.RESPONSE_RECEIVED_TIME_FIELD;
+import static org.ballerinalang.net.http.HttpConstants.RESPONSE_REQUEST_TIME_FIELD;
+
+/**
+ * A response stored in the HTTP cache. The headers and the payload of the response are serialized into direct
+ * buffers, so that stored responses do not occupy the heap.
+ *
+ * @since 2.0.0
+ */
+public class CachedResponse {
+
+    private final int statusCode;
+    private final long requestTime;
+    private final long receivedTime;
+
+    /**
+     * Header names and values, each prefixed with its length, preceded by the number of headers.
+     */
+    private final ByteBuffer headers;
+    private final ByteBuffer payload;
+
+    public CachedResponse(int statusCode, long requestTime, long receivedTime, HttpHeaders httpHeaders,
+                          byte[] payload) {
+        this(statusCode, requestTime, receivedTime, serialize(httpHeaders), toDirectBuffer(payload));
+    }
+
+    private CachedResponse(int statusCode, long requestTime, long receivedTime, ByteBuffer headers,
+                           ByteBuffer payload) {
+        this.statusCode = statusCode;
+        this.requestTime = requestTime;
+        this.receivedTime = receivedTime;
+        this.headers = headers;
+        this.payload = payload;
+    }
+
+    /**
+     * Creates a copy of this response with the given headers. The payload is shared with this response.
+     *
+     * @param httpHeaders headers of the new response
+     * @return the response with the given headers
+     */
+    public CachedResponse withHeaders(HttpHeaders httpHeaders) {
+        return new CachedResponse(statusCode, requestTime, receivedTime, serialize(httpHeaders), payload);
+    }
+
+    /**
+     * Creates a new inbound response from the stored headers and payload. The payload is handed over to the
+     * response without copying it to the heap.
+     *
+     * @return the response object
+     */
+    public BObject toResponse() {
+        HttpCarbonMessage responseMessage = new HttpCarbonMessage(
+                new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(statusCode)));
+        responseMessage.setHttpStatusCode(statusCode);
+        deserialize(responseMessage.getHeaders());
+        responseMessage.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(payload.duplicate())));
+
+        BObject response = ValueCreatorUtils.createResponseObject();
+        BObject entity = ValueCreatorUtils.createEntityObject();
+        HttpUtil.populateInboundResponse(response, entity, responseMessage);
+        response.set(RESPONSE_REQUEST_TIME_FIELD, requestTime);
+        response.set(RESPONSE_RECEIVED_TIME_FIELD, receivedTime);
+        return response;
+    }
+
+    /**
+     * Gets the number of bytes held by the response.
+     *
+     * @return the size of the serialized headers and the payload
+     */
+    public long getSize() {
+        return (long) headers.capacity() + payload.capacity();
+    }
+
+    private void deserialize(HttpHeaders httpHeaders) {
+        ByteBuffer buffer = headers.duplicate();
+        int headerCount = buffer.getInt();
+        for (int i = 0; i < headerCount; i++) {
+            httpHeaders.add(readString(buffer), readString(buffer));
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer serialize(HttpHeaders httpHeaders) {
+        List<byte[]> fields = new ArrayList<>();
+        int size = Integer.BYTES;
+        if (httpHeaders != null) {
+            for (Map.Entry<String, String> header : httpHeaders) {
+                byte[] name = header.getKey().getBytes(StandardCharsets.UTF_8);
+                byte[] value = header.getValue().getBytes(StandardCharsets.UTF_8);
+                fields.add(name);
+                fields.add(value);
+                size += 2 * Integer.BYTES + name.length + value.length;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        buffer.putInt(fields.size() / 2);
+        for (byte[] field : fields) {
+            buffer.putInt(field.length);
+            buffer.put(field);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer toDirectBuffer(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(payload.length);
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.caching;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the responses of the HTTP cache, bounded by the number of keys and by the total number of bytes held by the
+ * stored responses.
+ * <p>
+ * Keys are kept in the order they were last accessed. When the number of keys exceeds the capacity, the fraction of
+ * the capacity given by the eviction factor is evicted, starting from the least recently used key, as the entries of
+ * a {@code cache:Cache} are. When the size of the stored responses exceeds the capacity in bytes, the least recently
+ * used keys are evicted until the size drops below the capacity in bytes less that fraction of it.
+ *
+ * @since 2.0.0
+ */
+public class ResponseCacheStore {
+
+    private final long capacity;
+    private final long capacityInBytes;
+    private final long evictionCount;
+    private final long evictionThresholdInBytes;
+    private final Map<String, List<CachedResponse>> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+    private long lookups = 0;
+    private long hits = 0;
+
+    /**
+     * Creates a store of the HTTP cache.
+     *
+     * @param capacity        maximum number of keys
+     * @param capacityInBytes maximum number of bytes held by the stored responses
+     * @param evictionFactor  fraction of the exceeded capacity to be freed when the store is full
+     */
+    public ResponseCacheStore(long capacity, long capacityInBytes, double evictionFactor) {
+        this.capacity = capacity;
+        this.capacityInBytes = capacityInBytes;
+        this.evictionCount = Math.max(1, (long) (capacity * evictionFactor));
+        this.evictionThresholdInBytes = (long) (capacityInBytes * (1 - evictionFactor));
+    }
+
+    /**
+     * Checks whether responses are stored for the given key. Each check is accounted as a lookup of the cache.
+     *
+     * @param key cache key
+     * @return true if there are responses stored for the key
+     */
+    public synchronized boolean hasKey(String key) {
+        lookups++;
+        if (responses.get(key) == null) {
+            return false;
+        }
+        hits++;
+        return true;
+    }
+
+    /**
+     * Stores a response under the given key, in addition to the responses already stored under the key.
+     *
+     * @param key      cache key
+     * @param response response to be stored
+     * @return false if the response is larger than the capacity of the cache in bytes, in which case it is not stored
+     */
+    public synchronized boolean add(String key, CachedResponse response) {
+        if (response.getSize() > capacityInBytes) {
+            return false;
+        }
+        responses.computeIfAbsent(key, k -> new ArrayList<>()).add(response);
+        size += response.getSize();
+        evictIfFull();
+        return true;
+    }
+
+    public synchronized int getCount(String key) {
+        List<CachedResponse> storedResponses = responses.get(key);
+        return storedResponses == null ? 0 : storedResponses.size();
+    }
+
+    /**
+     * Gets the response stored at the given position under the given key.
+     *
+     * @param key   cache key
+     * @param index position of the response, in the order the responses were stored
+     * @return the response, or null if there is no such response
+     */
+    public synchronized CachedResponse get(String key, int index) {
+        List<CachedResponse> storedResponses = responses.get(key);
+        if (storedResponses == null || index < 0 || index >= storedResponses.size()) {
+            return null;
+        }
+        return storedResponses.get(index);
+    }
+
+    /**
+     * Replaces the response stored at the given position under the given key.
+     *
+     * @param key      cache key
+     * @param index    position of the response
+     * @param response the new response
+     */
+    public synchronized void replace(String key, int index, CachedResponse response) {
+        List<CachedResponse> storedResponses = responses.get(key);
+        if (storedResponses == null || index < 0 || index >= storedResponses.size()) {
+            return;
+        }
+        size += response.getSize() - storedResponses.set(index, response).getSize();
+        evictIfFull();
+    }
+
+    public synchronized void remove(String key) {
+        List<CachedResponse> storedResponses = responses.remove(key);
+        if (storedResponses != null) {
+            storedResponses.forEach(response -> size -= response.getSize());
+        }
+    }
+
+    /**
+     * Gets the ratio of the lookups which found stored responses.
+     *
+     * @return the hit ratio, 0 if the cache has not been looked up
+     */
+    public synchronized double getHitRatio() {
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Gets the number of bytes held by the stored responses.
+     *
+     * @return the size of the cache in bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    private void evictIfFull() {
+        long keysToEvict = responses.size() > capacity ? responses.size() - capacity - 1 + evictionCount : 0;
+        long bytesToFree = size > capacityInBytes ? size - evictionThresholdInBytes : 0;
+        Iterator<List<CachedResponse>> iterator = responses.values().iterator();
+        while ((keysToEvict > 0 || bytesToFree > 0) && iterator.hasNext()) {
+            for (CachedResponse response : iterator.next()) {
+                size -= response.getSize();
+                bytesToFree -= response.getSize();
+            }
+            iterator.remove();
+            keysToEvict--;
+        }
+    }
+}
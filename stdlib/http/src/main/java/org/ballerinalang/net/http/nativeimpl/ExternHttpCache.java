@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.ballerinalang.net.http.HttpErrorType;
+import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.caching.CachedResponse;
+import org.ballerinalang.net.http.caching.ResponseCacheStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.ballerinalang.net.http.HttpConstants.HTTP_HEADERS;
+import static org.ballerinalang.net.http.HttpConstants.RESPONSE_RECEIVED_TIME_FIELD;
+import static org.ballerinalang.net.http.HttpConstants.RESPONSE_REQUEST_TIME_FIELD;
+import static org.ballerinalang.net.http.HttpConstants.RESPONSE_SERVER_FIELD;
+import static org.ballerinalang.net.http.HttpConstants.RESPONSE_STATUS_CODE_FIELD;
+
+/**
+ * Utilities related to the HTTP cache.
+ *
+ * @since 2.0.0
+ */
+public class ExternHttpCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternHttpCache.class);
+    private static final String RESPONSE_CACHE_STORE = "response_cache_store";
+
+    public static void init(BObject httpCache, long capacity, long capacityInBytes, double evictionFactor) {
+        if (capacity <= 0) {
+            throw HttpUtil.createHttpError("Cache capacity must be greater than 0",
+                                           HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+        if (capacityInBytes <= 0) {
+            throw HttpUtil.createHttpError("Cache capacity in bytes must be greater than 0",
+                                           HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+        if (evictionFactor <= 0 || evictionFactor > 1) {
+            throw HttpUtil.createHttpError("Cache eviction factor must be between 0.0 (exclusive) and 1.0 (inclusive)",
+                                           HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+        httpCache.addNativeData(RESPONSE_CACHE_STORE,
+                                new ResponseCacheStore(capacity, capacityInBytes, evictionFactor));
+    }
+
+    public static boolean hasKey(BObject httpCache, BString key) {
+        return getStore(httpCache).hasKey(key.getValue());
+    }
+
+    public static void addEntry(BObject httpCache, BString key, BObject response, BArray payload) {
+        CachedResponse cachedResponse = new CachedResponse((int) response.getIntValue(RESPONSE_STATUS_CODE_FIELD),
+                                                           response.getIntValue(RESPONSE_REQUEST_TIME_FIELD),
+                                                           response.getIntValue(RESPONSE_RECEIVED_TIME_FIELD),
+                                                           getHeaders(response), payload.getBytes());
+        if (!getStore(httpCache).add(key.getValue(), cachedResponse)) {
+            log.debug("Response for the key: {} exceeds the capacity in bytes of the HTTP cache", key.getValue());
+        }
+    }
+
+    public static long getEntryCount(BObject httpCache, BString key) {
+        return getStore(httpCache).getCount(key.getValue());
+    }
+
+    public static Object getEntry(BObject httpCache, BString key, long index) {
+        CachedResponse cachedResponse = getStore(httpCache).get(key.getValue(), (int) index);
+        return cachedResponse == null ? null : cachedResponse.toResponse();
+    }
+
+    public static void updateEntryHeaders(BObject httpCache, BString key, long index, BObject response) {
+        ResponseCacheStore store = getStore(httpCache);
+        CachedResponse cachedResponse = store.get(key.getValue(), (int) index);
+        if (cachedResponse != null) {
+            store.replace(key.getValue(), (int) index, cachedResponse.withHeaders(getHeaders(response)));
+        }
+    }
+
+    public static void remove(BObject httpCache, BString key) {
+        getStore(httpCache).remove(key.getValue());
+    }
+
+    public static double getHitRatio(BObject httpCache) {
+        return getStore(httpCache).getHitRatio();
+    }
+
+    public static long getSize(BObject httpCache) {
+        return getStore(httpCache).getSize();
+    }
+
+    private static ResponseCacheStore getStore(BObject httpCache) {
+        return (ResponseCacheStore) httpCache.getNativeData(RESPONSE_CACHE_STORE);
+    }
+
+    /**
+     * Gets the headers of the response, including the server header which is held in a field of inbound responses.
+     */
+    private static HttpHeaders getHeaders(BObject response) {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        HttpHeaders responseHeaders = (HttpHeaders) response.getNativeData(HTTP_HEADERS);
+        if (responseHeaders != null) {
+            headers.add(responseHeaders);
+        }
+        String server = response.getStringValue(RESPONSE_SERVER_FIELD).getValue();
+        if (!server.isEmpty() && !headers.contains(HttpHeaderNames.SERVER)) {
+            headers.add(HttpHeaderNames.SERVER, server);
+        }
+        return headers;
+    }
+}
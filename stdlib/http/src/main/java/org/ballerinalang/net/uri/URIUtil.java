@@ -111,6 +111,9 @@ public class URIUtil {
 
 
     public static String extractMatrixParams(String path, Map<String, Map<String, String>> matrixParams) {
+        if (isNormalizedWithoutMatrixParams(path)) {
+            return path;
+        }
         if (path.startsWith("/")) {
             path = path.substring(1);
         }
@@ -138,4 +141,25 @@ public class URIUtil {
         }
         return pathToMatrixParam;
     }
+
+    /**
+     * Checks whether the given path is returned as it is by {@link #extractMatrixParams(String, Map)}, i.e. it
+     * starts with a '/', does not contain matrix params and does not end with a '/' or an empty query. Such paths,
+     * which are the common case, do not need to be split into segments.
+     *
+     * @param path raw request path
+     * @return true if the path does not need any processing
+     */
+    private static boolean isNormalizedWithoutMatrixParams(String path) {
+        if (!path.startsWith(URI_PATH_DELIMITER) || path.endsWith("?")) {
+            return false;
+        }
+        int queryIndex = path.indexOf('?');
+        int pathEnd = queryIndex < 0 ? path.length() : queryIndex;
+        if (pathEnd > 1 && path.charAt(pathEnd - 1) == '/') {
+            return false;
+        }
+        int matrixParamIndex = path.indexOf(';');
+        return matrixParamIndex < 0 || matrixParamIndex > pathEnd;
+    }
 }
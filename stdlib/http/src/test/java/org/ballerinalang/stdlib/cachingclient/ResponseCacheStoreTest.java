@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cachingclient;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.ballerinalang.net.http.caching.CachedResponse;
+import org.ballerinalang.net.http.caching.ResponseCacheStore;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the byte bounded store of the HTTP cache.
+ */
+public class ResponseCacheStoreTest {
+
+    private static final String ETAG = "Etag";
+
+    @Test(description = "Tests whether the size of the store is the size of the stored headers and payloads")
+    public void testSize() {
+        ResponseCacheStore store = new ResponseCacheStore(100, 1024, 0.2);
+        CachedResponse response = createResponse(100);
+        store.add("GET /foo", response);
+        store.add("GET /foo", createResponse(50));
+        Assert.assertEquals(store.getCount("GET /foo"), 2);
+        Assert.assertTrue(response.getSize() > 100);
+        Assert.assertEquals(store.getSize(), response.getSize() + createResponse(50).getSize());
+
+        store.remove("GET /foo");
+        Assert.assertEquals(store.getCount("GET /foo"), 0);
+        Assert.assertEquals(store.getSize(), 0);
+    }
+
+    @Test(description = "Tests whether the least recently used keys are evicted when the number of keys exceeds the " +
+            "capacity")
+    public void testEvictionByKeyCount() {
+        ResponseCacheStore store = new ResponseCacheStore(4, 1024 * 1024, 0.5);
+        store.add("GET /a", createResponse(10));
+        store.add("GET /b", createResponse(10));
+        store.add("GET /c", createResponse(10));
+        store.add("GET /c", createResponse(10));
+        store.add("GET /d", createResponse(10));
+        Assert.assertTrue(store.hasKey("GET /a"));
+        store.add("GET /e", createResponse(10));
+
+        // Half of the capacity is evicted, starting from the least recently used key
+        Assert.assertFalse(store.hasKey("GET /b"));
+        Assert.assertFalse(store.hasKey("GET /c"));
+        Assert.assertTrue(store.hasKey("GET /d"));
+        Assert.assertTrue(store.hasKey("GET /a"));
+        Assert.assertTrue(store.hasKey("GET /e"));
+        Assert.assertEquals(store.getSize(), 3 * createResponse(10).getSize());
+    }
+
+    @Test(description = "Tests whether the least recently used keys are evicted when the capacity in bytes is " +
+            "exceeded")
+    public void testEviction() {
+        ResponseCacheStore store = new ResponseCacheStore(100, 1000, 0.1);
+        store.add("GET /a", createResponse(400));
+        store.add("GET /b", createResponse(400));
+        Assert.assertTrue(store.hasKey("GET /a"));
+        store.add("GET /c", createResponse(400));
+
+        Assert.assertTrue(store.hasKey("GET /a"));
+        Assert.assertFalse(store.hasKey("GET /b"));
+        Assert.assertTrue(store.hasKey("GET /c"));
+        Assert.assertTrue(store.getSize() <= 900);
+    }
+
+    @Test(description = "Tests whether responses larger than the capacity are not stored")
+    public void testResponseLargerThanCapacity() {
+        ResponseCacheStore store = new ResponseCacheStore(100, 100, 0.2);
+        Assert.assertFalse(store.add("GET /foo", createResponse(200)));
+        Assert.assertFalse(store.hasKey("GET /foo"));
+        Assert.assertEquals(store.getSize(), 0);
+    }
+
+    @Test(description = "Tests whether the headers of a stored response are replaced, keeping the payload")
+    public void testReplaceHeaders() {
+        ResponseCacheStore store = new ResponseCacheStore(100, 1024, 0.2);
+        CachedResponse response = createResponse(100);
+        store.add("GET /foo", response);
+
+        HttpHeaders headers = new DefaultHttpHeaders();
+        headers.add(ETAG, "1sps79e:q0efehi8");
+        headers.add("test-name", "ballerina-replace-headers");
+        CachedResponse updatedResponse = response.withHeaders(headers);
+        store.replace("GET /foo", 0, updatedResponse);
+
+        Assert.assertSame(store.get("GET /foo", 0), updatedResponse);
+        Assert.assertEquals(store.getSize(), updatedResponse.getSize());
+        Assert.assertTrue(updatedResponse.getSize() > response.getSize());
+        Assert.assertNull(store.get("GET /foo", 1));
+    }
+
+    @Test(description = "Tests the hit ratio of the store")
+    public void testHitRatio() {
+        ResponseCacheStore store = new ResponseCacheStore(100, 1024, 0.2);
+        Assert.assertEquals(store.getHitRatio(), 0.0);
+        store.add("GET /foo", createResponse(10));
+        store.hasKey("GET /foo");
+        store.hasKey("GET /foo");
+        store.hasKey("GET /foo");
+        store.hasKey("GET /bar");
+        Assert.assertEquals(store.getHitRatio(), 0.75);
+    }
+
+    private static CachedResponse createResponse(int payloadSize) {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        headers.add(ETAG, "1sps79e");
+        return new CachedResponse(200, 0, 0, headers, new byte[payloadSize]);
+    }
+}
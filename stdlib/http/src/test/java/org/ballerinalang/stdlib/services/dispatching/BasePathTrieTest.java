@@ -0,0 +1,81 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*  http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.ballerinalang.net.uri.URIUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test class for the base path trie used to find the service of a request.
+ */
+public class BasePathTrieTest {
+
+    private final BasePathTrie basePathTrie = new BasePathTrie(
+            Arrays.asList("/", "/hello", "/hello/world", "/helloWorld", "/echo", "/echo/v1/foo"));
+
+    @Test(description = "Test finding the most specific base path")
+    public void testMostSpecificBasePath() {
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello"), "/hello");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/bar"), "/hello");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/hello/world/bar"), "/hello/world");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/helloWorld/bar"), "/helloWorld");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/echo/v1"), "/echo");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/echo/v1/foo"), "/echo/v1/foo");
+    }
+
+    @Test(description = "Test that a base path matches only complete path segments")
+    public void testPartialSegmentFallsBackToDefaultBasePath() {
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/helloW"), "/");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/echoes/bar"), "/");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/"), "/");
+    }
+
+    @Test(description = "Test that a request path which differs only by case matches the base path")
+    public void testCaseInsensitiveExactMatch() {
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/HELLO"), "/hello");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/Hello/World"), "/hello/world");
+        Assert.assertEquals(basePathTrie.findTheMostSpecificBasePath("/HELLO/bar"), "/");
+    }
+
+    @Test(description = "Test that null is returned when no base path matches and there's no default base path")
+    public void testNoMatchingBasePath() {
+        BasePathTrie trie = new BasePathTrie(Arrays.asList("/foo", "/foo/bar"));
+        Assert.assertNull(trie.findTheMostSpecificBasePath("/bar"));
+        Assert.assertNull(trie.findTheMostSpecificBasePath("/foobar"));
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/foo/baz"), "/foo");
+    }
+
+    @Test(description = "Test that paths without matrix params are returned as they are")
+    public void testExtractMatrixParams() {
+        Map<String, Map<String, String>> matrixParams = new HashMap<>();
+        String uri = "/hello/world?foo=bar";
+        Assert.assertSame(URIUtil.extractMatrixParams(uri, matrixParams), uri);
+        Assert.assertTrue(matrixParams.isEmpty());
+
+        Assert.assertEquals(URIUtil.extractMatrixParams("/hello/world/?foo=bar", matrixParams),
+                            "/hello/world?foo=bar");
+        Assert.assertEquals(URIUtil.extractMatrixParams("/hello;a=b/world", matrixParams), "/hello/world");
+        Assert.assertEquals(matrixParams.get("/hello").get("a"), "b");
+    }
+}
@@ -27,6 +27,14 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Test cases for ballerina/http.response native functions.
@@ -50,4 +58,37 @@ public class ConnectionNativeFunctionTest {
         Assert.assertEquals((int) response.getHttpStatusCode(), 301);
         Assert.assertEquals(response.getHeader("Location"), "location1");
     }
+
+    @Test(description = "Test whether a large file payload is written completely.")
+    public void testLargeFilePayload() throws IOException {
+        int fileSize = 9 * 1024 * 1024 + 17;
+        byte[] content = new byte[fileSize];
+        for (int i = 0; i < fileSize; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        Path file = Files.createTempFile("large-payload", ".bin");
+        try {
+            Files.write(file, content);
+            String path = "/hello/file?path=" + URLEncoder.encode(file.toString(), StandardCharsets.UTF_8.name());
+            HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage(path, HttpConstants.HTTP_METHOD_GET);
+            HttpCarbonMessage response = Services.invoke(MOCK_ENDPOINT_PORT, cMsg);
+
+            Assert.assertNotNull(response, "Response message not found");
+            Assert.assertEquals((int) response.getHttpStatusCode(), 200);
+            byte[] received = new byte[fileSize];
+            int receivedSize = 0;
+            try (InputStream inputStream = new HttpMessageDataStreamer(response).getInputStream()) {
+                int read;
+                while (receivedSize < fileSize &&
+                        (read = inputStream.read(received, receivedSize, fileSize - receivedSize)) > 0) {
+                    receivedSize += read;
+                }
+                Assert.assertEquals(inputStream.read(), -1, "Response is larger than the file");
+            }
+            Assert.assertEquals(receivedSize, fileSize);
+            Assert.assertEquals(received, content);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
@@ -11,4 +11,17 @@ service hello on mockEP {
         http:Response res = new;
         checkpanic caller->redirect(res, http:REDIRECT_MOVED_PERMANENTLY_301, ["location1"]);
     }
+
+    @http:ResourceConfig {
+        path:"/file",
+        methods:["GET"]
+    }
+    resource function file (http:Caller caller, http:Request req) {
+        http:Response res = new;
+        string? filePath = req.getQueryParamValue("path");
+        if (filePath is string) {
+            res.setFileAsPayload(<@untainted> filePath);
+        }
+        checkpanic caller->respond(res);
+    }
 }
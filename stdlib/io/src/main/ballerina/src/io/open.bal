@@ -19,11 +19,15 @@ import ballerina/java;
 # Retrieves a `ReadableByteChannel` from a given file path.
 #```ballerina
 # io:ReadableByteChannel readableFieldResult = check io:openReadableFile("./files/sample.txt");
+# io:ReadableByteChannel mappedFieldResult = check io:openReadableFile("./files/sample.bin", memoryMapped = true);
 #```
 #
 # + path - Relative/absolute path string to locate the file
+# + memoryMapped - Whether the file should be memory mapped. Reads of a memory-mapped file are served from the
+#                  OS page cache without a system call per read, which benefits large files and small data reads
 # + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
-public function openReadableFile(@untainted string path) returns ReadableByteChannel|Error = @java:Method {
+public function openReadableFile(@untainted string path, boolean memoryMapped = false)
+                                 returns ReadableByteChannel|Error = @java:Method {
     name: "openReadableFile",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
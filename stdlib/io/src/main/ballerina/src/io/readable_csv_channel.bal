@@ -109,6 +109,38 @@ public class ReadableCSVChannel {
     returns @tainted table<record {}>|Error {
         return getTableExtern(self, structType, fieldNames);
     }
+
+# Returns a stream of records, which corresponds to the CSV records. Records are read from the channel and converted
+# to the given type one at a time as the stream is consumed.
+# ```ballerina
+# stream<record {}, io:Error> employees = readableCSVChannel.getStream(Employee);
+# ```
+#
+# + recordType - The record type to which the CSV records should be converted
+# + return - Stream of records, which represents the CSV records
+    public function getStream(typedesc<record {}> recordType) returns @tainted stream<record {}, Error> {
+        CSVRecordIterator iterator = new (self, recordType);
+        return new stream<record {}, Error>(iterator);
+    }
+}
+
+# Iterates the records of a `ReadableCSVChannel` converting each of them to the given record type.
+class CSVRecordIterator {
+    private ReadableCSVChannel csvChannel;
+    private typedesc<record {}> recordType;
+
+    function init(ReadableCSVChannel csvChannel, typedesc<record {}> recordType) {
+        self.csvChannel = csvChannel;
+        self.recordType = recordType;
+    }
+
+    public function next() returns @tainted record {| record {} value; |}|Error? {
+        var result = getNextRecordExtern(self.csvChannel, self.recordType);
+        if (result is record {}) {
+            return {value: result};
+        }
+        return result;
+    }
 }
 
 function getTableExtern(ReadableCSVChannel csvChannel, typedesc<record {}> structType, string[] fieldNames)
@@ -116,3 +148,9 @@ function getTableExtern(ReadableCSVChannel csvChannel, typedesc<record {}> struc
     name: "getTable",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.GetTable"
 } external;
+
+function getNextRecordExtern(ReadableCSVChannel csvChannel, typedesc<record {}> recordType)
+            returns @tainted record {}|Error? = @java:Method {
+    name: "getNextRecord",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.GetTable"
+} external;
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.channels.base.Representation;
+import org.ballerinalang.stdlib.io.channels.base.data.LongResult;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * <p>
+ * Represents a read only channel which serves the content of a file through a {@link MappedByteBuffer}.
+ * </p>
+ * <p>
+ * Reads are served from the page cache without a system call per read. Files larger than the maximum size of a
+ * buffer are mapped region by region as the content is read.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class MappedFileIOChannel extends Channel {
+
+    /**
+     * The maximum number of bytes mapped at once.
+     */
+    private static final long MAX_REGION_SIZE = Integer.MAX_VALUE;
+
+    private FileChannel channel;
+
+    /**
+     * Size of the file at the time it was mapped.
+     */
+    private long size;
+
+    /**
+     * Currently mapped region of the file.
+     */
+    private MappedByteBuffer region;
+
+    /**
+     * Position of the file which the current region starts from.
+     */
+    private long regionStart;
+
+    private boolean hasReachedToEnd = false;
+
+    public MappedFileIOChannel(FileChannel channel) throws IOException {
+        super(channel);
+        this.channel = channel;
+        this.size = channel.size();
+        map(0);
+    }
+
+    private void map(long start) throws IOException {
+        long length = Math.min(size - start, MAX_REGION_SIZE);
+        region = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        regionStart = start;
+    }
+
+    /**
+     * Maps the next region of the file if the current region has been fully read.
+     *
+     * @return true if there are bytes remaining to be read.
+     * @throws IOException during I/O error.
+     */
+    private boolean ensureRemaining() throws IOException {
+        if (region.hasRemaining()) {
+            return true;
+        }
+        long nextRegionStart = regionStart + region.limit();
+        if (nextRegionStart >= size) {
+            hasReachedToEnd = true;
+            return false;
+        }
+        map(nextRegionStart);
+        return true;
+    }
+
+    @Override
+    public int read(ByteBuffer buffer) throws IOException {
+        if (!ensureRemaining()) {
+            return 0;
+        }
+        int count = Math.min(buffer.remaining(), region.remaining());
+        int regionLimit = region.limit();
+        region.limit(region.position() + count);
+        buffer.put(region);
+        region.limit(regionLimit);
+        return count;
+    }
+
+    /**
+     * <p>
+     * Reads the given number of bytes without copying them.
+     * </p>
+     * <p>
+     * The returned buffer is a read only view of the mapped region, it may contain less than the requested number
+     * of bytes if the end of the file or the end of the current region is reached.
+     * </p>
+     *
+     * @param nBytes maximum number of bytes to be read.
+     * @return a read only view of the bytes read, an empty buffer if the end of the file is reached.
+     * @throws IOException during I/O error.
+     */
+    public ByteBuffer readSlice(int nBytes) throws IOException {
+        if (!ensureRemaining()) {
+            return ByteBuffer.allocate(0);
+        }
+        int count = Math.min(nBytes, region.remaining());
+        ByteBuffer slice = region.slice().asReadOnlyBuffer();
+        slice.limit(count);
+        region.position(region.position() + count);
+        return slice;
+    }
+
+    /**
+     * Reads a fixed size long directly from the mapped region.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public LongResult readLong(Representation representation, ByteOrder order) throws IOException {
+        int nBytes = representation.getNumberOfBytes();
+        if (!ensureRemaining() || region.remaining() < nBytes) {
+            return null;
+        }
+        region.order(order);
+        long value;
+        switch (representation) {
+            case BIT_16:
+                value = region.getShort();
+                break;
+            case BIT_32:
+                value = region.getInt();
+                break;
+            case BIT_64:
+                value = region.getLong();
+                break;
+            default:
+                return null;
+        }
+        return new LongResult(value, nBytes);
+    }
+
+    /**
+     * Returns a stream of the content from the current read position of the channel. The stream reads through the
+     * mapped regions, so reads through the stream and through the channel continue from each other.
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getInputStream() throws IOException {
+        if (!channel.isOpen()) {
+            String message = "Channel is already closed.";
+            throw new IOException(message);
+        }
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                if (!ensureRemaining()) {
+                    return -1;
+                }
+                return region.get() & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                if (length == 0) {
+                    return 0;
+                }
+                if (!ensureRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(length, region.remaining());
+                region.get(bytes, offset, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return (int) Math.min(Integer.MAX_VALUE, size - regionStart - region.position());
+            }
+
+            @Override
+            public void close() throws IOException {
+                MappedFileIOChannel.this.close();
+            }
+        };
+    }
+
+    @Override
+    public boolean hasReachedEnd() {
+        return hasReachedToEnd;
+    }
+
+    @Override
+    public void transfer(int position, int count, WritableByteChannel dstChannel) {
+        try {
+            channel.transferTo(position, count, dstChannel);
+        } catch (IOException e) {
+            throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Channel getChannel() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remaining() {
+        return false;
+    }
+}
@@ -17,12 +17,14 @@
 
 package org.ballerinalang.stdlib.io.channels.base;
 
+import org.ballerinalang.stdlib.io.channels.base.data.LongResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
@@ -129,6 +131,24 @@ public abstract class Channel implements IOChannel {
         return readBytes;
     }
 
+    /**
+     * <p>
+     * Reads a fixed size long directly from the underlying source, without reading through an intermediate buffer.
+     * </p>
+     * <p>
+     * Channels which do not support direct reads will return null, in which case the caller should read the bytes
+     * through {@link #read(ByteBuffer)}.
+     * </p>
+     *
+     * @param representation size of the long in bits.
+     * @param order          byte order of the long.
+     * @return the long value, null if the long could not be read directly.
+     * @throws IOException errors occur during reading from channel.
+     */
+    public LongResult readLong(Representation representation, ByteOrder order) throws IOException {
+        return null;
+    }
+
     /**
      * <p>
      * Writes provided buffer content to the channel.
@@ -132,6 +132,12 @@ public class DataChannel implements IOChannel {
      * @throws IOException during i/o error.
      */
     private LongResult decodeLong(Representation representation) throws IOException {
+        if (!Representation.VARIABLE.equals(representation)) {
+            LongResult result = channel.readLong(representation, order);
+            if (null != result) {
+                return result;
+            }
+        }
         ByteBuffer buffer;
         int requiredNumberOfBytes;
         if (Representation.VARIABLE.equals(representation)) {
@@ -17,6 +17,7 @@
 
 package org.ballerinalang.stdlib.io.channels.base;
 
+import org.ballerinalang.stdlib.io.csv.CsvRecordReader;
 import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.slf4j.Logger;
@@ -92,6 +93,11 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
+    /**
+     * Tokenizes RFC 4180 records in a single pass, this will only be set for the {@link Format#CSV} format.
+     */
+    private CsvRecordReader csvRecordReader;
+
     private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
@@ -100,6 +106,9 @@ public class DelimitedRecordChannel implements IOChannel {
         this.channel = channel;
         this.format = format;
         this.persistentCharSequence = new StringBuilder();
+        if (Format.CSV == format) {
+            this.csvRecordReader = new CsvRecordReader(channel, format.getWriteFieldSeparator().charAt(0));
+        }
     }
 
     public DelimitedRecordChannel(CharacterChannel channel, String recordSeparator, String fieldSeparator) {
@@ -111,6 +120,9 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean hasReachedEnd() {
+        if (null != csvRecordReader) {
+            return csvRecordReader.hasReachedEnd();
+        }
         return !remaining && channel.hasReachedEnd();
     }
 
@@ -345,6 +357,9 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException during I/O errors
      */
     public String[] read() throws BallerinaIOException {
+        if (null != csvRecordReader) {
+            return readCsvRecord();
+        }
         final int emptyArrayIndex = 0;
         String[] fields = new String[emptyArrayIndex];
         if (remaining) {
@@ -377,6 +392,26 @@ public class DelimitedRecordChannel implements IOChannel {
         return fields;
     }
 
+    /**
+     * Reads the next record through the RFC 4180 tokenizer.
+     *
+     * @return the list of fields, an empty list if all the records have being processed.
+     * @throws BallerinaIOException during I/O errors
+     */
+    private String[] readCsvRecord() throws BallerinaIOException {
+        String[] fields = csvRecordReader.next();
+        if (fields.length > 0) {
+            numberOfRecordsReadThroughChannel++;
+            if (log.isTraceEnabled()) {
+                log.trace("The list of fields identified in record " + numberOfRecordsReadThroughChannel + "from " +
+                        "channel " + channel.hashCode() + "," + Arrays.toString(fields));
+            }
+        } else {
+            remaining = false;
+        }
+        return fields;
+    }
+
     /**
      * Enclose a given field with quotes.
      *
@@ -460,6 +495,9 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
+        if (null != csvRecordReader) {
+            return csvRecordReader.remaining();
+        }
         return persistentCharSequence.length() > 0;
     }
 
@@ -470,6 +508,10 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
+        if (null != csvRecordReader) {
+            remaining = csvRecordReader.hasNext();
+            return remaining;
+        }
         if (remaining && persistentCharSequence.length() == 0) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
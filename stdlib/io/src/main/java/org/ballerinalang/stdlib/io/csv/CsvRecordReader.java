@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Single pass tokenizer which reads RFC 4180 records from a {@link CharacterChannel}.
+ * </p>
+ * <p>
+ * Characters are scanned exactly once. Quoted fields may contain field separators, line breaks and escaped
+ * (doubled) quotes. Records are separated by either LF or CRLF.
+ * </p>
+ * <p>
+ * <b>Note : </b> this reader does not support concurrent operations.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class CsvRecordReader {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final String ESCAPED_QUOTE = "\"\"";
+    private static final String UNESCAPED_QUOTE = "\"";
+    private static final String[] EMPTY_RECORD = new String[0];
+
+    private final CharacterChannel channel;
+
+    private final char fieldSeparator;
+
+    /**
+     * Fields of the record which is currently being tokenized.
+     */
+    private final List<String> fields = new ArrayList<>();
+
+    /**
+     * Holds the characters read from the channel. A field which spans across reads is moved to the beginning of the
+     * buffer before the next read, the buffer grows only if a single field does not fit in it.
+     */
+    private char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+
+    private int position = 0;
+
+    private int limit = 0;
+
+    private boolean endOfInput = false;
+
+    /**
+     * Record which has been tokenized through {@link #hasNext()} but not yet been consumed.
+     */
+    private String[] nextRecord;
+
+    public CsvRecordReader(CharacterChannel channel, char fieldSeparator) {
+        this.channel = channel;
+        this.fieldSeparator = fieldSeparator;
+    }
+
+    /**
+     * Checks whether there's a record left to be read.
+     *
+     * @return true if there's a record left to be read.
+     * @throws BallerinaIOException during I/O error.
+     */
+    public boolean hasNext() throws BallerinaIOException {
+        if (nextRecord == null) {
+            nextRecord = tokenize();
+        }
+        return nextRecord != null;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields of the record, an empty array if there are no records left.
+     * @throws BallerinaIOException during I/O error.
+     */
+    public String[] next() throws BallerinaIOException {
+        if (!hasNext()) {
+            return EMPTY_RECORD;
+        }
+        String[] record = nextRecord;
+        nextRecord = null;
+        return record;
+    }
+
+    /**
+     * Specifies whether all the records have been consumed.
+     *
+     * @return true if there are no records or characters left to be processed.
+     */
+    public boolean hasReachedEnd() {
+        return nextRecord == null && position >= limit && (endOfInput || channel.hasReachedEnd());
+    }
+
+    /**
+     * Specifies whether there are characters or records read from the channel which are not yet consumed.
+     *
+     * @return true if there's content left in memory.
+     */
+    public boolean remaining() {
+        return nextRecord != null || position < limit;
+    }
+
+    private String[] tokenize() throws BallerinaIOException {
+        fields.clear();
+        int fieldStart = position;
+        // Index of the closing quote of the current field, -1 if the field is not quoted or not yet closed
+        int quoteEnd = -1;
+        boolean quoted = false;
+        boolean escaped = false;
+        // A quote was read inside a quoted field, it is either the closing quote or the first of an escaped pair
+        boolean pendingQuote = false;
+        boolean consumed = false;
+        while (true) {
+            if (position >= limit) {
+                if (endOfInput) {
+                    break;
+                }
+                if (fieldStart > 0) {
+                    compact(fieldStart);
+                    if (quoteEnd >= 0) {
+                        quoteEnd -= fieldStart;
+                    }
+                    fieldStart = 0;
+                }
+                if (!fill()) {
+                    break;
+                }
+                continue;
+            }
+            char character = buffer[position++];
+            consumed = true;
+            if (quoted) {
+                if (character == QUOTE) {
+                    quoted = false;
+                    pendingQuote = true;
+                    quoteEnd = position - 1;
+                }
+                continue;
+            }
+            if (pendingQuote) {
+                pendingQuote = false;
+                if (character == QUOTE) {
+                    quoted = true;
+                    escaped = true;
+                    quoteEnd = -1;
+                    continue;
+                }
+            }
+            if (character == QUOTE && position - 1 == fieldStart) {
+                quoted = true;
+            } else if (character == fieldSeparator) {
+                fields.add(toField(fieldStart, position - 1, quoteEnd, escaped));
+                fieldStart = position;
+                quoteEnd = -1;
+                escaped = false;
+            } else if (character == LINE_FEED) {
+                int fieldEnd = position - 1;
+                if (fieldEnd > fieldStart && buffer[fieldEnd - 1] == CARRIAGE_RETURN) {
+                    fieldEnd--;
+                }
+                fields.add(toField(fieldStart, fieldEnd, quoteEnd, escaped));
+                return fields.toArray(EMPTY_RECORD);
+            }
+        }
+        if (!consumed) {
+            return null;
+        }
+        fields.add(toField(fieldStart, limit, quoteEnd, escaped));
+        return fields.toArray(EMPTY_RECORD);
+    }
+
+    /**
+     * Creates the field value from the characters between the given indexes, removing enclosing quotes and
+     * unescaping doubled quotes. An unterminated quoted field is returned as it is.
+     */
+    private String toField(int start, int end, int quoteEnd, boolean escaped) {
+        if (quoteEnd > start && buffer[start] == QUOTE) {
+            String field = new String(buffer, start + 1, quoteEnd - start - 1);
+            if (escaped) {
+                field = field.replace(ESCAPED_QUOTE, UNESCAPED_QUOTE);
+            }
+            if (quoteEnd + 1 < end) {
+                // Lenient handling of characters between the closing quote and the separator
+                field = field + new String(buffer, quoteEnd + 1, end - quoteEnd - 1);
+            }
+            return field;
+        }
+        return new String(buffer, start, end - start);
+    }
+
+    /**
+     * Moves the characters starting from the given index to the beginning of the buffer.
+     */
+    private void compact(int from) {
+        int length = limit - from;
+        System.arraycopy(buffer, from, buffer, 0, length);
+        limit = length;
+        position -= from;
+    }
+
+    /**
+     * Reads the next set of characters from the channel into the buffer.
+     *
+     * @return false if the channel does not have any more characters.
+     */
+    private boolean fill() throws BallerinaIOException {
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        String characters = channel.read(buffer.length - limit);
+        int numberOfCharacters = characters.length();
+        if (numberOfCharacters == 0) {
+            endOfInput = true;
+            return false;
+        }
+        if (limit + numberOfCharacters > buffer.length) {
+            buffer = Arrays.copyOf(buffer, limit + numberOfCharacters);
+        }
+        characters.getChars(0, numberOfCharacters, buffer, limit);
+        limit += numberOfCharacters;
+        return true;
+    }
+}
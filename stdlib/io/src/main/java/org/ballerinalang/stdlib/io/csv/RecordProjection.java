@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Converts the fields of a delimited record directly into a value of a given record type.
+ * </p>
+ * <p>
+ * The record type, the field names and the target type of each field are resolved once when the projection is
+ * created, so that converting a record does not require looking up the record type, iterating its fields or creating
+ * intermediate maps.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class RecordProjection {
+
+    private static final int UNSUPPORTED_NILLABLE_TAG = -1;
+
+    private final Type recordType;
+    private final Supplier<BMap<BString, Object>> recordValueFactory;
+    private final BString[] fieldNames;
+    private final int[] fieldTypeTags;
+
+    public RecordProjection(Type recordType) {
+        this.recordType = recordType;
+        this.recordValueFactory = ValueCreator.createRecordValueFactory(recordType.getPackage(),
+                                                                        recordType.getName());
+        Map<String, Field> fields = ((StructureType) recordType).getFields();
+        this.fieldNames = new BString[fields.size()];
+        this.fieldTypeTags = new int[fields.size()];
+        int index = 0;
+        for (Field field : fields.values()) {
+            fieldNames[index] = StringUtils.fromString(field.getFieldName());
+            fieldTypeTags[index] = getTargetTypeTag(field.getFieldType());
+            index++;
+        }
+    }
+
+    /**
+     * Retrieves the record type which values are created for.
+     *
+     * @return the record type.
+     */
+    public Type getRecordType() {
+        return recordType;
+    }
+
+    /**
+     * Creates a record value from the given fields. Fields are assigned in the order they are defined in the
+     * record type, missing trailing fields are set to nil.
+     *
+     * @param fields fields of a delimited record.
+     * @return the record value, null if the record does not contain any fields.
+     */
+    public BMap<BString, Object> project(String[] fields) {
+        if (fields.length == 0) {
+            return null;
+        }
+        BMap<BString, Object> record = recordValueFactory.get();
+        for (int i = 0; i < fieldNames.length; i++) {
+            Object value = i < fields.length ? convert(fieldTypeTags[i], fields[i]) : null;
+            record.put(fieldNames[i], value);
+        }
+        return record;
+    }
+
+    private static int getTargetTypeTag(Type fieldType) {
+        int tag = fieldType.getTag();
+        if (tag != TypeTags.UNION_TAG) {
+            return tag;
+        }
+        List<Type> members = ((UnionType) fieldType).getMemberTypes();
+        if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+            return members.get(1).getTag();
+        } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+            return members.get(0).getTag();
+        }
+        return UNSUPPORTED_NILLABLE_TAG;
+    }
+
+    private static Object convert(int tag, String value) {
+        switch (tag) {
+            case TypeTags.INT_TAG:
+                return (value == null || value.isEmpty()) ? null : Long.parseLong(value);
+            case TypeTags.FLOAT_TAG:
+                return (value == null || value.isEmpty()) ? null : Double.parseDouble(value);
+            case TypeTags.STRING_TAG:
+                return StringUtils.fromString(value);
+            case TypeTags.BOOLEAN_TAG:
+                return (value == null || value.isEmpty()) ? null : Boolean.parseBoolean(value);
+            case UNSUPPORTED_NILLABLE_TAG:
+                throw IOUtils.createError("unsupported nillable field for value: " + value);
+            default:
+                throw IOUtils.createError("type casting support only for int, float, boolean and string. "
+                        + "Invalid value for the struct field: " + value);
+        }
+    }
+}
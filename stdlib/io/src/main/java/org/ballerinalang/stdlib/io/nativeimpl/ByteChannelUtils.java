@@ -27,6 +27,7 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -66,10 +67,12 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     public static Object read(BObject channel, long nBytes) {
         int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
-        ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
         if (byteChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
+        } else if (byteChannel instanceof MappedFileIOChannel) {
+            return readMapped((MappedFileIOChannel) byteChannel, arraySize);
         } else {
+            ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
             try {
                 byteChannel.read(content);
                 return ValueCreator.createArrayValue(getContentData(content));
@@ -81,6 +84,19 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
+    private static Object readMapped(MappedFileIOChannel byteChannel, int nBytes) {
+        try {
+            ByteBuffer slice = byteChannel.readSlice(nBytes);
+            byte[] content = new byte[slice.remaining()];
+            slice.get(content);
+            return ValueCreator.createArrayValue(content);
+        } catch (IOException e) {
+            String msg = "error occurred while reading bytes from the channel. " + e.getMessage();
+            log.error(msg, e);
+            return IOUtils.createError(msg);
+        }
+    }
+
     private static byte[] getContentData(final ByteBuffer contentBuffer) {
         int bufferSize = contentBuffer.limit();
         int readPosition = contentBuffer.position();
@@ -124,10 +140,14 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    public static Object openReadableFile(BString pathUrl) {
+    public static Object openReadableFile(BString pathUrl, boolean memoryMapped) {
         Object channel;
         try {
-            channel = createChannel(inFlow(pathUrl.getValue()));
+            if (memoryMapped) {
+                channel = createChannel(mappedInFlow(pathUrl.getValue()));
+            } else {
+                channel = createChannel(inFlow(pathUrl.getValue()));
+            }
         } catch (BallerinaIOException e) {
             channel = IOUtils.createError(e);
         } catch (BError e) {
@@ -163,6 +183,23 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return channel;
     }
 
+    private static Channel mappedInFlow(String pathUrl) throws BallerinaIOException {
+        Path path = Paths.get(pathUrl);
+        FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
+        try {
+            Channel channel = new MappedFileIOChannel(fileChannel);
+            channel.setReadable(true);
+            return channel;
+        } catch (IOException e) {
+            try {
+                fileChannel.close();
+            } catch (IOException closeError) {
+                log.warn("error occurred while closing the file channel of " + pathUrl, closeError);
+            }
+            throw new BallerinaIOException("unable to memory map the file " + pathUrl + ": " + e.getMessage(), e);
+        }
+    }
+
     private static Channel inFlow(String pathUrl, boolean accessMode) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel;
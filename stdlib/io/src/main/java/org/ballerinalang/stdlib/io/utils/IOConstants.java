@@ -48,6 +48,11 @@ public class IOConstants {
      */
     public static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the record projection which is cached in the CSV channel when streaming typed records.
+     */
+    public static final String RECORD_PROJECTION_NAME = "record_projection";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
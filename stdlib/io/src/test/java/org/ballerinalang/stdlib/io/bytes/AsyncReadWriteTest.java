@@ -19,6 +19,7 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
@@ -27,8 +28,10 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
 
 /**
  * Tests operations through the async io framework.
@@ -94,6 +97,24 @@ public class AsyncReadWriteTest {
         Assert.assertEquals(expected, content);
     }
 
+    @Test(description = "Read the rest of a memory mapped file as a stream after reading from the channel")
+    public void readMappedFileAsStream() throws IOException, URISyntaxException {
+        //Number of characters in this file would be 6
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/text/6charfile.txt");
+        Channel channel = new MappedFileIOChannel(fileChannel);
+        byte[] content = new byte[2];
+        IOUtils.readFull(channel, content);
+        Assert.assertEquals(content, new byte[]{49, 50});
+
+        InputStream inputStream = channel.getInputStream();
+        Assert.assertEquals(inputStream.available(), 4);
+        content = new byte[4];
+        Assert.assertEquals(inputStream.read(content), 4);
+        Assert.assertEquals(content, new byte[]{51, 52, 53, 54});
+        Assert.assertEquals(inputStream.read(), -1);
+        inputStream.close();
+    }
+
     @Test(description = "Write into a channel using async io framework")
     public void writeBytes() throws IOException {
         //Number of characters in this file would be 6
@@ -21,6 +21,7 @@ package org.ballerinalang.stdlib.io.data;
 
 import org.apache.commons.codec.CharEncoding;
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.DataChannel;
 import org.ballerinalang.stdlib.io.channels.base.Representation;
@@ -36,6 +37,9 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.ByteOrder;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 import static org.ballerinalang.stdlib.io.channels.base.Representation.BIT_16;
 import static org.ballerinalang.stdlib.io.channels.base.Representation.BIT_32;
@@ -70,6 +74,23 @@ public class DataInputOutputTest {
         Assert.assertEquals(readInt, value);
     }
 
+    @Test(description = "Test fixed long values read through a memory mapped channel",
+            dataProvider = "SignedLongValues")
+    public void testSignedFixedLongMapped(long value, Representation representation) throws IOException {
+        String filePath = currentDirectoryPath + "/sample.bin";
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteChannel byteChannel = TestUtil.openForReadingAndWriting(filePath);
+            Channel channel = new MockByteChannel(byteChannel);
+            DataChannel dataChannel = new DataChannel(channel, order);
+            dataChannel.writeLong(value, representation);
+            channel.close();
+            channel = new MappedFileIOChannel(FileChannel.open(Paths.get(filePath), StandardOpenOption.READ));
+            dataChannel = new DataChannel(channel, order);
+            Assert.assertEquals(dataChannel.readLong(representation).getValue(), value);
+            channel.close();
+        }
+    }
+
     @Test(description = "Test signed var long", dataProvider = "SignedVarLongValues")
     public void testSingedVarLong(long value, int byteCount) throws IOException {
         String filePath = currentDirectoryPath + "/sample.bin";
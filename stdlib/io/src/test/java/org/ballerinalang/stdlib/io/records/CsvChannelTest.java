@@ -435,6 +435,17 @@ public class CsvChannelTest {
         }
     }
 
+    @Test(description = "Test streaming RFC 4180 records with quoted fields into a record type")
+    public void getStreamWithQuotedFields() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sampleRfcQuoted.csv";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)) };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getStream", args);
+        BString names = (BString) result[0];
+        BFloat totalSalary = (BFloat) result[1];
+        Assert.assertEquals(names.stringValue(), "Doe, \"Jane\";Smith\r\nJohn;");
+        Assert.assertEquals(totalSalary.floatValue(), 3000.75d);
+    }
+
     private String getAbsoluteFilePath(String relativePath) throws URISyntaxException {
         URL fileResource = BCompileUtil.class.getClassLoader().getResource(relativePath);
         String pathValue = "";
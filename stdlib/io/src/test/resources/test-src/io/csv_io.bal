@@ -179,3 +179,22 @@ function getTableWithHeader(string filePath) returns @tainted string[] | error {
     }
     return keys;
 }
+
+function getStream(string filePath) returns @tainted [string, float] | error {
+    string names = "";
+    float total = 0.0;
+    var rCsvChannel = io:openReadableCsvFile(filePath, skipHeaders = 1);
+    if (rCsvChannel is io:ReadableCSVChannel) {
+        stream<record {}, io:Error> employees = rCsvChannel.getStream(Employee);
+        error? result = employees.forEach(function (record {} rec) {
+            Employee employee = <Employee> rec;
+            names = names + employee.name + ";";
+            total = total + employee.salary;
+        });
+        if (result is error) {
+            return result;
+        }
+        error? closeResult = rCsvChannel.close();
+    }
+    return [names, total];
+}
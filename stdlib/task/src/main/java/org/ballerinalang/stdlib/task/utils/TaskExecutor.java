@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.stdlib.task.utils;
 
+import io.ballerina.runtime.api.ObjectMethodCallSite;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.types.AttachedFunctionType;
@@ -35,13 +36,14 @@ public class TaskExecutor {
 
     private static final StrandMetadata TASK_METADATA =
             new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX, PACKAGE_NAME, PACKAGE_VERSION, RESOURCE_ON_TRIGGER);
+    private static final ObjectMethodCallSite ON_TRIGGER_CALL_SITE = new ObjectMethodCallSite(RESOURCE_ON_TRIGGER);
 
     public static void executeFunction(ServiceInformation serviceInformation) {
         AttachedFunctionType onTriggerFunction = serviceInformation.getOnTriggerFunction();
         Object[] onTriggerFunctionArgs = getParameterList(onTriggerFunction, serviceInformation);
 
         Runtime runtime = serviceInformation.getRuntime();
-        runtime.invokeMethodAsync(serviceInformation.getService(), RESOURCE_ON_TRIGGER, null, TASK_METADATA, null,
+        runtime.invokeMethodAsync(serviceInformation.getService(), ON_TRIGGER_CALL_SITE, null, TASK_METADATA, null,
                                   onTriggerFunctionArgs);
     }
 
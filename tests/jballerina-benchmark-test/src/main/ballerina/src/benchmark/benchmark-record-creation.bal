@@ -0,0 +1,48 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+type Employee record {
+    int id = 0;
+    string name = "";
+    float salary = 1000.0;
+};
+
+// Creates the records the way native code does, e.g. when reading the rows of a CSV file into a table.
+public function benchmarkRecordCreation(int warmupCount, int benchmarkCount) returns int {
+    createRecordValues(Employee, warmupCount);
+
+    int startTime = nanoTime();
+    createRecordValues(Employee, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkRecordCreationWithFactory(int warmupCount, int benchmarkCount) returns int {
+    createRecordValuesWithFactory(Employee, warmupCount);
+
+    int startTime = nanoTime();
+    createRecordValuesWithFactory(Employee, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function createRecordValues(typedesc<record {}> recordType, int count) = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
+
+function createRecordValuesWithFactory(typedesc<record {}> recordType, int count) = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.Utils"
+} external;
@@ -0,0 +1,35 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// The tuples created to destructure list constructors do not escape, hence are not allocated.
+public function benchmarkTupleSwap() {
+    int a = 1;
+    int b = 2;
+    [a, b] = [b, a];
+}
+
+public function benchmarkTupleDestructure() {
+    var [id, name, salary] = [1, "John", 1000.0];
+}
+
+// The tuple returned by the function escapes it, hence is allocated.
+public function benchmarkTupleDestructureWithReturn() {
+    var [id, name, salary] = getEmployee();
+}
+
+function getEmployee() returns [int, string, float] {
+    return [1, "John", 1000.0];
+}
@@ -26,6 +26,8 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkRecordCreation", benchmarkRecordCreation);
+    addSingleExecFunction("benchmarkRecordCreationWithFactory", benchmarkRecordCreationWithFactory);
 }
 
 public function registerMultiExecFunctions() {
@@ -53,4 +55,7 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkTupleSwap", benchmarkTupleSwap);
+    addMultiExecFunction("benchmarkTupleDestructure", benchmarkTupleDestructure);
+    addMultiExecFunction("benchmarkTupleDestructureWithReturn", benchmarkTupleDestructureWithReturn);
 }
@@ -18,15 +18,19 @@ package org.ballerinalang.benchmark.nativeimpl;
 
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 
 import java.io.PrintStream;
 import java.util.IllegalFormatConversionException;
+import java.util.function.Supplier;
 
 /**
  * This class holds utility functionality that is required for benchmarking.
@@ -68,6 +72,22 @@ public class Utils {
         out.println(content);
     }
 
+    public static void createRecordValues(BTypedesc recordType, long count) {
+        Type type = recordType.getDescribingType();
+        for (long i = 0; i < count; i++) {
+            ValueCreator.createRecordValue(type.getPackage(), type.getName());
+        }
+    }
+
+    public static void createRecordValuesWithFactory(BTypedesc recordType, long count) {
+        Type type = recordType.getDescribingType();
+        Supplier<BMap<BString, Object>> recordValueFactory =
+                ValueCreator.createRecordValueFactory(type.getPackage(), type.getName());
+        for (long i = 0; i < count; i++) {
+            recordValueFactory.get();
+        }
+    }
+
     public static BString sprintf(BString format, Object... args) {
         StringBuilder result = new StringBuilder();
         for (int i = 0, j, k = 0; i < format.length(); i++) {
@@ -0,0 +1,48 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/cache;
+import ballerina/crypto;
+import ballerina/file;
+import ballerina/http;
+import ballerina/io;
+import ballerina/mime;
+import ballerina/stringutils;
+import ballerina/system;
+import ballerina/time;
+
+// A service which imports many modules, used to measure the time taken from starting the program until the first
+// request is served. See `startup-executor`.
+
+cache:Cache startupCache = new;
+
+function init() {
+    io:println("Startup service initialized");
+}
+
+service startup on new http:Listener(9191) {
+
+    resource function ping(http:Caller caller, http:Request req) {
+        string startedAt = time:toString(time:currentTime());
+        checkpanic startupCache.put("startedAt", startedAt);
+        byte[] digest = crypto:hashSha256(startedAt.toBytes());
+        boolean inUserHome = stringutils:contains(file:getCurrentDirectory(), system:getUserHome());
+
+        http:Response res = new;
+        res.setTextPayload("pong " + digest.length().toString() + " " + inUserHome.toString(), mime:TEXT_PLAIN);
+        checkpanic caller->respond(res);
+    }
+}
@@ -20,20 +20,26 @@ package org.ballerinalang.nativeimpl.jvm.tests;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.ObjectMethodCallSite;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFuture;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.types.BUnionType;
@@ -62,6 +68,7 @@ import java.util.Date;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * This class contains a set of utility static methods required for interoperability testing.
@@ -75,6 +82,7 @@ public class StaticMethods {
     private static final BTupleType tupleType = new BTupleType(
             Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_FLOAT, PredefinedTypes.TYPE_STRING,
                           PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING));
+    private static final ObjectMethodCallSite AREA_CALL_SITE = new ObjectMethodCallSite("area");
 
     private StaticMethods() {
     }
@@ -301,6 +309,30 @@ public class StaticMethods {
         return apiDefinitions;
     }
 
+    public static double sumAreas(BArray shapes) {
+        Strand strand = Scheduler.getStrand();
+        double sum = 0;
+        for (int i = 0; i < shapes.size(); i++) {
+            sum += (double) AREA_CALL_SITE.call((BObject) shapes.getRefValue(i), strand);
+        }
+        return sum;
+    }
+
+    public static BMap<BString, Object> createRecordsWithFactory(BTypedesc recordType, long count) {
+        Type type = recordType.getDescribingType();
+        Supplier<BMap<BString, Object>> recordValueFactory =
+                ValueCreator.createRecordValueFactory(type.getPackage(), type.getName());
+        BMap<BString, Object> record = null;
+        for (long i = 0; i < count; i++) {
+            record = recordValueFactory.get();
+        }
+        return record;
+    }
+
+    public static BMap<BString, Object> createRecordOfType(BTypedesc recordType) {
+        return ValueCreator.createRecordValue((RecordType) recordType.getDescribingType());
+    }
+
     public static Object returnObjectOrError() {
         return ErrorCreator.createError(StringUtils.fromString("some reason"),
                                         new MapValueImpl<>(PredefinedTypes.TYPE_ERROR_DETAIL));
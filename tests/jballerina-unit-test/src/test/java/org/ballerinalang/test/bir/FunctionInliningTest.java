@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test the inlining of the calls to small functions into the hot functions of an execution profile.
+ *
+ * @since 2.0.0
+ */
+public class FunctionInliningTest {
+
+    private static final String SOURCE_FILE = "function_inlining.bal";
+    private static final String[] HOT_FUNCTIONS = {"sumOfScaled", "maxOfThree", "describeMax", "hotDivide"};
+
+    private Path profilePath;
+    private CompileResult inlinedResult;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        CompileResult result = BCompileUtil.compileAndGetBIR("test-src/bir/" + SOURCE_FILE);
+        BIRNode.BIRPackage pkg = ((BLangPackage) result.getAST()).symbol.bir;
+        List<String> lines = new ArrayList<>();
+        lines.add("# samples\tclass\tfunction");
+        for (String functionName : HOT_FUNCTIONS) {
+            BIRNode.BIRFunction function = getFunction(pkg, functionName);
+            String className = JvmCodeGenUtil.getModuleLevelClassName(
+                    pkg, JvmCodeGenUtil.cleanupPathSeparators(function.pos.lineRange().filePath()));
+            lines.add("100\t" + className.replace('/', '.') + "\t" + functionName);
+        }
+        profilePath = Files.createTempFile("function-inlining", ".prof");
+        Files.write(profilePath, lines, StandardCharsets.UTF_8);
+
+        String sourceRoot = Paths.get("src/test/resources/test-src/bir").toAbsolutePath().toString();
+        inlinedResult = BCompileUtil.compileOnJBallerina(createContext(), sourceRoot, SOURCE_FILE, false, true);
+    }
+
+    @Test(description = "Test that the calls in the hot functions are inlined")
+    public void testInlinedCalls() {
+        CompileResult result = BCompileUtil.compile("test-src/bir/" + SOURCE_FILE, createContext(),
+                                                     CompilerPhase.BIR_GEN);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        BIRNode.BIRPackage pkg = ((BLangPackage) result.getAST()).symbol.bir;
+        Assert.assertEquals(getCallCount(getFunction(pkg, "sumOfScaled")), 0);
+        Assert.assertEquals(getCallCount(getFunction(pkg, "maxOfThree")), 0);
+        Assert.assertEquals(getCallCount(getFunction(pkg, "describeMax")), 0);
+        // The callee can panic on a division by zero, so it is not inlined even though the caller is hot
+        Assert.assertEquals(getCallCount(getFunction(pkg, "hotDivide")), 1);
+        Assert.assertEquals(getCallCount(getFunction(pkg, "coldMax")), 1);
+    }
+
+    @Test(description = "Test the results of the hot functions with the calls inlined")
+    public void testInlinedResults() {
+        Assert.assertEquals(inlinedResult.getErrorCount(), 0);
+
+        BValue[] returns = BRunUtil.invoke(inlinedResult, "sumOfScaled", new BValue[]{new BInteger(10)});
+        Assert.assertEquals(returns[0].stringValue(), "67.5");
+
+        returns = BRunUtil.invoke(inlinedResult, "maxOfThree",
+                                  new BValue[]{new BInteger(-5), new BInteger(3), new BInteger(1)});
+        Assert.assertEquals(returns[0].stringValue(), "3");
+
+        returns = BRunUtil.invoke(inlinedResult, "describeMax", new BValue[]{new BInteger(4), new BInteger(2)});
+        Assert.assertEquals(returns[0].stringValue(), "int");
+
+        returns = BRunUtil.invoke(inlinedResult, "hotDivide", new BValue[]{new BInteger(7), new BInteger(2)});
+        Assert.assertEquals(returns[0].stringValue(), "3");
+
+        returns = BRunUtil.invoke(inlinedResult, "coldMax", new BValue[]{new BInteger(7), new BInteger(2)});
+        Assert.assertEquals(returns[0].stringValue(), "7");
+    }
+
+    @Test(description = "Test that a panic in a function called by a hot function keeps the frame of the function")
+    public void testPanicInCalledFunction() {
+        String message = null;
+        try {
+            BRunUtil.invoke(inlinedResult, "hotDivide", new BValue[]{new BInteger(1), new BInteger(0)});
+        } catch (BLangRuntimeException e) {
+            message = e.getMessage();
+        }
+        Assert.assertNotNull(message);
+        Assert.assertTrue(message.contains("function_inlining:divide(function_inlining.bal:36)"), message);
+        Assert.assertTrue(message.contains("function_inlining:hotDivide(function_inlining.bal:58)"), message);
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(profilePath);
+    }
+
+    private CompilerContext createContext() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PROFILE_FILE, profilePath.toString());
+        return context;
+    }
+
+    private static BIRNode.BIRFunction getFunction(BIRNode.BIRPackage pkg, String name) {
+        for (BIRNode.BIRFunction function : pkg.functions) {
+            if (function.name.value.equals(name)) {
+                return function;
+            }
+        }
+        throw new AssertionError("function '" + name + "' not found");
+    }
+
+    private static int getCallCount(BIRNode.BIRFunction function) {
+        int callCount = 0;
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator != null && terminator.getKind() == InstructionKind.CALL) {
+                callCount++;
+            }
+        }
+        return callCount;
+    }
+}
@@ -20,6 +20,7 @@ import org.ballerinalang.core.model.values.BFloat;
 import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BString;
 import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
 import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
@@ -160,6 +161,28 @@ public class AddOperationTest {
         Assert.assertEquals((returns[0]).stringValue(), "defabc");
     }
 
+    @Test(description = "Test int add expression which overflows", expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina}NumberOverflow \\{\"message\":\" int range " +
+                    "overflow\"\\}.*")
+    public void testIntAddOverflow() {
+        BValue[] args = { new BInteger(Long.MAX_VALUE), new BInteger(1)};
+        BRunUtil.invoke(result, "intAdd", args);
+    }
+
+    @Test(description = "Test int add expression of constants")
+    public void testIntAddConstants() {
+        BValue[] returns = BRunUtil.invoke(result, "intAddConstants");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 3610);
+    }
+
+    @Test(description = "Test int add expression of constants which overflows",
+            expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = "error: \\{ballerina}NumberOverflow \\{\"message\":\" int range " +
+                    "overflow\"\\}.*")
+    public void testIntAddConstantsOverflow() {
+        BRunUtil.invoke(result, "intAddConstantsOverflow");
+    }
+
     @Test(description = "Test binary statement with errors")
     public void testSubtractStmtNegativeCases() {
         Assert.assertEquals(resultNegative.getErrorCount(), 2);
@@ -150,4 +150,9 @@ public class GreaterLessThanOperationTest {
     public void testDecimalComparison() {
         BRunUtil.invoke(result, "testDecimalComparison");
     }
+
+    @Test(description = "Test byte greater than, less than expression")
+    public void testByteComparison() {
+        BRunUtil.invoke(result, "testByteComparison");
+    }
 }
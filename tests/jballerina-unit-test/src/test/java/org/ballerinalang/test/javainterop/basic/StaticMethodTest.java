@@ -130,6 +130,21 @@ public class StaticMethodTest {
                 "{\"resources\":[{\"path\":\"basePath\",\"method\":\"Method string\"}]}");
     }
 
+    @Test(description = "Test creating record values with the default values of the fields from a record factory")
+    public void testRecordValueFactory() {
+        BRunUtil.invoke(result, "testRecordValueFactory");
+    }
+
+    @Test(description = "Test creating record values of a record type with the factory cached in the type")
+    public void testCreateRecordValueOfType() {
+        BRunUtil.invoke(result, "testCreateRecordValueOfType");
+    }
+
+    @Test(description = "Test calling methods of objects of different classes through the same call site")
+    public void testObjectMethodCallSite() {
+        BRunUtil.invoke(result, "testObjectMethodCallSite");
+    }
+
     @Test(description = "Test tuple return with null values")
     public void testTupleReturn() {
         BValue[] returns = BRunUtil.invoke(result, "testErrorOrTupleReturn");
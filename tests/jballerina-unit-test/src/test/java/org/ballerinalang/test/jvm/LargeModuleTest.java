@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.jvm;
+
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BFileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test cases for modules with more types than the generated type and value creator methods can hold, which are split
+ * into multiple methods.
+ *
+ * @since 2.0.0
+ */
+public class LargeModuleTest {
+
+    private static final int RECORD_COUNT = 5000;
+    private static final int CLASS_COUNT = 300;
+
+    private Path sourceDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        sourceDir = Files.createTempDirectory("large-module");
+    }
+
+    @Test(description = "Test a module with more types than the type and value creator methods can hold")
+    public void testLargeModule() throws IOException {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            // Each record refers to the next one, so that all the records are created as a single group of types.
+            source.append("type Rec").append(i).append(" record {\n")
+                    .append("    int id = ").append(i).append(";\n")
+                    .append("    Rec").append((i + 1) % RECORD_COUNT).append("? next = ();\n")
+                    .append("};\n\n");
+        }
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            source.append("class Obj").append(i).append(" {\n")
+                    .append("    int id = ").append(i).append(";\n")
+                    .append("}\n\n");
+        }
+        source.append("public function getIds() returns int {\n")
+                .append("    Rec0 first = {};\n")
+                .append("    Rec").append(RECORD_COUNT - 1).append(" last = {next: {}};\n")
+                .append("    Obj").append(CLASS_COUNT - 1).append(" obj = new;\n")
+                .append("    Rec0? next = last.next;\n")
+                .append("    return first.id + last.id + obj.id + (next is Rec0 ? 1 : 0);\n")
+                .append("}\n");
+
+        Path sourceFile = sourceDir.resolve("large-module.bal");
+        Files.write(sourceFile, source.toString().getBytes(StandardCharsets.UTF_8));
+        CompileResult result = BCompileUtil.compile(sourceFile.toAbsolutePath().toString());
+        Assert.assertEquals(result.getErrorCount(), 0);
+
+        BValue[] returns = BRunUtil.invoke(result, "getIds", new BValue[]{});
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), RECORD_COUNT - 1 + CLASS_COUNT - 1 + 1);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        if (sourceDir != null) {
+            BFileUtil.delete(sourceDir);
+        }
+    }
+}
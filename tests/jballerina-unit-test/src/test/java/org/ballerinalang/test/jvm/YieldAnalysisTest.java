@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.jvm;
+
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the functions which are generated without frames, as they cannot yield.
+ *
+ * @since 2.0.0
+ */
+public class YieldAnalysisTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/jvm/yield-analysis.bal");
+    }
+
+    @Test
+    public void testRecursion() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testRecursion");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 6765);
+    }
+
+    @Test
+    public void testMutualRecursion() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testMutualRecursion");
+        Assert.assertTrue(((BBoolean) result[0]).booleanValue());
+    }
+
+    @Test
+    public void testYieldingAndNonYieldingFunctions() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testYieldingAndNonYieldingFunctions");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 610 + 987 + 55 + 144 * 2);
+    }
+
+    @Test
+    public void testFrameClasses() {
+        // Frames are generated only for the functions which can yield.
+        assertFrameClass("fib", false);
+        assertFrameClass("isEven", false);
+        assertFrameClass("isOdd", false);
+        assertFrameClass("increment", true);
+        assertFrameClass("incrementTwice", true);
+    }
+
+    private void assertFrameClass(String functionName, boolean exists) {
+        try {
+            compileResult.getClassLoader().loadClass(functionName + "Frame");
+            Assert.assertTrue(exists, "Unexpected frame class for function: " + functionName);
+        } catch (ClassNotFoundException e) {
+            Assert.assertFalse(exists, "Missing frame class for function: " + functionName);
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.ballerinalang.test.types.tuples;
 
+import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.test.util.BAssertUtil;
 import org.ballerinalang.test.util.BCompileUtil;
@@ -88,6 +89,24 @@ public class TupleDestructureTest {
         Assert.assertEquals(returns[2].stringValue(), "[25, 12.5]");
     }
 
+    @Test(description = "Test tuple destructure of list constructors")
+    public void testTupleDestructureOfListConstructors() {
+        BValue[] returns = BRunUtil.invoke(result, "tupleDestructureSwapTest", new BValue[]{});
+        Assert.assertEquals(returns.length, 2);
+        Assert.assertEquals(returns[0].stringValue(), "2");
+        Assert.assertEquals(returns[1].stringValue(), "1");
+
+        returns = BRunUtil.invoke(result, "tupleDestructureInLoopTest", new BValue[]{new BInteger(10)});
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].stringValue(), "55");
+
+        returns = BRunUtil.invoke(result, "tupleDestructureWithMemberConversionTest", new BValue[]{});
+        Assert.assertEquals(returns.length, 3);
+        Assert.assertEquals(returns[0].stringValue(), "5");
+        Assert.assertEquals(returns[1].stringValue(), "b");
+        Assert.assertEquals(returns[2].stringValue(), "2.5");
+    }
+
     @Test(description = "Test positive tuple destructure scenarios")
     public void testNegativeTupleDestructure() {
         int i = 0;
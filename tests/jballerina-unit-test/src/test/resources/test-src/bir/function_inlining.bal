@@ -0,0 +1,63 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function scale(float x) returns float {
+    return x * 1.5;
+}
+
+function max(int a, int b) returns int {
+    if (a > b) {
+        return a;
+    }
+    return b;
+}
+
+function describe(any value) returns string {
+    if (value is int) {
+        return "int";
+    }
+    return "other";
+}
+
+function divide(int a, int b) returns int {
+    return a / b;
+}
+
+function sumOfScaled(int n) returns float {
+    float sum = 0.0;
+    int i = 0;
+    while (i < n) {
+        sum = sum + scale(<float> i);
+        i = i + 1;
+    }
+    return sum;
+}
+
+function maxOfThree(int a, int b, int c) returns int {
+    return max(max(a, b), c);
+}
+
+function describeMax(int a, int b) returns string {
+    return describe(max(a, b));
+}
+
+function hotDivide(int a, int b) returns int {
+    return divide(a, b);
+}
+
+function coldMax(int a, int b) returns int {
+    return max(a, b);
+}
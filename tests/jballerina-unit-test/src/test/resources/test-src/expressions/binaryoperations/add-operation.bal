@@ -39,3 +39,13 @@ function stringXmlAdd() returns (xml) {
     xml b = xml `abc`;
     return a + b;
 }
+
+const int SECONDS_PER_MINUTE = 60;
+
+function intAddConstants() returns int {
+    return SECONDS_PER_MINUTE * SECONDS_PER_MINUTE + 10;
+}
+
+function intAddConstantsOverflow() returns int {
+    return 9223372036854775807 + 1;
+}
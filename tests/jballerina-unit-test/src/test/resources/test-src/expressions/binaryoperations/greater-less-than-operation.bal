@@ -80,3 +80,24 @@ function testDecimalComparison() {
     test:assertTrue(lowValue >= lowValue);
     test:assertTrue(lowValue <= lowValue);
 }
+
+function testByteComparison() {
+    byte lowValue = 3;
+    byte highValue = 200;
+
+    test:assertTrue(lowValue < highValue);
+    test:assertTrue(lowValue <= highValue);
+
+    test:assertTrue(highValue > lowValue);
+    test:assertTrue(highValue >= lowValue);
+
+    test:assertFalse(highValue < lowValue);
+    test:assertFalse(highValue <= lowValue);
+    test:assertFalse(lowValue > highValue);
+    test:assertFalse(lowValue >= highValue);
+
+    test:assertFalse(lowValue > lowValue);
+    test:assertFalse(lowValue < lowValue);
+    test:assertTrue(lowValue >= lowValue);
+    test:assertTrue(lowValue <= lowValue);
+}
@@ -37,6 +37,52 @@ public type ApiDefinition record {|
 
 public type MyType byte[]|string|int|float;
 
+type Employee record {
+    int id = nextId();
+    string name = "anonymous";
+};
+
+type Manager record {
+    *Employee;
+    int reports = 3;
+};
+
+// Every test which creates records changes this, so tests assert ids relative to its value at their start
+int lastId = 0;
+
+class Circle {
+    float radius;
+
+    function init(float radius) {
+        self.radius = radius;
+    }
+
+    function area() returns float {
+        return 3.0 * self.radius * self.radius;
+    }
+}
+
+class Square {
+    float side;
+
+    function init(float side) {
+        self.side = side;
+    }
+
+    function area() returns float {
+        return self.side * self.side;
+    }
+}
+
+type Shape object {
+    function area() returns float;
+};
+
+function nextId() returns int {
+    lastId += 1;
+    return lastId;
+}
+
 function testAcceptNothingAndReturnNothing() {
     acceptNothingAndReturnNothing();
 }
@@ -109,6 +155,34 @@ public function testUnionReturn() returns string {
     return value:toString(getMapOrError("swagger", apiDef));
 }
 
+public function testRecordValueFactory() {
+    int startId = lastId;
+    Employee employee = <Employee> createRecordsWithFactory(Employee, 3);
+    test:assertEquals(employee.id, startId + 3);
+    test:assertEquals(employee.name, "anonymous");
+
+    Manager manager = <Manager> createRecordsWithFactory(Manager, 2);
+    test:assertEquals(manager.id, startId + 5);
+    test:assertEquals(manager.name, "anonymous");
+    test:assertEquals(manager.reports, 3);
+}
+
+public function testCreateRecordValueOfType() {
+    int startId = lastId;
+    Manager manager = <Manager> createRecordOfType(Manager);
+    test:assertEquals(manager.id, startId + 1);
+    test:assertEquals(manager.name, "anonymous");
+    test:assertEquals(manager.reports, 3);
+
+    Manager nextManager = <Manager> createRecordOfType(Manager);
+    test:assertEquals(nextManager.id, startId + 2);
+}
+
+public function testObjectMethodCallSite() {
+    Shape[] shapes = [new Circle(1.0), new Square(2.0), new Circle(2.0), new Square(1.0)];
+    test:assertEquals(sumAreas(shapes), 20.0);
+}
+
 public function testBalEnvFastAsyncVoidSig() {
     int added = addTwoNumbersFastAsyncVoidSig(1, 2);
     test:assertEquals(3, added);
@@ -226,6 +300,18 @@ function getMapOrError(string swaggerFilePath, ApiDefinition apiDef) returns Api
     'class:"org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
 } external;
 
+function createRecordsWithFactory(typedesc<record {}> recordType, int count) returns record {} = @java:Method {
+    'class:"org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
+} external;
+
+function createRecordOfType(typedesc<record {}> recordType) returns record {} = @java:Method {
+    'class:"org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
+} external;
+
+function sumAreas(Shape[] shapes) returns float = @java:Method {
+    'class:"org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
+} external;
+
 public function getObjectOrError() returns Person|error = @java:Method {
     name: "returnObjectOrError",
     'class: "org/ballerinalang/nativeimpl/jvm/tests/StaticMethods"
@@ -0,0 +1,72 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+int counter = 0;
+
+function fib(int n) returns int {
+    if (n < 2) {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function isEven(int n) returns boolean {
+    if (n == 0) {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if (n == 0) {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function increment(int n) {
+    lock {
+        counter = counter + n;
+    }
+}
+
+function incrementTwice(int n) {
+    increment(n);
+    increment(n);
+}
+
+function testRecursion() returns int {
+    return fib(20);
+}
+
+function testMutualRecursion() returns boolean {
+    return isEven(10) && isOdd(7) && !isOdd(10);
+}
+
+function testYieldingAndNonYieldingFunctions() returns int {
+    worker w1 returns int {
+        increment(fib(10));
+        return fib(15);
+    }
+    worker w2 returns int {
+        incrementTwice(fib(12));
+        return fib(16);
+    }
+    int a = wait w1;
+    int b = wait w2;
+    return a + b + counter;
+}
@@ -109,3 +109,25 @@ function tupleDestructureTest9() returns [boolean, string, [int, float]] {
 
     return [a, b, c];
 }
+
+function tupleDestructureSwapTest() returns [int, int] {
+    int a = 1;
+    int b = 2;
+    [a, b] = [b, a];
+    return [a, b];
+}
+
+function tupleDestructureInLoopTest(int n) returns int {
+    int a = 0;
+    int b = 1;
+    foreach int i in 0 ..< n {
+        [a, b] = [b, a + b];
+    }
+    return a;
+}
+
+function tupleDestructureWithMemberConversionTest() returns [int|string, string, float] {
+    [int|string, string, float] [a, b, c] = [5, "b", 2.5];
+    var [d, e] = [a, c];
+    return [d, b, e];
+}
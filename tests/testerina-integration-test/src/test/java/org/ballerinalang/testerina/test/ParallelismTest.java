@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.testerina.test;
+
+import org.ballerinalang.test.context.BMainInstance;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.ballerinalang.test.context.LogLeecher;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+import static org.ballerinalang.test.context.LogLeecher.LeecherType.ERROR;
+
+/**
+ * Test class containing tests related to running the tests in parallel.
+ *
+ * @since 2.0.0
+ */
+public class ParallelismTest extends BaseTestCase {
+
+    private BMainInstance balClient;
+    private String projectPath;
+
+    @BeforeClass
+    public void setup() throws BallerinaTestException {
+        balClient = new BMainInstance(balServer);
+        projectPath = singleFilesProjectPath.resolve("parallelism").toString();
+    }
+
+    @Test
+    public void testDependsOnOrder() throws BallerinaTestException {
+        runParallelTests("depends-on-parallel-test.bal", "5 passing");
+    }
+
+    @Test
+    public void testBeforeAfterFunctions() throws BallerinaTestException {
+        runParallelTests("before-after-parallel-test.bal", "3 passing");
+    }
+
+    @Test
+    public void testMissingDependsOnFunction() throws BallerinaTestException {
+        String errMsg = "error: Cannot find the specified dependsOn function : non-existing";
+        LogLeecher clientLeecher = new LogLeecher(errMsg, ERROR);
+        balClient.runMain("test", new String[]{"--parallelism", "4", "depends-on-negative.bal"}, null,
+                new String[]{}, new LogLeecher[]{clientLeecher},
+                singleFilesProjectPath.resolve("missing-functions").toString());
+        clientLeecher.waitForText(20000);
+    }
+
+    @Test
+    public void testInvalidParallelism() throws BallerinaTestException {
+        String errMsg = "--parallelism should be greater than 0";
+        LogLeecher zeroLeecher = new LogLeecher(errMsg, ERROR);
+        balClient.runMain("test", new String[]{"--parallelism", "0", "depends-on-parallel-test.bal"}, null,
+                new String[]{}, new LogLeecher[]{zeroLeecher}, projectPath);
+        zeroLeecher.waitForText(20000);
+
+        LogLeecher negativeLeecher = new LogLeecher(errMsg, ERROR);
+        balClient.runMain("test", new String[]{"--parallelism", "-1", "depends-on-parallel-test.bal"}, null,
+                new String[]{}, new LogLeecher[]{negativeLeecher}, projectPath);
+        negativeLeecher.waitForText(20000);
+    }
+
+    private void runParallelTests(String testFile, String passingMsg) throws BallerinaTestException {
+        String[] args = new String[]{"--parallelism", "4", testFile};
+        String errorOutput = balClient.runMainAndReadStdOut("test", args, new HashMap<>(), projectPath, true);
+        if (errorOutput.contains("[fail]")) {
+            throw new BallerinaTestException("Test failed due to a failure in a test or a test hook function:\n"
+                    + errorOutput);
+        }
+
+        LogLeecher passingLeecher = new LogLeecher(passingMsg);
+        LogLeecher failingLeecher = new LogLeecher("0 failing");
+        balClient.runMain("test", args, null, new String[]{}, new LogLeecher[]{passingLeecher, failingLeecher},
+                projectPath);
+        passingLeecher.waitForText(20000);
+        failingLeecher.waitForText(20000);
+    }
+}
@@ -0,0 +1,130 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Test file to test the execution of the before and after functions when the tests are run in parallel. The expected
+# behavior is that, the before and after functions of a test are executed before and after that test, each
+# @BeforeGroups function is executed once before the tests of the group, and each @AfterGroups function is executed
+# once after all the tests of the group and their after functions are completed.
+
+import ballerina/test;
+
+map<string> states = {};
+int beforeEachCount = 0;
+int afterEachCount = 0;
+int beforeGroupsCount = 0;
+int afterGroupsCount = 0;
+
+function setState(string testName, string expectedState, string state) {
+    lock {
+        test:assertEquals(states[testName] ?: "", expectedState);
+        states[testName] = state;
+    }
+}
+
+@test:BeforeGroups { value : ["g1"] }
+function beforeGroupsFunc() {
+    lock {
+        test:assertEquals(states.length(), 0);
+        beforeGroupsCount += 1;
+    }
+}
+
+@test:AfterGroups { value : ["g1"] }
+function afterGroupsFunc() {
+    lock {
+        test:assertEquals(states["testFunction1"], "after");
+        test:assertEquals(states["testFunction2"], "after");
+        test:assertEquals(states["testFunction3"], "after");
+        test:assertEquals(afterEachCount, 3);
+        afterGroupsCount += 1;
+    }
+}
+
+@test:BeforeEach
+function beforeEachFunc() {
+    lock {
+        beforeEachCount += 1;
+    }
+}
+
+@test:AfterEach
+function afterEachFunc() {
+    lock {
+        afterEachCount += 1;
+    }
+}
+
+function beforeFunc1() {
+    setState("testFunction1", "", "before");
+}
+
+function afterFunc1() {
+    setState("testFunction1", "test", "after");
+}
+
+function beforeFunc2() {
+    setState("testFunction2", "", "before");
+}
+
+function afterFunc2() {
+    setState("testFunction2", "test", "after");
+}
+
+function beforeFunc3() {
+    setState("testFunction3", "", "before");
+}
+
+function afterFunc3() {
+    setState("testFunction3", "test", "after");
+}
+
+@test:Config {
+    groups: ["g1"],
+    before: "beforeFunc1",
+    after: "afterFunc1"
+}
+function testFunction1() {
+    setState("testFunction1", "before", "test");
+}
+
+@test:Config {
+    groups: ["g1"],
+    before: "beforeFunc2",
+    after: "afterFunc2"
+}
+function testFunction2() {
+    setState("testFunction2", "before", "test");
+}
+
+@test:Config {
+    groups: ["g1"],
+    before: "beforeFunc3",
+    after: "afterFunc3"
+}
+function testFunction3() {
+    setState("testFunction3", "before", "test");
+}
+
+# After Suite Function
+@test:AfterSuite {}
+function afterSuiteFunc() {
+    lock {
+        test:assertEquals(beforeEachCount, 3);
+        test:assertEquals(afterEachCount, 3);
+        test:assertEquals(beforeGroupsCount, 1);
+        test:assertEquals(afterGroupsCount, 1);
+    }
+}
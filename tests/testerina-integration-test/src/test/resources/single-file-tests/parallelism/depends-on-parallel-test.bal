@@ -0,0 +1,70 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Test file to test the execution order of the tests when they are run in parallel. The expected behavior is that,
+# a test is executed only after the tests it depends on are completed.
+
+import ballerina/test;
+
+string chain = "";
+int independentCount = 0;
+
+@test:Config {}
+function testFirst() {
+    lock {
+        test:assertEquals(chain, "");
+        chain += "1";
+    }
+}
+
+@test:Config { dependsOn: ["testFirst"] }
+function testSecond() {
+    lock {
+        test:assertEquals(chain, "1");
+        chain += "2";
+    }
+}
+
+@test:Config { dependsOn: ["testFirst", "testSecond"] }
+function testThird() {
+    lock {
+        test:assertEquals(chain, "12");
+        chain += "3";
+    }
+}
+
+@test:Config {}
+function testIndependent1() {
+    lock {
+        independentCount += 1;
+    }
+}
+
+@test:Config {}
+function testIndependent2() {
+    lock {
+        independentCount += 1;
+    }
+}
+
+# After Suite Function
+@test:AfterSuite {}
+function afterSuiteFunc() {
+    lock {
+        test:assertEquals(chain, "123");
+        test:assertEquals(independentCount, 2);
+    }
+}